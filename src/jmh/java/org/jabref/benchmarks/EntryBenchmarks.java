@@ -0,0 +1,94 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.bibtex.comparator.BibDatabaseDiff;
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.database.DuplicateCandidateFinder;
+import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.integrity.IntegrityCheck;
+import org.jabref.logic.integrity.IntegrityMessage;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class EntryBenchmarks {
+
+    private JournalAbbreviationRepository abbreviationRepository;
+
+    @Setup(Level.Trial)
+    public void init() {
+        Globals.prefs = JabRefPreferences.getInstance();
+        abbreviationRepository = JournalAbbreviationLoader.loadBuiltInRepository();
+    }
+
+    /**
+     * Checks the candidate pairs found by blocking, as done by the duplicate search
+     */
+    @Benchmark
+    public int duplicateCheck(LibraryState library) {
+        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        List<List<BibEntry>> candidatePairs = new DuplicateCandidateFinder().findCandidatePairs(library.database.getEntries());
+        int duplicates = 0;
+        for (List<BibEntry> pair : candidatePairs) {
+            if (duplicateCheck.isDuplicate(pair.get(0), pair.get(1), BibDatabaseMode.BIBTEX)) {
+                duplicates++;
+            }
+        }
+        return duplicates;
+    }
+
+    @Benchmark
+    public void generateCitationKeys(LibraryState library, Blackhole blackhole) {
+        CitationKeyGenerator generator = new CitationKeyGenerator(library.databaseContext, Globals.prefs.getCitationKeyPatternPreferences());
+        for (BibEntry entry : library.database.getEntries()) {
+            blackhole.consume(generator.generateKey(entry));
+        }
+    }
+
+    /**
+     * Parses the author field of every entry. Note that {@link AuthorList#parse(String)} caches its results, thus this
+     * mainly measures the cache after the first iteration.
+     */
+    @Benchmark
+    public void parseAuthors(LibraryState library, Blackhole blackhole) {
+        for (BibEntry entry : library.database.getEntries()) {
+            entry.getField(StandardField.AUTHOR).ifPresent(authors -> blackhole.consume(AuthorList.parse(authors)));
+        }
+    }
+
+    @Benchmark
+    public List<IntegrityMessage> checkIntegrity(LibraryState library) {
+        IntegrityCheck integrityCheck = new IntegrityCheck(library.databaseContext,
+                Globals.prefs.getFilePreferences(),
+                Globals.prefs.getCitationKeyPatternPreferences(),
+                abbreviationRepository,
+                false);
+        return integrityCheck.checkDatabase(library.database);
+    }
+
+    @Benchmark
+    public BibDatabaseDiff compareDatabases(LibraryState library) {
+        return BibDatabaseDiff.compare(library.databaseContext, library.changedDatabaseContext);
+    }
+}
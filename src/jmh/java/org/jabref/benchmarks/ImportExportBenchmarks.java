@@ -0,0 +1,43 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImportExportBenchmarks {
+
+    @Benchmark
+    public ParserResult parse(LibraryState library) throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        return parser.parse(new StringReader(library.bibtexString));
+    }
+
+    @Benchmark
+    public String write(LibraryState library) throws IOException {
+        return LibraryState.write(library.databaseContext, mock(SavePreferences.class));
+    }
+
+    /**
+     * Saves the unchanged library again, which reuses the serializations of the previous save
+     */
+    @Benchmark
+    public String writeIncrementally(LibraryState library) throws IOException {
+        SavePreferences savePreferences = Globals.prefs.getSavePreferences().withSaveIncrementally(true);
+        return LibraryState.write(library.databaseContext, savePreferences);
+    }
+}
@@ -0,0 +1,64 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.bst.VM;
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.layout.Layout;
+import org.jabref.logic.layout.LayoutHelper;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.antlr.runtime.RecognitionException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LayoutBenchmarks {
+
+    private static final String LAYOUT = "<p>\\begin{author}\\format[Authors(LastFirst,Initials,Oxford),HTMLChars]{\\author}\\end{author}: "
+            + "<b>\\format[HTMLChars]{\\title}</b>. "
+            + "\\begin{journal}<i>\\format[HTMLChars]{\\journal}</i>\\end{journal}\\begin{booktitle}In: \\format[HTMLChars]{\\booktitle}\\end{booktitle}, "
+            + "\\year\\begin{doi}, \\format[DOICheck]{\\doi}\\end{doi}</p>";
+
+    private Layout layout;
+    private String bstStyle;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        Globals.prefs = JabRefPreferences.getInstance();
+        layout = new LayoutHelper(new StringReader(LAYOUT),
+                Globals.prefs.getLayoutFormatterPreferences(JournalAbbreviationLoader.loadBuiltInRepository()))
+                .getLayoutFromText();
+        try (InputStream style = LayoutBenchmarks.class.getResourceAsStream("/bst/IEEEtran.bst")) {
+            bstStyle = new String(style.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public String doLayout(LibraryState library) {
+        StringBuilder result = new StringBuilder();
+        for (BibEntry entry : library.database.getEntries()) {
+            result.append(layout.doLayout(entry, library.database));
+        }
+        return result.toString();
+    }
+
+    @Benchmark
+    public String runBstStyle(LibraryState library) throws RecognitionException {
+        return new VM(bstStyle).run(library.database.getEntries());
+    }
+}
@@ -0,0 +1,78 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * A synthetic library shared by all benchmarks. Each benchmark is run for every library size.
+ * <p>
+ * The sizes can be restricted by <code>benchmarkParameters</code> in the <code>jmh</code> block of the build or by
+ * passing <code>-p size=1000</code> to the benchmark jar.
+ */
+@State(Scope.Benchmark)
+public class LibraryState {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    public BibDatabase database;
+    public BibDatabaseContext databaseContext;
+
+    /**
+     * The library after editing every 100th entry and removing every 250th entry, as it would be seen by the change
+     * detection after an external modification
+     */
+    public BibDatabaseContext changedDatabaseContext;
+
+    /**
+     * The serialization of the library in BibTeX format
+     */
+    public String bibtexString;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        Globals.prefs = JabRefPreferences.getInstance();
+
+        database = SyntheticLibrary.create(size);
+        databaseContext = new BibDatabaseContext(database, new MetaData());
+        bibtexString = write(databaseContext, mock(SavePreferences.class));
+
+        BibDatabase changedDatabase = SyntheticLibrary.create(size);
+        List<BibEntry> entries = List.copyOf(changedDatabase.getEntries());
+        for (int i = 0; i < entries.size(); i++) {
+            if ((i % 250) == 0) {
+                changedDatabase.removeEntry(entries.get(i));
+            } else if ((i % 100) == 0) {
+                entries.get(i).setField(StandardField.NOTE, "changed externally");
+            }
+        }
+        changedDatabaseContext = new BibDatabaseContext(changedDatabase, new MetaData());
+    }
+
+    static String write(BibDatabaseContext databaseContext, SavePreferences savePreferences) throws IOException {
+        StringWriter outputWriter = new StringWriter();
+        BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(outputWriter, savePreferences, new BibEntryTypesManager());
+        databaseWriter.savePartOfDatabase(databaseContext, databaseContext.getDatabase().getEntries());
+        return outputWriter.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.jabref.gui.Globals;
+import org.jabref.logic.exporter.SavePreferences;
+import org.jabref.logic.importer.fileformat.BibtexParser;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.preferences.JabRefPreferences;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Measures the heap retained per entry of a library, i.e., the memory which stays in use after a library has been
+ * opened. JMH measures time and allocation (<code>-prof gc</code>), but not retained memory, thus this is a plain
+ * program: it parses a synthetic library and compares the used heap after garbage collection before and after.
+ * <p>
+ * Run with <code>java -cp &lt;jmh jar&gt; org.jabref.benchmarks.MemoryBenchmarks [size]</code>. To compare two
+ * versions, run it on both with the same size and heap settings.
+ */
+public class MemoryBenchmarks {
+
+    private static final int DEFAULT_SIZE = 100_000;
+
+    public static void main(String[] args) throws IOException {
+        int size = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_SIZE;
+        Globals.prefs = JabRefPreferences.getInstance();
+
+        BibDatabase library = SyntheticLibrary.create(size);
+        String bibtexString = LibraryState.write(new BibDatabaseContext(library, new MetaData()), mock(SavePreferences.class));
+        library = null;
+
+        // Warm up the parser (and its caches) on a small part of the library
+        parse(bibtexString.substring(0, bibtexString.length() / 100));
+
+        long usedBefore = getUsedHeap();
+        List<BibEntry> entries = parse(bibtexString);
+        long usedAfter = getUsedHeap();
+
+        System.out.printf("Entries: %d%n", entries.size());
+        System.out.printf("Retained heap: %d MB%n", (usedAfter - usedBefore) / (1024 * 1024));
+        System.out.printf("Bytes per entry: %d%n", (usedAfter - usedBefore) / entries.size());
+    }
+
+    private static List<BibEntry> parse(String bibtexString) throws IOException {
+        BibtexParser parser = new BibtexParser(Globals.prefs.getImportFormatPreferences(), new DummyFileUpdateMonitor());
+        return parser.parse(new StringReader(bibtexString)).getDatabase().getEntries();
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // A single request for a collection is not guaranteed to free everything
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
@@ -0,0 +1,46 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.preferences.JabRefPreferences;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks of the preference getters on hot paths. The preference objects are kept until a preference changes, thus
+ * {@link #getImportFormatPreferencesAfterChange()} shows the cost of building them from the preference store.
+ */
+@State(Scope.Benchmark)
+public class PreferencesBenchmarks {
+
+    private JabRefPreferences preferences;
+    private boolean showAdvancedHints;
+
+    @Setup
+    public void init() {
+        preferences = JabRefPreferences.getInstance();
+        showAdvancedHints = preferences.getBoolean(JabRefPreferences.SHOW_ADVANCED_HINTS);
+    }
+
+    @Benchmark
+    public ImportFormatPreferences getImportFormatPreferences() {
+        return preferences.getImportFormatPreferences();
+    }
+
+    @Benchmark
+    public ImportFormatPreferences getImportFormatPreferencesAfterChange() {
+        // Storing the unchanged value is enough to drop the kept preference objects
+        preferences.putBoolean(JabRefPreferences.SHOW_ADVANCED_HINTS, showAdvancedHints);
+        return preferences.getImportFormatPreferences();
+    }
+
+    public static void main(String[] args) throws IOException, RunnerException {
+        Main.main(args);
+    }
+}
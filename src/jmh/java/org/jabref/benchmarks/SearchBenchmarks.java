@@ -0,0 +1,122 @@
+package org.jabref.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.search.DatabaseSearcher;
+import org.jabref.logic.search.ProgressiveSearch;
+import org.jabref.logic.search.SearchExecutor;
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.database.BibDatabaseModeDetection;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.AllEntriesGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupMembershipIndex;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.KeywordGroup;
+import org.jabref.model.groups.WordKeywordGroup;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SearchBenchmarks {
+
+    private static final int NUMBER_OF_GROUPS = 50;
+
+    private final GroupTreeNode groups = createGroups();
+
+    private static GroupTreeNode createGroups() {
+        GroupTreeNode root = new GroupTreeNode(new AllEntriesGroup("All entries"));
+        List<String> keywords = SyntheticLibrary.getKeywords();
+        for (int i = 0; i < NUMBER_OF_GROUPS; i++) {
+            String keyword = keywords.get(i);
+            GroupTreeNode node = root.addSubgroup(getKeywordGroup(keyword, GroupHierarchyType.INCLUDING));
+            node.addSubgroup(getKeywordGroup(keywords.get(keywords.size() - 1 - i), GroupHierarchyType.REFINING));
+        }
+        return root;
+    }
+
+    private static KeywordGroup getKeywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, false, ',', false);
+    }
+
+    @Benchmark
+    public List<BibEntry> search(LibraryState library) {
+        SearchQuery searchQuery = new SearchQuery("distributed graph", false, false);
+        return new DatabaseSearcher(searchQuery, library.database).getMatches();
+    }
+
+    @Benchmark
+    public List<BibEntry> regexSearch(LibraryState library) {
+        SearchQuery searchQuery = new SearchQuery("neural.*optimi[sz]ation", false, true);
+        return new DatabaseSearcher(searchQuery, library.database).getMatches();
+    }
+
+    @Benchmark
+    public List<BibEntry> grammarBasedSearch(LibraryState library) {
+        SearchQuery searchQuery = new SearchQuery("author = Schmidt and (title = graph or keywords = learning0) and abstract != survey", false, false);
+        return new DatabaseSearcher(searchQuery, library.database).getMatches();
+    }
+
+    /**
+     * Searches the way the main table does: partitioned across a fork-join pool, publishing the matches in batches
+     */
+    @Benchmark
+    public ProgressiveSearch parallelSearch(LibraryState library) {
+        SearchQuery searchQuery = new SearchQuery("distributed graph", false, false);
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        ProgressiveSearch search = new SearchExecutor().search(searchQuery, library.database, matches -> { }, () -> finished.complete(null));
+        finished.join();
+        return search;
+    }
+
+    @Benchmark
+    public BibDatabaseMode inferBibDatabaseMode(LibraryState library) {
+        return BibDatabaseModeDetection.inferMode(library.database);
+    }
+
+    @Benchmark
+    public boolean keywordGroupContains(LibraryState library) {
+        KeywordGroup group = getKeywordGroup(SyntheticLibrary.getKeywords().get(0), GroupHierarchyType.INDEPENDENT);
+        return group.containsAll(library.database.getEntries());
+    }
+
+    /**
+     * Counts the matches of all groups by evaluating every group on every entry
+     */
+    @Benchmark
+    public int groupMatching(LibraryState library) {
+        int matches = 0;
+        for (GroupTreeNode node : groups.findChildrenSatisfying(child -> true)) {
+            matches += node.findMatches(library.database).size();
+        }
+        return matches;
+    }
+
+    /**
+     * Counts the matches of all groups by building a {@link GroupMembershipIndex} from scratch
+     */
+    @Benchmark
+    public int groupMembershipIndex(LibraryState library) {
+        GroupMembershipIndex index = new GroupMembershipIndex(library.database);
+        try {
+            int matches = 0;
+            for (GroupTreeNode node : groups.findChildrenSatisfying(child -> true)) {
+                matches += index.getNumberOfMatches(node);
+            }
+            return matches;
+        } finally {
+            library.database.unregisterListener(index);
+        }
+    }
+}
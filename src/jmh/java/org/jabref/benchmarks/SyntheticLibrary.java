@@ -0,0 +1,196 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.EntryType;
+import org.jabref.model.entry.types.StandardEntryType;
+
+/**
+ * Generates libraries of arbitrary size for the benchmarks.
+ * <p>
+ * Authors, journals, keywords and title words follow a Zipf distribution, i.e., a few of them are used very often and
+ * most of them rarely, as in real libraries. A small share of the entries are near duplicates of other entries. The
+ * generation is deterministic for a given size.
+ */
+public class SyntheticLibrary {
+
+    private static final String[] FIRST_NAMES = {"Anna", "Bernd", "Carla", "David", "Eva", "Felix", "Greta", "Hans",
+            "Ines", "Jan", "Katrin", "Lars", "Maria", "Nils", "Olga", "Paul", "Quentin", "Rosa", "Stefan", "Tanja",
+            "Ulrich", "Vera", "Walter", "Xenia", "Yusuf", "Zoe", "Jürgen", "Émile", "Søren", "Łukasz"};
+    private static final String[] LAST_NAMES = {"Müller", "Schmidt", "Schneider", "Fischer", "Weber", "Meyer",
+            "Wagner", "Becker", "Schulz", "Hoffmann", "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia",
+            "Miller", "Davis", "Rodriguez", "Martinez", "Nguyen", "Kim", "Tanaka", "Rossi", "Dubois", "van der Berg",
+            "de la Cruz", "O'Brien", "Kowalski", "Nowak"};
+    private static final String[] WORDS = {"analysis", "approach", "learning", "system", "model", "data", "network",
+            "method", "efficient", "distributed", "towards", "evaluation", "framework", "using", "based", "scalable",
+            "software", "query", "graph", "optimization", "semantic", "survey", "robust", "parallel", "memory",
+            "performance", "language", "design", "study", "algorithm", "verification", "adaptive", "neural",
+            "bibliographic", "reference", "management", "search", "index", "structure", "dynamic", "static",
+            "probabilistic", "secure", "cloud", "stream", "processing", "empirical", "{LaTeX}", "$\\alpha$-approximation",
+            "\\emph{novel}"};
+
+    private static final int AUTHOR_POOL_SIZE = FIRST_NAMES.length * LAST_NAMES.length;
+    private static final int JOURNAL_POOL_SIZE = 150;
+    private static final int KEYWORD_POOL_SIZE = 300;
+    private static final double DUPLICATE_SHARE = 0.02;
+
+    private final Random random;
+    private final ZipfDistribution authors = new ZipfDistribution(AUTHOR_POOL_SIZE);
+    private final ZipfDistribution journals = new ZipfDistribution(JOURNAL_POOL_SIZE);
+    private final ZipfDistribution keywords = new ZipfDistribution(KEYWORD_POOL_SIZE);
+    private final ZipfDistribution words = new ZipfDistribution(WORDS.length);
+    private final Set<String> citationKeys = new HashSet<>();
+
+    private SyntheticLibrary(long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Creates a new database containing the given number of entries
+     */
+    public static BibDatabase create(int size) {
+        return new BibDatabase(new SyntheticLibrary(size).createEntries(size));
+    }
+
+    /**
+     * Returns the names of the keywords used by the generated entries, starting with the most frequent one
+     */
+    public static List<String> getKeywords() {
+        return IntStream.range(0, KEYWORD_POOL_SIZE).mapToObj(SyntheticLibrary::getKeyword).collect(Collectors.toList());
+    }
+
+    private List<BibEntry> createEntries(int size) {
+        List<BibEntry> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if ((i > 0) && (random.nextDouble() < DUPLICATE_SHARE)) {
+                entries.add(createNearDuplicate(entries.get(random.nextInt(i))));
+            } else {
+                entries.add(createEntry());
+            }
+        }
+        return entries;
+    }
+
+    private BibEntry createEntry() {
+        EntryType type = pickType();
+        String year = String.valueOf(1950 + random.nextInt(72));
+        List<String> authorNames = IntStream.range(0, 1 + random.nextInt(6))
+                                            .mapToObj(ignored -> getAuthor(authors.sample(random)))
+                                            .distinct()
+                                            .collect(Collectors.toList());
+
+        BibEntry entry = new BibEntry(type)
+                .withField(StandardField.AUTHOR, String.join(" and ", authorNames))
+                .withField(StandardField.TITLE, createText(4 + random.nextInt(9)))
+                .withField(StandardField.YEAR, year)
+                .withField(StandardField.PAGES, (1 + random.nextInt(500)) + "--" + (501 + random.nextInt(500)));
+        if (type == StandardEntryType.Article) {
+            entry.setField(StandardField.JOURNAL, "Journal of " + createTitleCase(journals.sample(random)));
+            entry.setField(StandardField.VOLUME, String.valueOf(1 + random.nextInt(60)));
+        } else if (type == StandardEntryType.InProceedings) {
+            entry.setField(StandardField.BOOKTITLE, "Proceedings of the " + createTitleCase(journals.sample(random)) + " Conference");
+        } else {
+            entry.setField(StandardField.PUBLISHER, createTitleCase(journals.sample(random)) + " Press");
+        }
+        if (random.nextBoolean()) {
+            entry.setField(StandardField.DOI, "10." + (1000 + random.nextInt(9000)) + "/" + Integer.toHexString(random.nextInt()));
+        }
+        int numberOfKeywords = random.nextInt(6);
+        if (numberOfKeywords > 0) {
+            entry.setField(StandardField.KEYWORDS, IntStream.range(0, numberOfKeywords)
+                                                            .mapToObj(ignored -> getKeyword(keywords.sample(random)))
+                                                            .distinct()
+                                                            .collect(Collectors.joining(", ")));
+        }
+        if (random.nextDouble() < 0.3) {
+            entry.setField(StandardField.ABSTRACT, createText(40 + random.nextInt(80)));
+        }
+        entry.setCitationKey(createCitationKey(authorNames.get(0), year));
+        return entry;
+    }
+
+    private BibEntry createNearDuplicate(BibEntry original) {
+        BibEntry duplicate = (BibEntry) original.clone();
+        original.getField(StandardField.TITLE).ifPresent(title -> duplicate.setField(StandardField.TITLE, title.toUpperCase()));
+        duplicate.clearField(StandardField.DOI);
+        duplicate.setCitationKey(createCitationKey(original.getCitationKey().orElse("Duplicate"), ""));
+        return duplicate;
+    }
+
+    private EntryType pickType() {
+        double value = random.nextDouble();
+        if (value < 0.6) {
+            return StandardEntryType.Article;
+        } else if (value < 0.9) {
+            return StandardEntryType.InProceedings;
+        } else {
+            return StandardEntryType.Book;
+        }
+    }
+
+    private String createText(int numberOfWords) {
+        return IntStream.range(0, numberOfWords)
+                        .mapToObj(ignored -> WORDS[words.sample(random)])
+                        .collect(Collectors.joining(" "));
+    }
+
+    private String createTitleCase(int index) {
+        String word = WORDS[index % WORDS.length].replaceAll("[^a-z]", "");
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1) + ' ' + (index / WORDS.length + 1);
+    }
+
+    private String createCitationKey(String author, String year) {
+        String base = author.substring(author.lastIndexOf(' ') + 1).replaceAll("[^A-Za-z]", "") + year;
+        String key = base;
+        for (char suffix = 'a'; !citationKeys.add(key); suffix++) {
+            key = base + suffix;
+            if (suffix == 'z') {
+                base = base + 'z';
+                suffix = 'a' - 1;
+            }
+        }
+        return key;
+    }
+
+    private static String getAuthor(int index) {
+        return FIRST_NAMES[index % FIRST_NAMES.length] + ' ' + LAST_NAMES[index / FIRST_NAMES.length];
+    }
+
+    private static String getKeyword(int index) {
+        return WORDS[index % WORDS.length].replaceAll("[^a-z]", "") + (index / WORDS.length);
+    }
+
+    /**
+     * Samples the numbers 0 to n-1, where the probability of k is proportional to 1/(k+1)
+     */
+    private static class ZipfDistribution {
+        private final double[] cumulativeProbabilities;
+
+        ZipfDistribution(int n) {
+            cumulativeProbabilities = new double[n];
+            double sum = 0;
+            for (int k = 0; k < n; k++) {
+                sum += 1.0 / (k + 1);
+                cumulativeProbabilities[k] = sum;
+            }
+            for (int k = 0; k < n; k++) {
+                cumulativeProbabilities[k] /= sum;
+            }
+        }
+
+        int sample(Random random) {
+            int index = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+            return Math.min(index >= 0 ? index : -index - 1, cumulativeProbabilities.length - 1);
+        }
+    }
+}
@@ -5,6 +5,9 @@ open module org.jabref {
     // SQL
     requires java.sql;
 
+    // HTTP
+    requires java.net.http;
+
     // JavaFX
     requires javafx.base;
     requires javafx.graphics;
@@ -7,6 +7,7 @@ import java.util.UUID;
 import javafx.stage.Screen;
 
 import org.jabref.architecture.AllowedToUseAwt;
+import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.gui.keyboard.KeyBindingRepository;
 import org.jabref.gui.undo.CountingUndoManager;
 import org.jabref.gui.util.DefaultFileUpdateMonitor;
@@ -15,6 +16,8 @@ import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.importer.ImportFormatReader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
+import org.jabref.logic.pdf.FileAnnotationStore;
+import org.jabref.logic.pdf.FullTextIndex;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.server.RemoteListenerServerLifecycle;
 import org.jabref.logic.util.BuildInfo;
@@ -81,6 +84,8 @@ public class Globals {
     private static KeyBindingRepository keyBindingRepository;
 
     private static DefaultFileUpdateMonitor fileUpdateMonitor;
+    private static FileAnnotationStore fileAnnotationStore;
+    private static FullTextIndex fullTextIndex;
     private static TelemetryClient telemetryClient;
 
     private Globals() {
@@ -140,6 +145,26 @@ public class Globals {
         return fileUpdateMonitor;
     }
 
+    /**
+     * Returns the annotations of linked files read so far, which are shared by all libraries and kept across sessions
+     */
+    public static synchronized FileAnnotationStore getFileAnnotationStore() {
+        if (fileAnnotationStore == null) {
+            fileAnnotationStore = new FileAnnotationStore(JabRefDesktop.getNativeDesktop().getUserDataDirectory().resolve("annotations.mv"));
+        }
+        return fileAnnotationStore;
+    }
+
+    /**
+     * Returns the index of the text of linked files, which is shared by all libraries and kept across sessions
+     */
+    public static synchronized FullTextIndex getFullTextIndex() {
+        if (fullTextIndex == null) {
+            fullTextIndex = new FullTextIndex(JabRefDesktop.getNativeDesktop().getUserDataDirectory().resolve("fulltext-index"));
+        }
+        return fullTextIndex;
+    }
+
     public static void shutdownThreadPools() {
         TASK_EXECUTOR.shutdown();
         fileUpdateMonitor.shutdown();
@@ -149,6 +174,16 @@ public class Globals {
     public static void stopBackgroundTasks() {
         stopTelemetryClient();
         Unirest.shutDown();
+        synchronized (Globals.class) {
+            if (fileAnnotationStore != null) {
+                fileAnnotationStore.close();
+                fileAnnotationStore = null;
+            }
+            if (fullTextIndex != null) {
+                fullTextIndex.close();
+                fullTextIndex = null;
+            }
+        }
     }
 
     public static Optional<TelemetryClient> getTelemetryClient() {
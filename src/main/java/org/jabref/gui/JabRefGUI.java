@@ -19,10 +19,13 @@ import org.jabref.gui.importer.ParserResultWarningDialog;
 import org.jabref.gui.importer.actions.OpenDatabaseAction;
 import org.jabref.gui.keyboard.TextInputKeyBindings;
 import org.jabref.gui.shared.SharedDatabaseUIManager;
+import org.jabref.gui.util.BackgroundTask;
 import org.jabref.logic.autosaveandbackup.BackupManager;
+import org.jabref.logic.citationstyle.CitationStyleCache;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.logic.shared.DatabaseNotSupportedException;
 import org.jabref.logic.shared.exception.InvalidDBMSConnectionPropertiesException;
 import org.jabref.logic.shared.exception.NotASharedDatabaseException;
@@ -54,6 +57,11 @@ public class JabRefGUI {
         openWindow(mainStage);
         new VersionWorker(Globals.BUILD_INFO.version, Globals.prefs.getVersionPreferences().getIgnoredVersion(), mainFrame.getDialogService(), Globals.TASK_EXECUTOR)
                 .checkForNewVersionDelayed();
+
+        // The engine of a citation style takes a while to start, thus the preview of the first entry would be delayed
+        PreviewLayout previewStyle = Globals.prefs.getPreviewPreferences().getCurrentPreviewStyle();
+        BackgroundTask.wrap(() -> CitationStyleCache.prewarm(previewStyle))
+                      .executeWith(Globals.TASK_EXECUTOR);
     }
 
     private void openWindow(Stage mainStage) {
@@ -8,13 +8,16 @@ import javafx.stage.Stage;
 
 import org.jabref.cli.ArgumentProcessor;
 import org.jabref.cli.JabRefCLI;
+import org.jabref.gui.desktop.JabRefDesktop;
 import org.jabref.gui.remote.JabRefMessageHandler;
 import org.jabref.logic.exporter.ExporterFactory;
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.net.HttpResponseCache;
 import org.jabref.logic.net.ProxyAuthenticator;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.net.ProxyRegisterer;
+import org.jabref.logic.net.SharedHttpClient;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
 import org.jabref.logic.remote.RemotePreferences;
 import org.jabref.logic.remote.client.RemoteClient;
@@ -125,6 +128,10 @@ public class JabRefMain extends Application {
                 preferences.getSavePreferencesForExport(),
                 preferences.getXmpPreferences());
 
+        // Cache responses of web services across sessions
+        SharedHttpClient.setResponseCache(new HttpResponseCache(JabRefDesktop.getNativeDesktop().getUserCacheDirectory().resolve("http"),
+                preferences.getHttpCachePreferences()));
+
         // Initialize protected terms loader
         Globals.protectedTermsLoader = new ProtectedTermsLoader(preferences.getProtectedTermsPreferences());
 
@@ -60,6 +60,7 @@ import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.preferences.FilePreferences;
 import org.jabref.preferences.PreferencesService;
 
 import com.google.common.eventbus.Subscribe;
@@ -119,7 +120,12 @@ public class LibraryTab extends Tab {
         this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, Globals.stateManager);
 
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
-        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
+        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences(), Globals.getFileAnnotationStore());
+        BackgroundTask.wrap(annotationCache::importAllAnnotations)
+                      .executeWith(Globals.TASK_EXECUTOR);
+        if (preferencesService.getSearchPreferences().isFulltext()) {
+            updateFulltextIndex();
+        }
 
         setupMainPanel();
         setupAutoCompletion();
@@ -216,7 +222,12 @@ public class LibraryTab extends Tab {
 
         this.tableModel = new MainTableDataModel(getBibDatabaseContext(), preferencesService, Globals.stateManager);
         citationStyleCache = new CitationStyleCache(bibDatabaseContext);
-        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences());
+        annotationCache = new FileAnnotationCache(bibDatabaseContext, preferencesService.getFilePreferences(), Globals.getFileAnnotationStore());
+        BackgroundTask.wrap(annotationCache::importAllAnnotations)
+                      .executeWith(Globals.TASK_EXECUTOR);
+        if (preferencesService.getSearchPreferences().isFulltext()) {
+            updateFulltextIndex();
+        }
 
         setupMainPanel();
         setupAutoCompletion();
@@ -519,7 +530,7 @@ public class LibraryTab extends Tab {
     private void setupAutoCompletion() {
         AutoCompletePreferences autoCompletePreferences = preferencesService.getAutoCompletePreferences();
         if (autoCompletePreferences.shouldAutoComplete()) {
-            suggestionProviders = new SuggestionProviders(getDatabase(), Globals.journalAbbreviationRepository, autoCompletePreferences);
+            suggestionProviders = new SuggestionProviders(getDatabase(), Globals.journalAbbreviationRepository, autoCompletePreferences, Globals.TASK_EXECUTOR);
         } else {
             // Create empty suggestion providers if auto completion is deactivated
             suggestionProviders = new SuggestionProviders();
@@ -736,6 +747,17 @@ public class LibraryTab extends Tab {
         return annotationCache;
     }
 
+    /**
+     * Adds the linked files of this library to the full text index in the background. Files indexed already are only
+     * read again if they changed.
+     */
+    public void updateFulltextIndex() {
+        BibDatabaseContext context = bibDatabaseContext;
+        FilePreferences filePreferences = preferencesService.getFilePreferences();
+        BackgroundTask.wrap(() -> Globals.getFullTextIndex().indexLinkedFiles(context, filePreferences))
+                      .executeWith(Globals.TASK_EXECUTOR);
+    }
+
     public void resetChangeMonitorAndChangePane() {
         changeMonitor.ifPresent(DatabaseChangeMonitor::unregister);
         changeMonitor = Optional.of(new DatabaseChangeMonitor(bibDatabaseContext, Globals.getFileUpdateMonitor(), Globals.TASK_EXECUTOR, preferencesService));
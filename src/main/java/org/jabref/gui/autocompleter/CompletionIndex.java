@@ -0,0 +1,227 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.base.Equivalence;
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Index of the completion candidates of one field of a {@link BibDatabase}, counting in how many entries each
+ * candidate occurs.
+ * <p>
+ * Every word of a candidate starts a key of a sorted map, thus all candidates having a word starting with the text
+ * typed by the user are found by a range query instead of streaming over all entries of the database. The candidates
+ * are ranked by their frequency.
+ * <p>
+ * The index is built by {@link #build()}, usually in the background, and is kept up to date by listening to
+ * {@link EntriesAddedEvent}, {@link EntriesRemovedEvent} and {@link FieldChangedEvent} of the database.
+ *
+ * @param <T> Type of the candidates
+ */
+public class CompletionIndex<T> {
+
+    private final Field field;
+    private final Function<BibEntry, Stream<T>> candidatesOfEntry;
+    private final Function<T, String> textOfCandidate;
+
+    private final Map<BibEntry, List<T>> indexedCandidatesOfEntry = new IdentityHashMap<>();
+    private final Set<BibEntry> entriesToBuild = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<T, Integer> frequencies = new HashMap<>();
+    private final NavigableMap<String, Set<T>> candidatesOfWordStart = new TreeMap<>();
+    private boolean ready;
+
+    /**
+     * @param candidatesOfEntry returns the candidates of the given field of an entry
+     * @param textOfCandidate   returns the text the user types to find the candidate
+     */
+    public CompletionIndex(BibDatabase database, Field field, Function<BibEntry, Stream<T>> candidatesOfEntry, Function<T, String> textOfCandidate) {
+        this.field = Objects.requireNonNull(field);
+        this.candidatesOfEntry = Objects.requireNonNull(candidatesOfEntry);
+        this.textOfCandidate = Objects.requireNonNull(textOfCandidate);
+
+        // Register first, so that no change is missed while the index is built
+        database.registerListener(this);
+        entriesToBuild.addAll(database.getEntries());
+    }
+
+    /**
+     * Indexes all entries of the database. Entries which were changed in the meantime are already indexed by the
+     * listeners and are skipped.
+     */
+    public void build() {
+        List<BibEntry> entries;
+        synchronized (this) {
+            entries = new ArrayList<>(entriesToBuild);
+        }
+        for (BibEntry entry : entries) {
+            // Extract the candidates outside of the lock, as parsing them is the expensive part
+            List<T> candidates = getCandidates(entry);
+            synchronized (this) {
+                if (entriesToBuild.remove(entry)) {
+                    add(entry, candidates);
+                }
+            }
+        }
+        synchronized (this) {
+            ready = true;
+        }
+    }
+
+    /**
+     * Adds candidates not belonging to any entry, e.g. the journal names of the abbreviation lists
+     */
+    public synchronized void addCandidates(Collection<T> candidates) {
+        candidates.forEach(this::add);
+    }
+
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::index);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            entriesToBuild.remove(entry);
+            remove(entry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        if (field.equals(event.getField())) {
+            index(event.getBibEntry());
+        }
+    }
+
+    /**
+     * Returns the candidates matching the given text, the most frequent ones first.
+     * <p>
+     * Candidates having a word starting with the text are preferred. Only if there is none, all candidates are checked
+     * for the text somewhere in the middle of a word.
+     *
+     * @param isMatch     checks whether a candidate is a valid suggestion for the text
+     * @param comparator  orders candidates of the same frequency
+     * @param equivalence candidates equivalent to a more frequent one are left out
+     */
+    public synchronized List<T> find(String text, Predicate<T> isMatch, Comparator<T> comparator, Equivalence<T> equivalence, int limit) {
+        String key = text.toLowerCase(Locale.ROOT);
+        Set<T> candidates = new HashSet<>();
+        candidatesOfWordStart.subMap(key, true, key + Character.MAX_VALUE, false)
+                             .values()
+                             .forEach(candidates::addAll);
+        candidates.removeIf(isMatch.negate());
+        if (candidates.isEmpty()) {
+            frequencies.keySet().stream().filter(isMatch).forEach(candidates::add);
+        }
+
+        Comparator<T> byFrequency = Comparator.<T>comparingInt(frequencies::get).reversed();
+        return candidates.stream()
+                         .sorted(byFrequency.thenComparing(comparator))
+                         .map(equivalence::wrap)
+                         .collect(Collectors.toCollection(LinkedHashSet::new))
+                         .stream()
+                         .limit(limit)
+                         .map(Equivalence.Wrapper::get)
+                         .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns in how many entries the given candidate occurs
+     */
+    public synchronized int getFrequency(T candidate) {
+        return frequencies.getOrDefault(candidate, 0);
+    }
+
+    private List<T> getCandidates(BibEntry entry) {
+        return candidatesOfEntry.apply(entry).distinct().collect(Collectors.toList());
+    }
+
+    private void index(BibEntry entry) {
+        entriesToBuild.remove(entry);
+        remove(entry);
+        add(entry, getCandidates(entry));
+    }
+
+    private void add(BibEntry entry, List<T> candidates) {
+        indexedCandidatesOfEntry.put(entry, candidates);
+        candidates.forEach(this::add);
+    }
+
+    private void add(T candidate) {
+        if (frequencies.merge(candidate, 1, Integer::sum) == 1) {
+            for (String wordStart : getWordStarts(candidate)) {
+                candidatesOfWordStart.computeIfAbsent(wordStart, key -> new HashSet<>()).add(candidate);
+            }
+        }
+    }
+
+    private void remove(BibEntry entry) {
+        List<T> candidates = indexedCandidatesOfEntry.remove(entry);
+        if (candidates == null) {
+            return;
+        }
+        for (T candidate : candidates) {
+            if (frequencies.merge(candidate, -1, Integer::sum) == 0) {
+                frequencies.remove(candidate);
+                for (String wordStart : getWordStarts(candidate)) {
+                    Set<T> candidatesOfKey = candidatesOfWordStart.get(wordStart);
+                    if (candidatesOfKey != null) {
+                        candidatesOfKey.remove(candidate);
+                        if (candidatesOfKey.isEmpty()) {
+                            candidatesOfWordStart.remove(wordStart);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the lower-cased text of the candidate starting at each of its words
+     */
+    private List<String> getWordStarts(T candidate) {
+        String text = textOfCandidate.apply(candidate).toLowerCase(Locale.ROOT);
+        List<String> wordStarts = new ArrayList<>();
+        for (int i = 0; i < text.length(); i++) {
+            boolean startsWord = Character.isLetterOrDigit(text.charAt(i))
+                    && ((i == 0) || !Character.isLetterOrDigit(text.charAt(i - 1)));
+            if (startsWord) {
+                wordStarts.add(text.substring(i));
+            }
+        }
+        if (wordStarts.isEmpty()) {
+            wordStarts.add(text);
+        }
+        return wordStarts;
+    }
+}
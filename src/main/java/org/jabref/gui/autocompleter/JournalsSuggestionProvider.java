@@ -13,7 +13,11 @@ public class JournalsSuggestionProvider extends FieldValueSuggestionProvider {
     private final JournalAbbreviationRepository repository;
 
     JournalsSuggestionProvider(Field field, BibDatabase database, JournalAbbreviationRepository repository) {
-        super(field, database);
+        this(field, database, repository, null);
+    }
+
+    JournalsSuggestionProvider(Field field, BibDatabase database, JournalAbbreviationRepository repository, CompletionIndex<String> index) {
+        super(field, database, index);
 
         this.repository = repository;
     }
@@ -5,6 +5,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
@@ -24,16 +25,35 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
 
     private final Collection<Field> fields;
     private final BibDatabase database;
+    private final CompletionIndex<Author> index;
 
     PersonNameSuggestionProvider(Field field, BibDatabase database) {
-        this(Collections.singletonList(Objects.requireNonNull(field)), database);
+        this(field, database, null);
+    }
+
+    PersonNameSuggestionProvider(Field field, BibDatabase database, CompletionIndex<Author> index) {
+        this(Collections.singletonList(Objects.requireNonNull(field)), database, index);
     }
 
     public PersonNameSuggestionProvider(Collection<Field> fields, BibDatabase database) {
+        this(fields, database, null);
+    }
+
+    private PersonNameSuggestionProvider(Collection<Field> fields, BibDatabase database, CompletionIndex<Author> index) {
         super();
 
         this.fields = Objects.requireNonNull(fields);
         this.database = database;
+        this.index = index;
+    }
+
+    /**
+     * Creates an index of the authors in the given field, which still has to be built
+     */
+    static CompletionIndex<Author> createIndex(Field field, BibDatabase database) {
+        return new CompletionIndex<>(database, field,
+                entry -> entry.getField(field).stream().flatMap(value -> AuthorList.parse(value).getAuthors().stream()),
+                author -> author.getLastFirst(false));
     }
 
     public Stream<Author> getAuthors(BibEntry entry) {
@@ -61,6 +81,11 @@ public class PersonNameSuggestionProvider extends SuggestionProvider<Author> {
         return StringUtil.containsIgnoreCase(candidate.getLastFirst(false), request.getUserText());
     }
 
+    @Override
+    protected Optional<CompletionIndex<Author>> getIndex() {
+        return Optional.ofNullable(index);
+    }
+
     @Override
     public Stream<Author> getSource() {
         return database.getEntries()
@@ -29,6 +29,7 @@ package org.jabref.gui.autocompleter;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -42,14 +43,20 @@ import org.controlsfx.control.textfield.AutoCompletionBinding.ISuggestionRequest
  */
 public abstract class SuggestionProvider<T> {
 
+    private static final int MAX_SUGGESTIONS = 10;
+
     public final Collection<T> provideSuggestions(ISuggestionRequest request) {
         if (!request.getUserText().isEmpty()) {
             Comparator<T> comparator = getComparator();
             Equivalence<T> equivalence = getEquivalence();
+            Optional<CompletionIndex<T>> index = getIndex().filter(CompletionIndex::isReady);
+            if (index.isPresent()) {
+                return index.get().find(request.getUserText(), candidate -> isMatch(candidate, request), comparator, equivalence, MAX_SUGGESTIONS);
+            }
             return getSource().filter(candidate -> isMatch(candidate, request))
                               .map(equivalence::wrap) // Need to do a bit of acrobatic as there is no distinctBy method
                               .distinct()
-                              .limit(10)
+                              .limit(MAX_SUGGESTIONS)
                               .map(Equivalence.Wrapper::get)
                               .sorted(comparator)
                               .collect(Collectors.toList());
@@ -80,5 +87,13 @@ public abstract class SuggestionProvider<T> {
      */
     protected abstract boolean isMatch(T candidate, ISuggestionRequest request);
 
+    /**
+     * Get the index of the candidates. As long as there is no index or it is still being built, all candidates of
+     * {@link #getSource()} are checked.
+     */
+    protected Optional<CompletionIndex<T>> getIndex() {
+        return Optional.empty();
+    }
+
     public abstract Stream<T> getSource();
 }
@@ -1,9 +1,15 @@
 package org.jabref.gui.autocompleter;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
+import org.jabref.gui.util.BackgroundTask;
+import org.jabref.gui.util.CurrentThreadTaskExecutor;
+import org.jabref.gui.util.TaskExecutor;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.Author;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldProperty;
 import org.jabref.model.entry.field.StandardField;
@@ -14,11 +20,26 @@ public class SuggestionProviders {
     private BibDatabase database;
     private JournalAbbreviationRepository abbreviationRepository;
     private AutoCompletePreferences autoCompletePreferences;
+    private TaskExecutor taskExecutor;
+
+    /**
+     * The indexes are created when a field is completed for the first time and are shared by all providers of the field
+     */
+    private final Map<Field, CompletionIndex<Author>> personNameIndexes = new HashMap<>();
+    private final Map<Field, CompletionIndex<String>> stringIndexes = new HashMap<>();
 
     public SuggestionProviders(BibDatabase database, JournalAbbreviationRepository abbreviationRepository, AutoCompletePreferences autoCompletePreferences) {
+        this(database, abbreviationRepository, autoCompletePreferences, new CurrentThreadTaskExecutor());
+    }
+
+    /**
+     * @param taskExecutor builds the indexes of the fields in the background
+     */
+    public SuggestionProviders(BibDatabase database, JournalAbbreviationRepository abbreviationRepository, AutoCompletePreferences autoCompletePreferences, TaskExecutor taskExecutor) {
         this.database = database;
         this.abbreviationRepository = abbreviationRepository;
         this.autoCompletePreferences = autoCompletePreferences;
+        this.taskExecutor = taskExecutor;
         this.isEmpty = false;
     }
 
@@ -34,13 +55,30 @@ public class SuggestionProviders {
 
         Set<FieldProperty> fieldProperties = field.getProperties();
         if (fieldProperties.contains(FieldProperty.PERSON_NAMES)) {
-            return new PersonNameSuggestionProvider(field, database);
+            CompletionIndex<Author> index = personNameIndexes.computeIfAbsent(field,
+                    key -> build(PersonNameSuggestionProvider.createIndex(key, database)));
+            return new PersonNameSuggestionProvider(field, database, index);
         } else if (fieldProperties.contains(FieldProperty.SINGLE_ENTRY_LINK) || fieldProperties.contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
             return new BibEntrySuggestionProvider(database);
         } else if (fieldProperties.contains(FieldProperty.JOURNAL_NAME) || StandardField.PUBLISHER.equals(field)) {
-            return new JournalsSuggestionProvider(field, database, abbreviationRepository);
+            CompletionIndex<String> index = stringIndexes.computeIfAbsent(field, key -> {
+                CompletionIndex<String> journalIndex = FieldValueSuggestionProvider.createIndex(key, database);
+                BackgroundTask.wrap(() -> {
+                    journalIndex.addCandidates(abbreviationRepository.getFullNames());
+                    journalIndex.build();
+                }).executeWith(taskExecutor);
+                return journalIndex;
+            });
+            return new JournalsSuggestionProvider(field, database, abbreviationRepository, index);
         } else {
-            return new WordSuggestionProvider(field, database);
+            CompletionIndex<String> index = stringIndexes.computeIfAbsent(field,
+                    key -> build(WordSuggestionProvider.createIndex(key, database)));
+            return new WordSuggestionProvider(field, database, index);
         }
     }
+
+    private <T> CompletionIndex<T> build(CompletionIndex<T> index) {
+        BackgroundTask.wrap(index::build).executeWith(taskExecutor);
+        return index;
+    }
 }
@@ -1,6 +1,8 @@
 package org.jabref.gui.autocompleter;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.jabref.model.database.BibDatabase;
@@ -13,10 +15,28 @@ public class WordSuggestionProvider extends StringSuggestionProvider {
 
     private final Field field;
     private final BibDatabase database;
+    private final CompletionIndex<String> index;
 
     public WordSuggestionProvider(Field field, BibDatabase database) {
+        this(field, database, null);
+    }
+
+    WordSuggestionProvider(Field field, BibDatabase database, CompletionIndex<String> index) {
         this.field = Objects.requireNonNull(field);
         this.database = database;
+        this.index = index;
+    }
+
+    /**
+     * Creates an index of all words in the given field, which still has to be built
+     */
+    static CompletionIndex<String> createIndex(Field field, BibDatabase database) {
+        return new CompletionIndex<>(database, field, entry -> entry.getFieldAsWords(field).stream(), Function.identity());
+    }
+
+    @Override
+    protected Optional<CompletionIndex<String>> getIndex() {
+        return Optional.ofNullable(index);
     }
 
     @Override
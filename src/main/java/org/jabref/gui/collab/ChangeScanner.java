@@ -11,6 +11,7 @@ import org.jabref.logic.bibtex.comparator.BibStringDiff;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.importer.OpenDatabase;
 import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.ParsedEntryCache;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 import org.jabref.preferences.PreferencesService;
@@ -23,10 +24,19 @@ public class ChangeScanner {
     private static final Logger LOGGER = LoggerFactory.getLogger(ChangeScanner.class);
     private final BibDatabaseContext database;
     private final PreferencesService preferencesService;
+    private final ParsedEntryCache parsedEntryCache;
 
     public ChangeScanner(BibDatabaseContext database, PreferencesService preferencesService) {
+        this(database, preferencesService, new ParsedEntryCache());
+    }
+
+    /**
+     * @param parsedEntryCache the entries of the file read last time, only entries changed since then are parsed
+     */
+    public ChangeScanner(BibDatabaseContext database, PreferencesService preferencesService, ParsedEntryCache parsedEntryCache) {
         this.database = database;
         this.preferencesService = preferencesService;
+        this.parsedEntryCache = parsedEntryCache;
     }
 
     public List<DatabaseChangeViewModel> scanForChanges() {
@@ -40,7 +50,7 @@ public class ChangeScanner {
             // Parse the modified file
             // Important: apply all post-load actions
             ImportFormatPreferences importFormatPreferences = preferencesService.getImportFormatPreferences();
-            ParserResult result = OpenDatabase.loadDatabase(database.getDatabasePath().get(), importFormatPreferences, preferencesService.getTimestampPreferences(), new DummyFileUpdateMonitor());
+            ParserResult result = OpenDatabase.reloadDatabase(database.getDatabasePath().get(), importFormatPreferences, preferencesService.getTimestampPreferences(), new DummyFileUpdateMonitor(), parsedEntryCache);
             BibDatabaseContext databaseOnDisk = result.getDatabaseContext();
 
             // Start looking at changes.
@@ -6,6 +6,7 @@ import java.util.List;
 
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.TaskExecutor;
+import org.jabref.logic.importer.fileformat.ParsedEntryCache;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.util.FileUpdateListener;
 import org.jabref.model.util.FileUpdateMonitor;
@@ -23,6 +24,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     private final List<DatabaseChangeListener> listeners;
     private final TaskExecutor taskExecutor;
     private final PreferencesService preferencesService;
+    private final ParsedEntryCache parsedEntryCache;
 
     public DatabaseChangeMonitor(BibDatabaseContext database,
                                  FileUpdateMonitor fileMonitor,
@@ -34,6 +36,10 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
         this.preferencesService = preferencesService;
         this.listeners = new ArrayList<>();
 
+        // The monitor is created after the library has been loaded, thus the entries still match the file
+        this.parsedEntryCache = new ParsedEntryCache();
+        this.parsedEntryCache.update(database.getDatabase().getEntries());
+
         this.database.getDatabasePath().ifPresent(path -> {
             try {
                 fileMonitor.addListenerForFile(path, this);
@@ -46,7 +52,7 @@ public class DatabaseChangeMonitor implements FileUpdateListener {
     @Override
     public void fileUpdated() {
         // File on disk has changed, thus look for notable changes and notify listeners in case there are such changes
-        ChangeScanner scanner = new ChangeScanner(database, preferencesService);
+        ChangeScanner scanner = new ChangeScanner(database, preferencesService, parsedEntryCache);
         BackgroundTask.wrap(scanner::scanForChanges)
                       .onSuccess(changes -> {
                           if (!changes.isEmpty()) {
@@ -133,4 +133,24 @@ public class Linux implements NativeDesktop {
     public Path getApplicationDirectory() {
         return Path.of("/usr/lib/");
     }
+
+    @Override
+    public Path getUserDataDirectory() {
+        String dataHome = System.getenv("XDG_DATA_HOME");
+
+        if ((dataHome != null) && !dataHome.isEmpty()) {
+            return Path.of(dataHome, "jabref");
+        }
+        return getUserDirectory().resolve(".local").resolve("share").resolve("jabref");
+    }
+
+    @Override
+    public Path getUserCacheDirectory() {
+        String cacheHome = System.getenv("XDG_CACHE_HOME");
+
+        if ((cacheHome != null) && !cacheHome.isEmpty()) {
+            return Path.of(cacheHome, "jabref");
+        }
+        return getUserDirectory().resolve(".cache").resolve("jabref");
+    }
 }
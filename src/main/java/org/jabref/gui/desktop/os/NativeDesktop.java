@@ -36,4 +36,23 @@ public interface NativeDesktop {
     default Path getUserDirectory() {
         return Path.of(System.getProperty("user.home"));
     }
+
+    /**
+     * Returns the directory JabRef keeps its data in across sessions, e.g., the stores and indexes of linked files.
+     *
+     * @return the path to the data directory of JabRef, which may not exist yet.
+     */
+    default Path getUserDataDirectory() {
+        return getUserDirectory().resolve(".jabref");
+    }
+
+    /**
+     * Returns the directory JabRef keeps data in which can be downloaded or computed again, e.g., responses of web
+     * services.
+     *
+     * @return the path to the cache directory of JabRef, which may not exist yet.
+     */
+    default Path getUserCacheDirectory() {
+        return getUserDataDirectory().resolve("cache");
+    }
 }
@@ -51,4 +51,14 @@ public class OSX implements NativeDesktop {
     public Path getApplicationDirectory() {
         return Path.of("/Applications");
     }
+
+    @Override
+    public Path getUserDataDirectory() {
+        return getUserDirectory().resolve("Library").resolve("Application Support").resolve("JabRef");
+    }
+
+    @Override
+    public Path getUserCacheDirectory() {
+        return getUserDirectory().resolve("Library").resolve("Caches").resolve("JabRef");
+    }
 }
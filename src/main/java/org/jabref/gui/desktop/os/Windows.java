@@ -68,6 +68,26 @@ public class Windows implements NativeDesktop {
         return getUserDirectory();
     }
 
+    @Override
+    public Path getUserDataDirectory() {
+        String appData = System.getenv("APPDATA");
+
+        if (appData != null) {
+            return Path.of(appData, "JabRef");
+        }
+        return NativeDesktop.super.getUserDataDirectory();
+    }
+
+    @Override
+    public Path getUserCacheDirectory() {
+        String localAppData = System.getenv("LOCALAPPDATA");
+
+        if (localAppData != null) {
+            return Path.of(localAppData, "JabRef", "Cache");
+        }
+        return NativeDesktop.super.getUserCacheDirectory();
+    }
+
     @Override
     public void openFileWithApplication(String filePath, String application) throws IOException {
         new ProcessBuilder(Path.of(application).toString(), Path.of(filePath).toString()).start();
@@ -1,11 +1,12 @@
 package org.jabref.gui.duplicationFinder;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -29,16 +30,22 @@ import org.jabref.gui.undo.UndoableInsertEntries;
 import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.DefaultTaskExecutor;
+import org.jabref.logic.database.DuplicateCandidateFinder;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import static org.jabref.gui.actions.ActionHelper.needsDatabase;
 
 public class DuplicateSearch extends SimpleCommand {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DuplicateSearch.class);
+
     private final JabRefFrame frame;
     private final BlockingQueue<List<BibEntry>> duplicates = new LinkedBlockingQueue<>();
 
@@ -83,24 +90,35 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; (i < (entries.size() - 1)); i++) {
-            for (int j = i + 1; (j < entries.size()); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(Globals.entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
-            }
+        // Only pairs sharing an identifier, a similar title or the first author and year are checked in detail
+        List<List<BibEntry>> candidatePairs = new DuplicateCandidateFinder().findCandidatePairs(entries);
+        DuplicateCheck duplicateCheck = new DuplicateCheck(Globals.entryTypesManager);
+
+        Thread searchThread = Thread.currentThread();
+        ForkJoinPool pool = new ForkJoinPool();
+        try {
+            pool.submit(() -> candidatePairs.parallelStream()
+                                            .filter(pair -> !searchThread.isInterrupted())
+                                            .filter(pair -> duplicateCheck.isDuplicate(pair.get(0), pair.get(1), databaseMode))
+                                            .forEach(this::addDuplicate))
+                .get();
+        } catch (InterruptedException e) {
+            // keep the flag, so that the remaining checks are skipped
+            searchThread.interrupt();
+            return;
+        } catch (ExecutionException e) {
+            LOGGER.error("Error while searching for duplicates", e);
+        } finally {
+            pool.shutdownNow();
         }
         libraryAnalyzed.set(true);
     }
 
+    private synchronized void addDuplicate(List<BibEntry> pair) {
+        duplicates.add(pair);
+        duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
+    }
+
     private DuplicateSearchResult verifyDuplicates() {
         DuplicateSearchResult result = new DuplicateSearchResult();
 
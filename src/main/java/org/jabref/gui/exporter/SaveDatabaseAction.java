@@ -226,7 +226,8 @@ public class SaveDatabaseAction {
     private boolean saveDatabase(Path file, boolean selectedOnly, Charset encoding, SavePreferences.DatabaseSaveType saveType) throws SaveException {
         SavePreferences preferences = this.preferences.getSavePreferences()
                                                       .withEncoding(encoding)
-                                                      .withSaveType(saveType);
+                                                      .withSaveType(saveType)
+                                                      .withSaveIncrementally(true);
         try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, preferences.getEncoding(), preferences.shouldMakeBackup())) {
             BibtexDatabaseWriter databaseWriter = new BibtexDatabaseWriter(fileWriter, preferences, entryTypesManager);
 
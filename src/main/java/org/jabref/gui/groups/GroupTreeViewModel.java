@@ -129,6 +129,10 @@ public class GroupTreeViewModel extends AbstractViewModel {
                     .map(root -> new GroupNodeViewModel(newDatabase.get(), stateManager, taskExecutor, root, localDragboard, preferences))
                     .orElse(GroupNodeViewModel.getAllEntriesGroup(newDatabase.get(), stateManager, taskExecutor, localDragboard, preferences));
 
+            // Groups replaced by an edited version do not need to be tracked any more
+            newDatabase.get().getMetaData().getGroups()
+                       .ifPresent(root -> newDatabase.get().getDatabase().getGroupMembershipIndex().retainGroups(root));
+
             rootGroup.setValue(newRoot);
             if (stateManager.getSelectedGroup(newDatabase.get()).isEmpty()) {
                 stateManager.setSelectedGroups(newDatabase.get(), Collections.singletonList(newRoot.getGroupNode()));
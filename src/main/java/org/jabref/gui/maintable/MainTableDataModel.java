@@ -2,6 +2,8 @@ package org.jabref.gui.maintable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
@@ -12,15 +14,19 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 
+import org.jabref.gui.Globals;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.groups.GroupViewMode;
+import org.jabref.gui.util.BackgroundTask;
 import org.jabref.gui.util.BindingsHelper;
+import org.jabref.gui.util.DefaultTaskExecutor;
+import org.jabref.logic.search.ProgressiveSearch;
+import org.jabref.logic.search.SearchExecutor;
 import org.jabref.logic.search.SearchQuery;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
-import org.jabref.model.search.matchers.MatcherSet;
-import org.jabref.model.search.matchers.MatcherSets;
+import org.jabref.model.search.SearchMatcher;
 import org.jabref.preferences.PreferencesService;
 
 import com.tobiasdiez.easybind.EasyBind;
@@ -32,6 +38,11 @@ public class MainTableDataModel {
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter;
     private final PreferencesService preferencesService;
     private final BibDatabaseContext bibDatabaseContext;
+    private final SearchExecutor searchExecutor = new SearchExecutor();
+    private final ObjectProperty<Predicate<BibEntry>> searchMatcher = new SimpleObjectProperty<>(entry -> true);
+    private final AtomicBoolean searchRefreshScheduled = new AtomicBoolean();
+    private Optional<ProgressiveSearch> currentSearch = Optional.empty();
+    private Optional<SearchQuery> currentQuery = Optional.empty();
 
     public MainTableDataModel(BibDatabaseContext context, PreferencesService preferencesService, StateManager stateManager) {
         this.preferencesService = preferencesService;
@@ -43,47 +54,93 @@ public class MainTableDataModel {
         ObservableList<BibEntryTableViewModel> entriesViewModel = EasyBind.mapBacked(allEntries, entry ->
                 new BibEntryTableViewModel(entry, bibDatabaseContext, fieldValueFormatter));
 
+        groupViewMode = preferencesService.getGroupViewMode();
         entriesFiltered = new FilteredList<>(entriesViewModel);
         entriesFiltered.predicateProperty().bind(
-                EasyBind.combine(stateManager.activeGroupProperty(), stateManager.activeSearchQueryProperty(), (groups, query) -> entry -> isMatched(groups, query, entry))
+                EasyBind.combine(stateManager.activeGroupProperty(), searchMatcher, (groups, matcher) -> {
+                    Optional<SearchMatcher> groupMatcher = createGroupMatcher(groups);
+                    return entry -> isMatchedByGroup(groupMatcher, entry) && matcher.test(entry.getEntry());
+                })
         );
+        EasyBind.subscribe(stateManager.activeSearchQueryProperty(), this::search);
 
         IntegerProperty resultSize = new SimpleIntegerProperty();
         resultSize.bind(Bindings.size(entriesFiltered));
         stateManager.setActiveSearchResultSize(context, resultSize);
         // We need to wrap the list since otherwise sorting in the table does not work
         entriesSorted = new SortedList<>(entriesFiltered);
-        groupViewMode = preferencesService.getGroupViewMode();
+    }
+
+    /**
+     * Searches the entries in the background. The table shows the matches found so far, thus it is updated whenever a
+     * partition of the entries has been searched and after the search has finished.
+     */
+    private void search(Optional<SearchQuery> query) {
+        currentQuery = query;
+        if (query.isEmpty()) {
+            searchExecutor.cancel();
+            currentSearch = Optional.empty();
+            searchMatcher.set(entry -> true);
+            return;
+        }
 
+        SearchQuery searchQuery = query.get();
+        if (searchQuery.isFulltext()) {
+            // Querying (and possibly opening) the full-text index must not block the JavaFX thread
+            BackgroundTask.wrap(() -> Globals.getFullTextIndex().getMatcher(searchQuery, bibDatabaseContext, preferencesService.getFilePreferences()))
+                          .onSuccess(attachmentMatcher -> {
+                              // Skip the search if the user changed the query in the meantime
+                              if (currentQuery.filter(active -> active == searchQuery).isPresent()) {
+                                  startSearch(searchQuery.withAttachmentMatcher(attachmentMatcher));
+                              }
+                          })
+                          .executeWith(Globals.TASK_EXECUTOR);
+        } else {
+            startSearch(searchQuery);
+        }
     }
 
-    private boolean isMatched(ObservableList<GroupTreeNode> groups, Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return isMatchedByGroup(groups, entry) && isMatchedBySearch(query, entry);
+    private void startSearch(SearchQuery searchQuery) {
+        ProgressiveSearch search = searchExecutor.search(searchQuery, bibDatabaseContext.getDatabase(),
+                matches -> scheduleSearchRefresh(),
+                this::scheduleSearchRefresh);
+        // The table keeps showing the previous results until the first matches arrive
+        currentSearch = Optional.of(search);
     }
 
-    private boolean isMatchedBySearch(Optional<SearchQuery> query, BibEntryTableViewModel entry) {
-        return query.map(matcher -> matcher.isMatch(entry.getEntry()))
-                    .orElse(true);
+    /**
+     * Updates the table with the latest search results. Multiple batches arriving before the JavaFX thread gets to
+     * the update are combined into a single update.
+     */
+    private void scheduleSearchRefresh() {
+        if (searchRefreshScheduled.compareAndSet(false, true)) {
+            DefaultTaskExecutor.runInJavaFXThread(() -> {
+                searchRefreshScheduled.set(false);
+                // Setting a new predicate makes the filtered list filter all entries again
+                currentSearch.ifPresent(search -> searchMatcher.set(search::isMatch));
+            });
+        }
     }
 
-    private boolean isMatchedByGroup(ObservableList<GroupTreeNode> groups, BibEntryTableViewModel entry) {
-        return createGroupMatcher(groups)
+    private boolean isMatchedByGroup(Optional<SearchMatcher> groupMatcher, BibEntryTableViewModel entry) {
+        return groupMatcher
                 .map(matcher -> matcher.isMatch(entry.getEntry()))
                 .orElse(true);
     }
 
-    private Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
+    /**
+     * Creates a matcher for the selected groups, which looks up the entries in the union or intersection of the
+     * memberships of the groups stored in the {@link org.jabref.model.groups.GroupMembershipIndex}
+     */
+    private Optional<SearchMatcher> createGroupMatcher(List<GroupTreeNode> selectedGroups) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
         }
 
-        final MatcherSet searchRules = MatcherSets.build(groupViewMode == GroupViewMode.INTERSECTION ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR);
-
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
-        }
-        return Optional.of(searchRules);
+        return Optional.of(bibDatabaseContext.getDatabase()
+                                             .getGroupMembershipIndex()
+                                             .createMatcher(selectedGroups, groupViewMode == GroupViewMode.INTERSECTION));
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -34,6 +34,7 @@ import javafx.scene.text.TextFlow;
 import org.jabref.gui.ClipBoardManager;
 import org.jabref.gui.Globals;
 import org.jabref.gui.JabRefFrame;
+import org.jabref.gui.LibraryTab;
 import org.jabref.gui.StateManager;
 import org.jabref.gui.autocompleter.AppendPersonNamesStrategy;
 import org.jabref.gui.autocompleter.AutoCompleteFirstNameMode;
@@ -80,10 +81,12 @@ public class GlobalSearchBar extends HBox {
     private final CustomTextField searchField = SearchTextField.create();
     private final ToggleButton caseSensitiveButton;
     private final ToggleButton regularExpressionButton;
+    private final ToggleButton fulltextButton;
     // private final Button searchModeButton;
     private final Label currentResults = new Label("");
     private final Tooltip tooltip = new Tooltip();
 
+    private final JabRefFrame frame;
     private final StateManager stateManager;
     private final PreferencesService preferencesService;
     private final Validator regexValidator;
@@ -92,6 +95,7 @@ public class GlobalSearchBar extends HBox {
 
     public GlobalSearchBar(JabRefFrame frame, StateManager stateManager, PreferencesService preferencesService) {
         super();
+        this.frame = frame;
         this.stateManager = stateManager;
         this.preferencesService = preferencesService;
         this.searchPreferences = preferencesService.getSearchPreferences();
@@ -123,12 +127,14 @@ public class GlobalSearchBar extends HBox {
 
         regularExpressionButton = IconTheme.JabRefIcons.REG_EX.asToggleButton();
         caseSensitiveButton = IconTheme.JabRefIcons.CASE_SENSITIVE.asToggleButton();
+        fulltextButton = IconTheme.JabRefIcons.FILE_SEARCH.asToggleButton();
         // searchModeButton = new Button();
         initSearchModifierButtons();
 
         BooleanBinding focusedOrActive = searchField.focusedProperty()
                                                     .or(regularExpressionButton.focusedProperty())
                                                     .or(caseSensitiveButton.focusedProperty())
+                                                    .or(fulltextButton.focusedProperty())
                                                     .or(searchField.textProperty()
                                                                    .isNotEmpty());
 
@@ -136,8 +142,10 @@ public class GlobalSearchBar extends HBox {
         regularExpressionButton.visibleProperty().bind(focusedOrActive);
         caseSensitiveButton.visibleProperty().unbind();
         caseSensitiveButton.visibleProperty().bind(focusedOrActive);
+        fulltextButton.visibleProperty().unbind();
+        fulltextButton.visibleProperty().bind(focusedOrActive);
 
-        StackPane modifierButtons = new StackPane(new HBox(regularExpressionButton, caseSensitiveButton));
+        StackPane modifierButtons = new StackPane(new HBox(regularExpressionButton, caseSensitiveButton, fulltextButton));
         modifierButtons.setAlignment(Pos.CENTER);
         searchField.setRight(new HBox(searchField.getRight(), modifierButtons));
         searchField.getStyleClass().add("search-field");
@@ -209,6 +217,25 @@ public class GlobalSearchBar extends HBox {
             performSearch();
         });
 
+        fulltextButton.setSelected(searchPreferences.isFulltext());
+        fulltextButton.setTooltip(new Tooltip(Localization.lang("Fulltext search")));
+        fulltextButton.setCursor(Cursor.DEFAULT);
+        fulltextButton.setMinHeight(28);
+        fulltextButton.setMaxHeight(28);
+        fulltextButton.setMinWidth(28);
+        fulltextButton.setMaxWidth(28);
+        fulltextButton.setPadding(new Insets(1.0));
+        fulltextButton.managedProperty().bind(searchField.editableProperty());
+        fulltextButton.visibleProperty().bind(searchField.editableProperty());
+        fulltextButton.setOnAction(event -> {
+            searchPreferences = searchPreferences.withFulltext(fulltextButton.isSelected());
+            preferencesService.storeSearchPreferences(searchPreferences);
+            if (fulltextButton.isSelected()) {
+                frame.getLibraryTabs().forEach(LibraryTab::updateFulltextIndex);
+            }
+            performSearch();
+        });
+
         // ToDo: Reimplement searchMode (searchModeButton)
         /* searchModeButton.setText(searchPreferences.getSearchDisplayMode().getDisplayName());
         searchModeButton.setTooltip(new Tooltip(searchPreferences.getSearchDisplayMode().getToolTipText()));
@@ -254,7 +281,7 @@ public class GlobalSearchBar extends HBox {
             return;
         }
 
-        SearchQuery searchQuery = new SearchQuery(this.searchField.getText(), searchPreferences.isCaseSensitive(), searchPreferences.isRegularExpression());
+        SearchQuery searchQuery = new SearchQuery(this.searchField.getText(), searchPreferences.isCaseSensitive(), searchPreferences.isRegularExpression(), searchPreferences.isFulltext());
         if (!searchQuery.isValid()) {
             informUserAboutInvalidSearchQuery();
             return;
@@ -118,6 +118,7 @@ public class SharedDatabaseLoginDialogViewModel extends AbstractViewModel {
                 .setAllowPublicKeyRetrieval(true)
                 .setKeyStore(keystore.getValue())
                 .setServerTimezone(serverTimezone.getValue())
+                .setBatchSize(prefs.getBatchSize())
                 .createDBMSConnectionProperties();
 
         setupKeyStore();
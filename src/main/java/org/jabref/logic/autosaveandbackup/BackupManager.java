@@ -133,7 +133,8 @@ public class BackupManager {
             Charset charset = bibDatabaseContext.getMetaData().getEncoding().orElse(preferences.getDefaultEncoding());
             SavePreferences savePreferences = preferences.getSavePreferences()
                                                          .withEncoding(charset)
-                                                         .withMakeBackup(false);
+                                                         .withMakeBackup(false)
+                                                         .withSaveIncrementally(true);
             new BibtexDatabaseWriter(new AtomicFileWriter(backupPath, savePreferences.getEncoding()), savePreferences, entryTypesManager)
                     .saveDatabase(bibDatabaseContext);
         } catch (IOException e) {
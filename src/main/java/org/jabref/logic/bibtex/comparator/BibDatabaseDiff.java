@@ -1,15 +1,24 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jabref.logic.database.DuplicateCandidateFinder;
 import org.jabref.logic.database.DuplicateCheck;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.StandardField;
 
 public class BibDatabaseDiff {
@@ -40,87 +49,120 @@ public class BibDatabaseDiff {
         return comparator;
     }
 
+    /**
+     * Pairs the entries of both databases in three steps:
+     * <ol>
+     *     <li>Entries having the same fields (i.e., matching according to {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)}) are looked up by hashing the fields.</li>
+     *     <li>Each remaining original entry is paired with the most similar new entry having the same citation key or identifier (DOI, eprint, PMID).</li>
+     *     <li>The rest is paired with the most similar entry of the candidates found by {@link DuplicateCandidateFinder} (e.g., having a similar title).</li>
+     * </ol>
+     * In the last two steps, entries are only paired if their similarity is above {@link #MATCH_THRESHOLD}. Thus, the
+     * entries are never compared pair by pair, which would be quadratic in the number of entries.
+     */
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
-        // Create pointers that are incremented as the entries of each base are used in
-        // successive order from the beginning. Entries "further down" in the new database
-        // can also be matched.
-        int positionNew = 0;
+        Set<BibEntry> used = Collections.newSetFromMap(new IdentityHashMap<>(newEntries.size()));
 
-        // Create a HashSet where we can put references to entries in the new
-        // database that we have matched. This is to avoid matching them twice.
-        Set<Integer> used = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
-
-        // Loop through the entries of the original database, looking for exact matches in the new one.
-        // We must finish scanning for exact matches before looking for near matches, to avoid an exact
-        // match being "stolen" from another entry.
-        mainLoop:
+        // Look for exact matches first, to avoid an exact match being "stolen" from another entry
+        Map<Map<Field, String>, Deque<BibEntry>> newEntriesByFields = new HashMap<>();
+        for (BibEntry newEntry : newEntries) {
+            newEntriesByFields.computeIfAbsent(new HashMap<>(newEntry.getFieldMap()), fields -> new ArrayDeque<>()).add(newEntry);
+        }
+        List<BibEntry> notMatched = new ArrayList<>();
         for (BibEntry originalEntry : originalEntries) {
-            // First check if the similarly placed entry in the other base matches exactly.
-            if (!used.contains(positionNew) && (positionNew < newEntries.size())) {
-                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(positionNew));
-                if (score > 1) {
-                    used.add(positionNew);
-                    positionNew++;
-                    continue;
-                }
-            }
-            // No? Then check if another entry matches exactly.
-            for (int i = positionNew + 1; i < newEntries.size(); i++) {
-                if (!used.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        used.add(i);
-                        continue mainLoop;
-                    }
-                }
+            Deque<BibEntry> sameFields = newEntriesByFields.get(originalEntry.getFieldMap());
+            if ((sameFields != null) && !sameFields.isEmpty()) {
+                used.add(sameFields.poll());
+            } else {
+                notMatched.add(originalEntry);
             }
-
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
         }
 
-        // Now we've found all exact matches, look through the remaining entries, looking for close matches.
-        for (Iterator<BibEntry> iteratorNotMatched = notMatched.iterator(); iteratorNotMatched.hasNext(); ) {
-            BibEntry originalEntry = iteratorNotMatched.next();
-
-            // These two variables will keep track of which entry most closely matches the one we're looking at.
-            double bestMatch = 0;
-            int bestMatchIndex = -1;
-            if (positionNew < (newEntries.size() - 1)) {
-                for (int i = positionNew; i < newEntries.size(); i++) {
-                    if (!used.contains(i)) {
-                        double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                        if (score > bestMatch) {
-                            bestMatch = score;
-                            bestMatchIndex = i;
-                        }
-                    }
+        // Then pair the entries sharing a citation key or an identifier
+        Map<String, List<BibEntry>> newEntriesByIdentifier = new HashMap<>();
+        for (BibEntry newEntry : newEntries) {
+            if (!used.contains(newEntry)) {
+                for (String identifier : getIdentifiers(newEntry)) {
+                    newEntriesByIdentifier.computeIfAbsent(identifier, key -> new ArrayList<>()).add(newEntry);
                 }
             }
+        }
+        Map<BibEntry, BibEntry> matches = new IdentityHashMap<>();
+        for (BibEntry originalEntry : notMatched) {
+            List<BibEntry> candidates = new ArrayList<>();
+            for (String identifier : getIdentifiers(originalEntry)) {
+                candidates.addAll(newEntriesByIdentifier.getOrDefault(identifier, Collections.emptyList()));
+            }
+            findBestMatch(originalEntry, candidates, used).ifPresent(newEntry -> {
+                used.add(newEntry);
+                matches.put(originalEntry, newEntry);
+            });
+        }
 
-            if (bestMatch > MATCH_THRESHOLD) {
-                used.add(bestMatchIndex);
-                iteratorNotMatched.remove();
+        // Finally, look for close matches among the candidates sharing a block (e.g., a similar title)
+        List<BibEntry> remainingEntries = new ArrayList<>();
+        notMatched.stream().filter(entry -> !matches.containsKey(entry)).forEach(remainingEntries::add);
+        Set<BibEntry> remainingOriginalEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        remainingOriginalEntries.addAll(remainingEntries);
+        newEntries.stream().filter(entry -> !used.contains(entry)).forEach(remainingEntries::add);
+
+        Map<BibEntry, List<BibEntry>> closeCandidates = new IdentityHashMap<>();
+        for (List<BibEntry> pair : new DuplicateCandidateFinder().findCandidatePairs(remainingEntries)) {
+            // Original entries come first in the list, thus they come first in each pair
+            if (remainingOriginalEntries.contains(pair.get(0)) && !remainingOriginalEntries.contains(pair.get(1))) {
+                closeCandidates.computeIfAbsent(pair.get(0), entry -> new ArrayList<>()).add(pair.get(1));
+            }
+        }
 
-                differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
-            } else {
-                differences.add(new BibEntryDiff(originalEntry, null));
+        for (BibEntry originalEntry : notMatched) {
+            BibEntry newEntry = matches.get(originalEntry);
+            if (newEntry == null) {
+                newEntry = findBestMatch(originalEntry, closeCandidates.getOrDefault(originalEntry, Collections.emptyList()), used).orElse(null);
+                if (newEntry != null) {
+                    used.add(newEntry);
+                }
             }
+            differences.add(new BibEntryDiff(originalEntry, newEntry));
         }
 
-        // Finally, look if there are still untouched entries in the new database. These may have been added.
-        for (int i = 0; i < newEntries.size(); i++) {
-            if (!used.contains(i)) {
-                differences.add(new BibEntryDiff(null, newEntries.get(i)));
+        // Look if there are still untouched entries in the new database. These may have been added.
+        for (BibEntry newEntry : newEntries) {
+            if (!used.contains(newEntry)) {
+                differences.add(new BibEntryDiff(null, newEntry));
             }
         }
 
         return differences;
     }
 
+    /**
+     * Returns the citation key and the identifiers of the given entry, prefixed by their field name
+     */
+    private static Set<String> getIdentifiers(BibEntry entry) {
+        Set<String> identifiers = new HashSet<>();
+        entry.getCitationKey().ifPresent(key -> identifiers.add("key:" + key));
+        for (Field field : FieldFactory.getIdentifierFieldNames()) {
+            entry.getField(field).ifPresent(value -> identifiers.add(field.getName() + ':' + value.trim().toLowerCase(Locale.ROOT)));
+        }
+        return identifiers;
+    }
+
+    private static Optional<BibEntry> findBestMatch(BibEntry originalEntry, List<BibEntry> candidates, Set<BibEntry> used) {
+        double bestMatch = MATCH_THRESHOLD;
+        BibEntry bestMatchEntry = null;
+        for (BibEntry candidate : candidates) {
+            if (!used.contains(candidate)) {
+                double score = DuplicateCheck.compareEntriesStrictly(originalEntry, candidate);
+                if (score > bestMatch) {
+                    bestMatch = score;
+                    bestMatchEntry = candidate;
+                }
+            }
+        }
+        return Optional.ofNullable(bestMatchEntry);
+    }
+
     public static BibDatabaseDiff compare(BibDatabaseContext base, BibDatabaseContext changed) {
         return new BibDatabaseDiff(base, changed);
     }
@@ -3,7 +3,9 @@ package org.jabref.logic.citationstyle;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.jabref.logic.formatter.bibtexfields.RemoveNewlinesFormatter;
@@ -32,10 +34,8 @@ import org.jbibtex.Key;
  * engine is re-instantiated. Therefore, the use-case of this class is many calls to {@link #makeBibliography} with the
  * same style. Changing the output format is cheap.
  * @implNote The main function {@link #makeBibliography} will enforce
- * synchronized calling. The main CSL engine under the hood is not thread-safe. Since this class is usually called from
- * a BackgroundTakk, the only other option would be to create several CSL instances which is wasting a lot of resources and very slow.
- * In the current scheme, {@link #makeBibliography} can be called as usual
- * background task and to the best of my knowledge, concurrent calls will pile up and processed sequentially.
+ * synchronized calling. The main CSL engine under the hood is not thread-safe. To generate citations in parallel, use
+ * one adapter per thread as done by {@link CSLAdapterPool}.
  */
 public class CSLAdapter {
 
@@ -58,13 +58,13 @@ public class CSLAdapter {
     }
 
     /**
-     * Initialized the static CSL instance if needed.
+     * Initialized the CSL instance if needed.
      *
      * @param newStyle  journal style of the output
      * @param newFormat usually HTML or RTF.
      * @throws IOException An error occurred in the underlying JavaScript framework
      */
-    private void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
+    synchronized void initialize(String newStyle, CitationStyleOutputFormat newFormat) throws IOException {
         if ((cslInstance == null) || !Objects.equals(newStyle, style)) {
             // lang and forceLang are set to the default values of other CSL constructors
             cslInstance = new CSL(dataProvider, new JabRefLocaleProvider(),
@@ -86,6 +86,11 @@ public class CSLAdapter {
 
         private final List<BibEntry> data = new ArrayList<>();
 
+        /**
+         * The first entry of each citation key, the engine retrieves every item by its key
+         */
+        private final Map<String, BibEntry> entryOfKey = new HashMap<>();
+
         /**
          * Converts the {@link BibEntry} into {@link CSLItemData}.
          */
@@ -113,14 +118,16 @@ public class CSLAdapter {
         public void setData(List<BibEntry> data) {
             this.data.clear();
             this.data.addAll(data);
+            this.entryOfKey.clear();
+            for (BibEntry entry : data) {
+                entryOfKey.putIfAbsent(entry.getCitationKey().orElse(""), entry);
+            }
         }
 
         @Override
         public CSLItemData retrieveItem(String id) {
-            return data.stream()
-                       .filter(entry -> entry.getCitationKey().orElse("").equals(id))
-                       .map(JabRefItemDataProvider::bibEntryToCSLItemData)
-                       .findFirst().orElse(null);
+            BibEntry entry = entryOfKey.get(id);
+            return (entry == null) ? null : bibEntryToCSLItemData(entry);
         }
 
         @Override
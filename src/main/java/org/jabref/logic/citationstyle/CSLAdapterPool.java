@@ -0,0 +1,135 @@
+package org.jabref.logic.citationstyle;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+
+import org.jabref.model.entry.BibEntry;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * A bounded pool of initialized {@link CSLAdapter}s per style and output format.
+ * <p>
+ * A CSL engine is not thread-safe and expensive to create, thus each adapter is used by one thread at a time and kept
+ * for later use afterwards. Up to {@link #getMaximumNumberOfAdapters()} adapters are created per style and format;
+ * further calls wait until an adapter is free. Only the adapters of the most recently used styles are kept.
+ */
+public class CSLAdapterPool {
+
+    private static final int MAXIMUM_NUMBER_OF_STYLES = 4;
+
+    private final int maximumNumberOfAdapters;
+    private final LoadingCache<AdapterKey, Adapters> adapters;
+
+    public CSLAdapterPool() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public CSLAdapterPool(int maximumNumberOfAdapters) {
+        if (maximumNumberOfAdapters < 1) {
+            throw new IllegalArgumentException("At least one adapter is required");
+        }
+        this.maximumNumberOfAdapters = maximumNumberOfAdapters;
+        this.adapters = CacheBuilder.newBuilder()
+                                    .maximumSize(MAXIMUM_NUMBER_OF_STYLES)
+                                    .build(new CacheLoader<>() {
+                                        @Override
+                                        public Adapters load(AdapterKey key) {
+                                            return new Adapters(maximumNumberOfAdapters);
+                                        }
+                                    });
+    }
+
+    /**
+     * Creates the bibliography of the given entries using a free adapter for the style and format. Waits if all
+     * adapters are in use.
+     *
+     * @see CSLAdapter#makeBibliography(List, String, CitationStyleOutputFormat)
+     */
+    public List<String> makeBibliography(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) throws IOException, IllegalArgumentException {
+        Adapters adaptersOfStyle = adapters.getUnchecked(new AdapterKey(style, outputFormat));
+        adaptersOfStyle.permits.acquireUninterruptibly();
+        try {
+            CSLAdapter adapter = adaptersOfStyle.idle.poll();
+            if (adapter == null) {
+                adapter = new CSLAdapter();
+            }
+            List<String> bibliography = adapter.makeBibliography(bibEntries, style, outputFormat);
+            // An adapter which failed is dropped, since the state of its engine is unknown
+            adaptersOfStyle.idle.push(adapter);
+            return bibliography;
+        } finally {
+            adaptersOfStyle.permits.release();
+        }
+    }
+
+    /**
+     * Initializes adapters for the given style and format in advance, so that the first citations do not have to
+     * wait for the engine. This takes some time, thus better call it from a background task.
+     */
+    public void prewarm(String style, CitationStyleOutputFormat outputFormat, int numberOfAdapters) throws IOException {
+        Adapters adaptersOfStyle = adapters.getUnchecked(new AdapterKey(style, outputFormat));
+        int adaptersToCreate = Math.min(numberOfAdapters, maximumNumberOfAdapters) - adaptersOfStyle.idle.size();
+        for (int i = 0; i < adaptersToCreate; i++) {
+            if (!adaptersOfStyle.permits.tryAcquire()) {
+                // All adapters are in use, thus they are initialized already
+                return;
+            }
+            try {
+                CSLAdapter adapter = new CSLAdapter();
+                adapter.initialize(style, outputFormat);
+                adaptersOfStyle.idle.push(adapter);
+            } finally {
+                adaptersOfStyle.permits.release();
+            }
+        }
+    }
+
+    public int getMaximumNumberOfAdapters() {
+        return maximumNumberOfAdapters;
+    }
+
+    private static class Adapters {
+
+        private final Semaphore permits;
+        private final Deque<CSLAdapter> idle = new ConcurrentLinkedDeque<>();
+
+        Adapters(int maximumNumberOfAdapters) {
+            this.permits = new Semaphore(maximumNumberOfAdapters);
+        }
+    }
+
+    private static class AdapterKey {
+
+        private final String style;
+        private final CitationStyleOutputFormat outputFormat;
+
+        AdapterKey(String style, CitationStyleOutputFormat outputFormat) {
+            this.style = Objects.requireNonNull(style);
+            this.outputFormat = Objects.requireNonNull(outputFormat);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            AdapterKey that = (AdapterKey) o;
+            return style.equals(that.style) && (outputFormat == that.outputFormat);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(style, outputFormat);
+        }
+    }
+}
@@ -45,6 +45,18 @@ public class CitationStyleCache {
         return citationStyleCache.getUnchecked(entry);
     }
 
+    /**
+     * Initializes the citation style engine for the given layout in advance, e.g., for the selected preview style at
+     * startup. Does nothing for layouts not based on a citation style.
+     *
+     * @implNote Creating the engine takes some time, better call it from outside the main thread.
+     */
+    public static void prewarm(PreviewLayout layout) {
+        if (layout instanceof CitationStylePreviewLayout) {
+            CitationStyleGenerator.prewarm(((CitationStylePreviewLayout) layout).getSource(), CitationStyleOutputFormat.HTML);
+        }
+    }
+
     public void setCitationStyle(PreviewLayout citationStyle) {
         Objects.requireNonNull(citationStyle);
         if (!this.citationStyle.equals(citationStyle)) {
@@ -13,12 +13,13 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Facade to unify the access to the citation style engine. Use these methods if you need rendered BibTeX item(s) in a
- * given journal style. This class uses {@link CSLAdapter} to create output.
+ * given journal style. This class uses a pool of {@link CSLAdapter}s to create output, thus citations can be generated
+ * from several threads at once.
  */
 public class CitationStyleGenerator {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(CitationStyleGenerator.class);
-    private static final CSLAdapter CSL_ADAPTER = new CSLAdapter();
+    private static final CSLAdapterPool CSL_ADAPTERS = new CSLAdapterPool();
 
     private CitationStyleGenerator() {
     }
@@ -50,6 +51,20 @@ public class CitationStyleGenerator {
         return generateCitations(Collections.singletonList(entry), style, outputFormat).stream().findFirst().orElse("");
     }
 
+    /**
+     * Initializes a CSL engine for the given style and format in advance, so that the first citation is generated
+     * quickly.
+     *
+     * @implNote Creating the engine takes some time, better call it from outside the main thread.
+     */
+    public static void prewarm(String style, CitationStyleOutputFormat outputFormat) {
+        try {
+            CSL_ADAPTERS.prewarm(style, outputFormat, 1);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.warn("Could not initialize citation style engine", e);
+        }
+    }
+
     /**
      * Generates the citation for multiple entries at once.
      *
@@ -57,7 +72,7 @@ public class CitationStyleGenerator {
      */
     public static List<String> generateCitations(List<BibEntry> bibEntries, String style, CitationStyleOutputFormat outputFormat) {
         try {
-            return CSL_ADAPTER.makeBibliography(bibEntries, style, outputFormat);
+            return CSL_ADAPTERS.makeBibliography(bibEntries, style, outputFormat);
         } catch (IllegalArgumentException ignored) {
             LOGGER.error("Could not generate BibEntry citation. The CSL engine could not create a preview for your item.", ignored);
             return Collections.singletonList(Localization.lang("Cannot generate preview based on selected citation style."));
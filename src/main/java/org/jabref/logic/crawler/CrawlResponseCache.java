@@ -0,0 +1,116 @@
+package org.jabref.logic.crawler;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.util.io.FileNameCleaner;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.types.EntryTypeFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores the entries returned by a fetcher for a page of a query, so that crawling a study again does not have to
+ * request the page again.
+ * <p>
+ * Each page is stored in a JSON file in the given directory, thus the cache is shared with everyone working on the
+ * study repository.
+ */
+class CrawlResponseCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CrawlResponseCache.class);
+
+    private final Path directory;
+
+    CrawlResponseCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the stored entries of the given page, if the page was stored before
+     */
+    Optional<List<BibEntry>> get(String fetcherName, String query, int page) {
+        Path file = getFile(fetcherName, query, page);
+        if (Files.notExists(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonObject storedPage = JsonParser.parseString(Files.readString(file, StandardCharsets.UTF_8)).getAsJsonObject();
+            // Different queries may share a file name
+            if (!query.equals(storedPage.get("query").getAsString())) {
+                return Optional.empty();
+            }
+
+            List<BibEntry> entries = new ArrayList<>();
+            for (JsonElement entry : storedPage.getAsJsonArray("entries")) {
+                entries.add(fromJson(entry.getAsJsonObject()));
+            }
+            return Optional.of(entries);
+        } catch (IOException | JsonParseException | IllegalStateException | NullPointerException e) {
+            LOGGER.warn("Could not read cached page {} of {} for query {}", page, fetcherName, query, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the entries of the given page, replacing the ones stored before
+     */
+    void put(String fetcherName, String query, int page, List<BibEntry> entries) {
+        JsonArray storedEntries = new JsonArray();
+        entries.forEach(entry -> storedEntries.add(toJson(entry)));
+
+        JsonObject storedPage = new JsonObject();
+        storedPage.addProperty("query", query);
+        storedPage.addProperty("page", page);
+        storedPage.add("entries", storedEntries);
+
+        Path file = getFile(fetcherName, query, page);
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, storedPage.toString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache page {} of {} for query {}", page, fetcherName, query, e);
+        }
+    }
+
+    private Path getFile(String fetcherName, String query, int page) {
+        return directory.resolve(FileNameCleaner.cleanFileName(fetcherName))
+                        .resolve(Integer.toHexString(query.hashCode()))
+                        .resolve(page + ".json");
+    }
+
+    private static JsonObject toJson(BibEntry entry) {
+        JsonObject fields = new JsonObject();
+        for (Field field : entry.getFields()) {
+            entry.getField(field).ifPresent(value -> fields.addProperty(field.getName(), value));
+        }
+
+        JsonObject json = new JsonObject();
+        json.addProperty("type", entry.getType().getName());
+        json.add("fields", fields);
+        return json;
+    }
+
+    private static BibEntry fromJson(JsonObject json) {
+        BibEntry entry = new BibEntry(EntryTypeFactory.parse(json.get("type").getAsString()));
+        for (Map.Entry<String, JsonElement> field : json.getAsJsonObject("fields").entrySet()) {
+            entry.setField(FieldFactory.parseField(field.getKey()), field.getValue().getAsString());
+        }
+        return entry;
+    }
+}
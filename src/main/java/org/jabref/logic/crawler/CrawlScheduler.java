@@ -0,0 +1,161 @@
+package org.jabref.logic.crawler;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.logic.importer.FetcherException;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Runs the requests of a crawl on a bounded number of threads while respecting the limits of each fetcher: at most
+ * {@link FetcherLimits#getMaxConcurrentRequests()} requests of a fetcher run at the same time, and at most
+ * {@link FetcherLimits#getRequestsPerSecond()} requests of a fetcher are started per second.
+ * <p>
+ * The requests of each fetcher are queued and only handed to a thread once the limits of the fetcher allow them to
+ * start. Thus, no thread waits for a limit and a throttled fetcher does not delay the requests of other fetchers.
+ */
+class CrawlScheduler implements AutoCloseable {
+
+    public static final FetcherLimits DEFAULT_LIMITS = new FetcherLimits(2, 2);
+
+    private static final int NUMBER_OF_THREADS = 8;
+
+    private final ScheduledExecutorService executor;
+    private final FetcherLimits defaultLimits;
+    private final Map<String, FetcherLimits> limitsOfFetcher;
+    private final Map<String, FetcherQueue> queues = new ConcurrentHashMap<>();
+
+    CrawlScheduler() {
+        this(DEFAULT_LIMITS, Map.of());
+    }
+
+    /**
+     * @param defaultLimits   the limits of all fetchers not contained in limitsOfFetcher
+     * @param limitsOfFetcher the limits of fetchers by their name
+     */
+    CrawlScheduler(FetcherLimits defaultLimits, Map<String, FetcherLimits> limitsOfFetcher) {
+        this.defaultLimits = Objects.requireNonNull(defaultLimits);
+        this.limitsOfFetcher = Map.copyOf(limitsOfFetcher);
+        this.executor = Executors.newScheduledThreadPool(NUMBER_OF_THREADS,
+                new ThreadFactoryBuilder().setNameFormat("crawler-%d").setDaemon(true).build());
+    }
+
+    /**
+     * Runs the given request of the given fetcher as soon as the limits of the fetcher allow it. A {@link
+     * FetcherException} of the request completes the future exceptionally.
+     */
+    <T> CompletableFuture<T> schedule(String fetcherName, FetcherRequest<T> request) {
+        FetcherQueue queue = queues.computeIfAbsent(fetcherName,
+                name -> new FetcherQueue(limitsOfFetcher.getOrDefault(name, defaultLimits)));
+        CompletableFuture<T> result = new CompletableFuture<>();
+        queue.add(() -> {
+            try {
+                result.complete(request.perform());
+            } catch (FetcherException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    interface FetcherRequest<T> {
+        T perform() throws FetcherException;
+    }
+
+    static class FetcherLimits {
+
+        private final int maxConcurrentRequests;
+        private final double requestsPerSecond;
+
+        FetcherLimits(int maxConcurrentRequests, double requestsPerSecond) {
+            if ((maxConcurrentRequests < 1) || (requestsPerSecond <= 0)) {
+                throw new IllegalArgumentException("A fetcher has to be allowed at least one request");
+            }
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+    }
+
+    /**
+     * The waiting requests of a fetcher. Requests are started whenever one is added, a running one finishes, or the
+     * rate limit allows the next one to start.
+     */
+    private class FetcherQueue {
+
+        private final int maxConcurrentRequests;
+        private final long intervalInNanos;
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int running;
+        private long nextStart = System.nanoTime();
+        private boolean dispatchScheduled;
+
+        FetcherQueue(FetcherLimits limits) {
+            this.maxConcurrentRequests = limits.getMaxConcurrentRequests();
+            this.intervalInNanos = (long) (TimeUnit.SECONDS.toNanos(1) / limits.getRequestsPerSecond());
+        }
+
+        synchronized void add(Runnable request) {
+            waiting.add(request);
+            dispatch();
+        }
+
+        private synchronized void dispatch() {
+            if (executor.isShutdown()) {
+                return;
+            }
+            while ((running < maxConcurrentRequests) && !waiting.isEmpty()) {
+                long now = System.nanoTime();
+                if (now < nextStart) {
+                    // Try again as soon as the rate limit allows the next request
+                    if (!dispatchScheduled) {
+                        dispatchScheduled = true;
+                        executor.schedule(this::scheduledDispatch, nextStart - now, TimeUnit.NANOSECONDS);
+                    }
+                    return;
+                }
+                nextStart = now + intervalInNanos;
+                running++;
+                Runnable request = waiting.poll();
+                executor.execute(() -> {
+                    try {
+                        request.run();
+                    } finally {
+                        finished();
+                    }
+                });
+            }
+        }
+
+        private synchronized void scheduledDispatch() {
+            dispatchScheduled = false;
+            dispatch();
+        }
+
+        private synchronized void finished() {
+            running--;
+            dispatch();
+        }
+    }
+}
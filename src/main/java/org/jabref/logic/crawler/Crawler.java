@@ -21,6 +21,7 @@ import org.eclipse.jgit.api.errors.GitAPIException;
  *
  * It composes a StudyRepository for repository management,
  * and a StudyFetcher that manages the crawling over the selected E-Libraries.
+ * Responses of the E-Libraries are cached in the repository, thus crawling again only requests pages which may have changed.
  */
 public class Crawler {
     private final StudyRepository studyRepository;
@@ -36,7 +37,7 @@ public class Crawler {
         Path studyRepositoryRoot = studyDefinitionFile.getParent();
         studyRepository = new StudyRepository(studyRepositoryRoot, gitHandler, importFormatPreferences, fileUpdateMonitor, savePreferences, timestampPreferences, bibEntryTypesManager);
         StudyDatabaseToFetcherConverter studyDatabaseToFetcherConverter = new StudyDatabaseToFetcherConverter(studyRepository.getActiveLibraryEntries(), importFormatPreferences);
-        this.studyFetcher = new StudyFetcher(studyDatabaseToFetcherConverter.getActiveFetchers(), studyRepository.getSearchQueryStrings());
+        this.studyFetcher = new StudyFetcher(studyDatabaseToFetcherConverter.getActiveFetchers(), studyRepository.getSearchQueryStrings(), new CrawlResponseCache(studyRepository.getResponseCacheDirectory()));
     }
 
     /**
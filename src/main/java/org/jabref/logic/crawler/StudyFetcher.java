@@ -2,10 +2,13 @@ package org.jabref.logic.crawler;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.PagedSearchBasedFetcher;
 import org.jabref.logic.importer.SearchBasedFetcher;
 import org.jabref.model.database.BibDatabase;
@@ -19,6 +22,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Delegates the search of the provided set of targeted E-Libraries with the provided queries to the E-Library specific fetchers,
  * and aggregates the results returned by the fetchers by query and E-Library.
+ * <p>
+ * The requests are run by a {@link CrawlScheduler}, which limits the load on each E-Library. The pages of paged fetchers
+ * are stored in a {@link CrawlResponseCache}: a full page is not requested again, whereas the last page of a query is
+ * requested again on each crawl, since new results may have been added.
  */
 class StudyFetcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyFetcher.class);
@@ -26,10 +33,18 @@ class StudyFetcher {
 
     private final List<SearchBasedFetcher> activeFetchers;
     private final List<String> searchQueries;
+    private final CrawlResponseCache responseCache;
+    private final CrawlScheduler.FetcherLimits defaultLimits;
 
-    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries) throws IllegalArgumentException {
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries, CrawlResponseCache responseCache) throws IllegalArgumentException {
+        this(activeFetchers, searchQueries, responseCache, CrawlScheduler.DEFAULT_LIMITS);
+    }
+
+    StudyFetcher(List<SearchBasedFetcher> activeFetchers, List<String> searchQueries, CrawlResponseCache responseCache, CrawlScheduler.FetcherLimits defaultLimits) throws IllegalArgumentException {
         this.searchQueries = searchQueries;
         this.activeFetchers = activeFetchers;
+        this.responseCache = responseCache;
+        this.defaultLimits = defaultLimits;
     }
 
     /**
@@ -38,43 +53,76 @@ class StudyFetcher {
      * If any library API is not available, its corresponding entry is missing from the internal map.
      */
     public List<QueryResult> crawl() {
-        return searchQueries.parallelStream()
-                            .map(this::getQueryResult)
-                            .collect(Collectors.toList());
+        try (CrawlScheduler scheduler = new CrawlScheduler(defaultLimits, Map.of())) {
+            // All requests are scheduled first, so that they run concurrently
+            List<List<CompletableFuture<Optional<FetchResult>>>> resultsPerQuery =
+                    searchQueries.stream()
+                                 .map(searchQuery -> activeFetchers.stream()
+                                                                   .map(fetcher -> performSearchOnQueryForFetcher(scheduler, searchQuery, fetcher))
+                                                                   .collect(Collectors.toList()))
+                                 .collect(Collectors.toList());
+
+            List<QueryResult> results = new ArrayList<>();
+            for (int i = 0; i < searchQueries.size(); i++) {
+                List<FetchResult> fetchResults = resultsPerQuery.get(i).stream()
+                                                                .map(CompletableFuture::join)
+                                                                .flatMap(Optional::stream)
+                                                                .collect(Collectors.toList());
+                results.add(new QueryResult(searchQueries.get(i), fetchResults));
+            }
+            return results;
+        }
     }
 
-    private QueryResult getQueryResult(String searchQuery) {
-        return new QueryResult(searchQuery, performSearchOnQuery(searchQuery));
+    private CompletableFuture<Optional<FetchResult>> performSearchOnQueryForFetcher(CrawlScheduler scheduler, String searchQuery, SearchBasedFetcher fetcher) {
+        CompletableFuture<List<BibEntry>> fetchResult;
+        if (fetcher instanceof PagedSearchBasedFetcher) {
+            fetchResult = performPagedSearch(scheduler, searchQuery, (PagedSearchBasedFetcher) fetcher);
+        } else {
+            fetchResult = scheduler.schedule(fetcher.getName(), () -> fetcher.performSearch(searchQuery));
+        }
+        return fetchResult.handle((entries, exception) -> {
+            if (exception != null) {
+                Throwable cause = (exception instanceof CompletionException) ? exception.getCause() : exception;
+                LOGGER.warn(String.format("%s API request failed", fetcher.getName()), cause);
+                return Optional.empty();
+            }
+            return Optional.of(new FetchResult(fetcher.getName(), new BibDatabase(entries)));
+        });
     }
 
     /**
-     * Queries all Databases on the given searchQuery.
-     *
-     * @param searchQuery The query the search is performed for.
-     * @return Mapping of each fetcher by name and all their retrieved publications as a BibDatabase
+     * Requests the first page; only if it is full, the further pages are requested concurrently
      */
-    private List<FetchResult> performSearchOnQuery(String searchQuery) {
-        return activeFetchers.parallelStream()
-                             .map(fetcher -> performSearchOnQueryForFetcher(searchQuery, fetcher))
-                             .filter(Objects::nonNull)
-                             .collect(Collectors.toList());
+    private CompletableFuture<List<BibEntry>> performPagedSearch(CrawlScheduler scheduler, String searchQuery, PagedSearchBasedFetcher fetcher) {
+        int pageSize = fetcher.getPageSize();
+        int pages = (int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / pageSize);
+        return getPage(scheduler, searchQuery, fetcher, 0).thenCompose(firstPage -> {
+            if (firstPage.size() < pageSize) {
+                return CompletableFuture.completedFuture(firstPage);
+            }
+
+            List<CompletableFuture<List<BibEntry>>> furtherPages = IntStream.range(1, pages)
+                                                                            .mapToObj(page -> getPage(scheduler, searchQuery, fetcher, page))
+                                                                            .collect(Collectors.toList());
+            return CompletableFuture.allOf(furtherPages.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+                List<BibEntry> entries = new ArrayList<>(firstPage);
+                furtherPages.forEach(page -> entries.addAll(page.join()));
+                return entries;
+            });
+        });
     }
 
-    private FetchResult performSearchOnQueryForFetcher(String searchQuery, SearchBasedFetcher fetcher) {
-        try {
-            List<BibEntry> fetchResult = new ArrayList<>();
-            if (fetcher instanceof PagedSearchBasedFetcher) {
-                int pages = ((int) Math.ceil(((double) MAX_AMOUNT_OF_RESULTS_PER_FETCHER) / ((PagedSearchBasedFetcher) fetcher).getPageSize()));
-                for (int page = 0; page < pages; page++) {
-                    fetchResult.addAll(((PagedSearchBasedFetcher) fetcher).performSearchPaged(searchQuery, page).getContent());
-                }
-            } else {
-                fetchResult = fetcher.performSearch(searchQuery);
-            }
-            return new FetchResult(fetcher.getName(), new BibDatabase(fetchResult));
-        } catch (FetcherException e) {
-            LOGGER.warn(String.format("%s API request failed", fetcher.getName()), e);
-            return null;
+    private CompletableFuture<List<BibEntry>> getPage(CrawlScheduler scheduler, String searchQuery, PagedSearchBasedFetcher fetcher, int page) {
+        Optional<List<BibEntry>> cachedPage = responseCache.get(fetcher.getName(), searchQuery, page);
+        if (cachedPage.isPresent() && (cachedPage.get().size() >= fetcher.getPageSize())) {
+            return CompletableFuture.completedFuture(cachedPage.get());
         }
+
+        return scheduler.schedule(fetcher.getName(), () -> {
+            List<BibEntry> entries = new ArrayList<>(fetcher.performSearchPaged(searchQuery, page).getContent());
+            responseCache.put(fetcher.getName(), searchQuery, page, entries);
+            return entries;
+        });
     }
 }
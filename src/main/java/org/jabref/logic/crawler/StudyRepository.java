@@ -44,6 +44,7 @@ import org.slf4j.LoggerFactory;
 class StudyRepository {
     // Tests work with study.bib
     private static final String STUDY_DEFINITION_FILE_NAME = "study.yml";
+    private static final String RESPONSE_CACHE_DIRECTORY_NAME = ".crawl-cache";
     private static final Logger LOGGER = LoggerFactory.getLogger(StudyRepository.class);
     private static final Pattern MATCHCOLON = Pattern.compile(":");
     private static final Pattern MATCHILLEGALCHARACTERS = Pattern.compile("[^A-Za-z0-9_.\\s=-]");
@@ -120,6 +121,13 @@ class StudyRepository {
         return OpenDatabase.loadDatabase(getPathToStudyResultFile(), importFormatPreferences, timestampPreferences, fileUpdateMonitor).getDatabaseContext();
     }
 
+    /**
+     * Returns the directory the responses of the E-Libraries are cached in, so that they are shared with the study
+     */
+    public Path getResponseCacheDirectory() {
+        return repositoryPath.resolve(RESPONSE_CACHE_DIRECTORY_NAME);
+    }
+
     /**
      * The study definition file contains all the definitions of a study. This method extracts this study from the yaml study definition file
      *
@@ -0,0 +1,182 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.identifier.DOI;
+import org.jabref.model.entry.identifier.ISBN;
+
+/**
+ * Finds the pairs of entries which are worth a detailed check by {@link DuplicateCheck}.
+ * <p>
+ * Comparing all pairs of entries is quadratic in the number of entries. Thus, the entries are put into blocks first and
+ * only entries sharing at least one block are paired up. An entry is put into the blocks of
+ * <ul>
+ *     <li>each of its identifiers (DOI, ISBN, eprint, PMID),</li>
+ *     <li>each MinHash band of its normalized title (similar titles share at least one band with high probability), and</li>
+ *     <li>the last name of its first author together with its year.</li>
+ * </ul>
+ * Except for identifiers, blocks are separated by entry type, because {@link DuplicateCheck} never considers entries
+ * of different types as duplicates. Entries having neither an identifier, a title nor an author-year combination are
+ * paired with each other only.
+ */
+public class DuplicateCandidateFinder {
+
+    private static final int SHINGLE_LENGTH = 3;
+    private static final int BANDS = 8;
+    private static final int ROWS_PER_BAND = 3;
+    private static final int[] SEEDS = new int[BANDS * ROWS_PER_BAND];
+
+    static {
+        for (int i = 0; i < SEEDS.length; i++) {
+            SEEDS[i] = mix(i + 1);
+        }
+    }
+
+    /**
+     * Returns the candidate pairs. Each pair is contained exactly once, ordered by the positions of the entries in the
+     * given list.
+     */
+    public List<List<BibEntry>> findCandidatePairs(List<BibEntry> entries) {
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Set<String> keys = getBlockingKeys(entries.get(i));
+            for (String key : keys) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // Each pair is encoded as one primitive long, sorting them keeps the order of the pair scan and puts pairs
+        // sharing several blocks next to each other
+        long[] pairs = new long[16];
+        int numberOfPairs = 0;
+        for (List<Integer> block : blocks.values()) {
+            for (int i = 0; i < (block.size() - 1); i++) {
+                for (int j = i + 1; j < block.size(); j++) {
+                    if (numberOfPairs == pairs.length) {
+                        pairs = Arrays.copyOf(pairs, 2 * pairs.length);
+                    }
+                    pairs[numberOfPairs++] = ((long) block.get(i) << 32) | block.get(j);
+                }
+            }
+        }
+        Arrays.sort(pairs, 0, numberOfPairs);
+
+        List<List<BibEntry>> result = new ArrayList<>();
+        for (int i = 0; i < numberOfPairs; i++) {
+            long pair = pairs[i];
+            if ((i == 0) || (pair != pairs[i - 1])) {
+                result.add(List.of(entries.get((int) (pair >>> 32)), entries.get((int) pair)));
+            }
+        }
+        return result;
+    }
+
+    Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+
+        for (Field field : FieldFactory.getIdentifierFieldNames()) {
+            entry.getField(field).ifPresent(value -> keys.add("id:" + field.getName() + ':' + value));
+        }
+        entry.getDOI().map(DOI::getDOI).ifPresent(doi -> keys.add("doi:" + doi.toLowerCase(Locale.ROOT)));
+        entry.getISBN().map(ISBN::getNormalized).ifPresent(isbn -> keys.add("isbn:" + isbn.toLowerCase(Locale.ROOT)));
+
+        String typePrefix = entry.getType().getName() + ':';
+
+        String title = normalize(entry.getLatexFreeField(StandardField.TITLE).orElse(""));
+        if (!title.isEmpty()) {
+            int[] signature = getMinHashSignature(title);
+            for (int band = 0; band < BANDS; band++) {
+                StringBuilder key = new StringBuilder(typePrefix).append("title").append(band);
+                for (int row = 0; row < ROWS_PER_BAND; row++) {
+                    key.append(':').append(signature[(band * ROWS_PER_BAND) + row]);
+                }
+                keys.add(key.toString());
+            }
+        }
+
+        Optional<String> year = entry.getFieldOrAlias(StandardField.YEAR);
+        Optional<String> firstAuthor = getFirstAuthorLastName(entry);
+        if (year.isPresent() && firstAuthor.isPresent()) {
+            keys.add(typePrefix + "author:" + firstAuthor.get() + ':' + year.get().trim());
+        }
+
+        if (keys.isEmpty()) {
+            keys.add(typePrefix + "unblocked");
+        }
+        return keys;
+    }
+
+    private static Optional<String> getFirstAuthorLastName(BibEntry entry) {
+        Optional<String> authors = entry.getLatexFreeField(StandardField.AUTHOR)
+                                        .or(() -> entry.getLatexFreeField(StandardField.EDITOR));
+        if (authors.isEmpty()) {
+            return Optional.empty();
+        }
+
+        AuthorList authorList = AuthorList.parse(authors.get());
+        if (authorList.isEmpty()) {
+            return Optional.empty();
+        }
+        return authorList.getAuthor(0).getLast()
+                         .map(DuplicateCandidateFinder::normalize)
+                         .filter(lastName -> !lastName.isEmpty());
+    }
+
+    /**
+     * Lower-cases the given text and removes all characters except letters, digits and single spaces
+     */
+    private static String normalize(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        boolean lastWasSpace = true;
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                result.append(c);
+                lastWasSpace = false;
+            } else if (Character.isWhitespace(c) && !lastWasSpace) {
+                result.append(' ');
+                lastWasSpace = true;
+            }
+        }
+        return result.toString().trim();
+    }
+
+    private static int[] getMinHashSignature(String text) {
+        int[] signature = new int[SEEDS.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int shingles = Math.max(1, (text.length() - SHINGLE_LENGTH) + 1);
+        for (int start = 0; start < shingles; start++) {
+            int shingleHash = text.substring(start, Math.min(text.length(), start + SHINGLE_LENGTH)).hashCode();
+            for (int i = 0; i < SEEDS.length; i++) {
+                signature[i] = Math.min(signature[i], mix(shingleHash ^ SEEDS[i]));
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Finalization step of MurmurHash3 to spread the bits of the given value
+     */
+    private static int mix(int value) {
+        int h = value;
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
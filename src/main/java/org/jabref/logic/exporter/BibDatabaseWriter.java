@@ -1,9 +1,11 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -19,6 +21,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.jabref.logic.bibtex.FieldWriterPreferences;
 import org.jabref.logic.bibtex.comparator.BibtexStringComparator;
 import org.jabref.logic.bibtex.comparator.CrossRefEntryComparator;
 import org.jabref.logic.bibtex.comparator.FieldComparator;
@@ -187,7 +190,16 @@ public abstract class BibDatabaseWriter {
 
         // Write database entries.
         List<BibEntry> sortedEntries = getSortedEntries(bibDatabaseContext, entries, preferences);
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData());
+        SerializationCache serializationCache = bibDatabaseContext.getSerializationCache();
+        Object serializationSettings = preferences.shouldSaveIncrementally() ? getSerializationSettings(bibDatabaseContext) : null;
+        List<BibEntry> entriesToClean = sortedEntries;
+        if (preferences.shouldSaveIncrementally()) {
+            // Entries having a valid cached serialization were cleaned up by the save which cached them and did not change since then
+            entriesToClean = sortedEntries.stream()
+                                          .filter(entry -> serializationCache.get(entry, serializationSettings).isEmpty())
+                                          .collect(Collectors.toList());
+        }
+        List<FieldChange> saveActionChanges = applySaveActions(entriesToClean, bibDatabaseContext.getMetaData());
         saveActionsFieldChanges.addAll(saveActionChanges);
         if (preferences.getCitationKeyPatternPreferences().shouldGenerateCiteKeysBeforeSaving()) {
             List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
@@ -204,7 +216,15 @@ public abstract class BibDatabaseWriter {
                 entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
             }
 
-            writeEntry(entry, bibDatabaseContext.getMode());
+            if (preferences.shouldSaveIncrementally()) {
+                writeEntry(entry, bibDatabaseContext.getMode(), serializationCache, serializationSettings);
+            } else {
+                writeEntry(entry, bibDatabaseContext.getMode());
+            }
+        }
+
+        if (preferences.shouldSaveIncrementally()) {
+            serializationCache.retainAll(bibDatabaseContext.getDatabase().getEntries());
         }
 
         if (preferences.getSaveType() != SavePreferences.DatabaseSaveType.PLAIN_BIBTEX) {
@@ -223,7 +243,52 @@ public abstract class BibDatabaseWriter {
 
     protected abstract void writePrelogue(BibDatabaseContext bibDatabaseContext, Charset encoding) throws IOException;
 
-    protected abstract void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException;
+    protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+        writeEntry(entry, mode, writer);
+    }
+
+    /**
+     * Writes the serialization of the given entry to the given writer
+     */
+    protected abstract void writeEntry(BibEntry entry, BibDatabaseMode mode, Writer out) throws IOException;
+
+    /**
+     * Writes the cached serialization of the given entry if it is still valid. Otherwise, the entry is serialized and
+     * the serialization is cached for the next save.
+     */
+    private void writeEntry(BibEntry entry, BibDatabaseMode mode, SerializationCache serializationCache, Object serializationSettings) throws IOException {
+        Optional<String> cachedSerialization = serializationCache.get(entry, serializationSettings);
+        if (cachedSerialization.isPresent()) {
+            writer.write(cachedSerialization.get());
+            return;
+        }
+
+        // Read the count before serializing, so that a concurrent modification invalidates the cached serialization
+        int modificationCount = entry.getModificationCount();
+        StringWriter serialization = new StringWriter();
+        writeEntry(entry, mode, serialization);
+        writer.write(serialization.toString());
+        serializationCache.put(entry, modificationCount, serializationSettings, serialization.toString());
+    }
+
+    /**
+     * Returns everything besides the entry itself which influences the serialization of an entry. Cached
+     * serializations are only reused if these settings did not change.
+     */
+    private Object getSerializationSettings(BibDatabaseContext bibDatabaseContext) {
+        BibDatabaseMode mode = bibDatabaseContext.getMode();
+        FieldWriterPreferences fieldWriterPreferences = preferences.getFieldWriterPreferences();
+        return Arrays.asList(
+                getClass(),
+                mode,
+                preferences.shouldReformatFile(),
+                bibDatabaseContext.getMetaData().getSaveActions(),
+                fieldWriterPreferences.isResolveStringsAllFields(),
+                fieldWriterPreferences.getDoNotResolveStringsFor(),
+                fieldWriterPreferences.getLineLength(),
+                fieldWriterPreferences.getFieldContentFormatterPreferences().getNonWrappableFields(),
+                new ArrayList<>(entryTypesManager.getAllTypes(mode)));
+    }
 
     protected abstract void writeEpilogue(String epilogue) throws IOException;
 
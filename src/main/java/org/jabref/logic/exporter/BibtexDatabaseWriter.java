@@ -128,8 +128,8 @@ public class BibtexDatabaseWriter extends BibDatabaseWriter {
     }
 
     @Override
-    protected void writeEntry(BibEntry entry, BibDatabaseMode mode) throws IOException {
+    protected void writeEntry(BibEntry entry, BibDatabaseMode mode, Writer out) throws IOException {
         BibEntryWriter bibtexEntryWriter = new BibEntryWriter(new FieldWriter(preferences.getFieldWriterPreferences()), entryTypesManager);
-        bibtexEntryWriter.write(entry, writer, mode, preferences.shouldReformatFile());
+        bibtexEntryWriter.write(entry, out, mode, preferences.shouldReformatFile());
     }
 }
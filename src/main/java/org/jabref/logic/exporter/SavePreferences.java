@@ -20,6 +20,7 @@ public class SavePreferences {
     private boolean makeBackup;
     private DatabaseSaveType saveType;
     private boolean takeMetadataSaveOrderInAccount;
+    private boolean saveIncrementally;
     private final FieldWriterPreferences fieldWriterPreferences;
     private final CitationKeyPatternPreferences citationKeyPatternPreferences;
 
@@ -105,6 +106,21 @@ public class SavePreferences {
         return this;
     }
 
+    public boolean shouldSaveIncrementally() {
+        return saveIncrementally;
+    }
+
+    /**
+     * Reuse the serializations of entries which did not change since the last save of the same database. See
+     * {@link SerializationCache}.
+     *
+     * @param newSaveIncrementally whether unchanged entries should be taken from the cache
+     */
+    public SavePreferences withSaveIncrementally(Boolean newSaveIncrementally) {
+        this.saveIncrementally = newSaveIncrementally;
+        return this;
+    }
+
     public Charset getEncoding() {
         return encoding;
     }
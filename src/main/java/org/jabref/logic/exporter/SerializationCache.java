@@ -0,0 +1,84 @@
+package org.jabref.logic.exporter;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Remembers the serialization of each entry written by the last save of a database.
+ * <p>
+ * A cached serialization is valid as long as the {@link BibEntry#getModificationCount() modification count} of the
+ * entry did not change and the database is written with the same settings (database mode, save actions, field
+ * formatting, entry types). Thus, a save after editing a single entry only has to serialize (and run the save actions
+ * on) that entry.
+ * <p>
+ * Saves and backups may run concurrently, therefore all methods are synchronized.
+ */
+public class SerializationCache {
+
+    private final Map<BibEntry, CachedSerialization> serializations = new IdentityHashMap<>();
+    private Object settings;
+
+    /**
+     * Returns the cached serialization of the given entry, if the entry has not been modified since it was cached and
+     * the given settings equal the settings used for caching.
+     */
+    public synchronized Optional<String> get(BibEntry entry, Object settings) {
+        if (!Objects.equals(this.settings, settings)) {
+            return Optional.empty();
+        }
+        CachedSerialization cached = serializations.get(entry);
+        if ((cached == null) || (cached.modificationCount != entry.getModificationCount())) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.serialization);
+    }
+
+    /**
+     * Caches the serialization of the given entry.
+     *
+     * @param modificationCount the modification count of the entry read <em>before</em> serializing it. This way, a
+     *                          concurrent modification during the serialization invalidates the cached value.
+     */
+    public synchronized void put(BibEntry entry, int modificationCount, Object settings, String serialization) {
+        if (!Objects.equals(this.settings, settings)) {
+            serializations.clear();
+            this.settings = settings;
+        }
+        serializations.put(entry, new CachedSerialization(modificationCount, serialization));
+    }
+
+    /**
+     * Drops the serializations of all entries not contained in the given collection (e.g., removed entries)
+     */
+    public synchronized void retainAll(Collection<BibEntry> entries) {
+        Set<BibEntry> toRetain = Collections.newSetFromMap(new IdentityHashMap<>());
+        toRetain.addAll(entries);
+        serializations.keySet().retainAll(toRetain);
+    }
+
+    public synchronized void clear() {
+        serializations.clear();
+        settings = null;
+    }
+
+    synchronized int size() {
+        return serializations.size();
+    }
+
+    private static class CachedSerialization {
+        private final int modificationCount;
+        private final String serialization;
+
+        CachedSerialization(int modificationCount, String serialization) {
+            this.modificationCount = modificationCount;
+            this.serialization = serialization;
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package org.jabref.logic.formatter.casechanger;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
 import org.jabref.logic.cleanup.Formatter;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.protectedterms.ProtectedTermsLoader;
-import org.jabref.logic.util.strings.StringLengthComparator;
+import org.jabref.logic.util.strings.MultiStringMatcher;
 
 /**
  * Adds {} brackets around acronyms, month names and countries to preserve their case.
@@ -15,21 +16,53 @@ import org.jabref.logic.util.strings.StringLengthComparator;
  */
 public class ProtectTermsFormatter extends Formatter {
 
+    private static final String TERM_PREFIXES = "- /[(}\"";
+
     private final ProtectedTermsLoader protectedTermsLoader;
 
     public ProtectTermsFormatter(ProtectedTermsLoader protectedTermsLoader) {
         this.protectedTermsLoader = protectedTermsLoader;
     }
 
-    private String format(String text, List<String> listOfWords) {
-        String result = text;
-        listOfWords.sort(new StringLengthComparator());
-        // For each word in the list
-        for (String listOfWord : listOfWords) {
-            // Add {} if the character before is a space, -, /, (, [, ", or } or if it is at the start of the string but not if it is followed by a }
-            result = result.replaceAll("(^|[- /\\[(}\"])" + listOfWord + "($|[^a-zA-Z}])", "$1\\{" + listOfWord + "\\}$2");
+    /**
+     * Adds {} around each occurrence of a term if the character before is a space, -, /, (, [, ", or } or if it is at
+     * the start of the string, and if it is not followed by a letter or a }. Where occurrences overlap, the leftmost and
+     * then the longest one is protected.
+     */
+    private static String format(String text, MultiStringMatcher matcher) {
+        List<MultiStringMatcher.Match> matches = matcher.findAll(text);
+        matches.removeIf(match -> !isProtectable(text, match));
+        if (matches.isEmpty()) {
+            return text;
+        }
+        matches.sort(Comparator.comparingInt(MultiStringMatcher.Match::getStart)
+                               .thenComparing(Comparator.comparingInt(MultiStringMatcher.Match::getEnd).reversed()));
+
+        StringBuilder result = new StringBuilder(text.length() + (2 * matches.size()));
+        int copiedUntil = 0;
+        for (MultiStringMatcher.Match match : matches) {
+            if (match.getStart() < copiedUntil) {
+                // Overlaps a term protected already
+                continue;
+            }
+            result.append(text, copiedUntil, match.getStart())
+                  .append('{')
+                  .append(text, match.getStart(), match.getEnd())
+                  .append('}');
+            copiedUntil = match.getEnd();
+        }
+        return result.append(text, copiedUntil, text.length()).toString();
+    }
+
+    private static boolean isProtectable(String text, MultiStringMatcher.Match match) {
+        if ((match.getStart() > 0) && (TERM_PREFIXES.indexOf(text.charAt(match.getStart() - 1)) < 0)) {
+            return false;
+        }
+        if (match.getEnd() == text.length()) {
+            return true;
         }
-        return result;
+        char next = text.charAt(match.getEnd());
+        return !(((next >= 'a') && (next <= 'z')) || ((next >= 'A') && (next <= 'Z')) || (next == '}'));
     }
 
     @Override
@@ -38,7 +71,7 @@ public class ProtectTermsFormatter extends Formatter {
         if (text.isEmpty()) {
             return text;
         }
-        return this.format(text, this.protectedTermsLoader.getProtectedTerms());
+        return format(text, this.protectedTermsLoader.getProtectedTermsMatcher());
     }
 
     @Override
@@ -321,9 +321,9 @@ public class AuthorListParser {
             // The last part is a small string in complete upper case, so interpret it as initial of the first name
             // This is the case for example in "Smith SH" which we think of as lastname=Smith and firstname=SH
             // The length < 5 constraint should allow for "Smith S.H." as input
-            return Optional.of(new Author(lastPart, lastPart, vonPart, firstPart, jrPart));
+            return Optional.of(Author.intern(new Author(lastPart, lastPart, vonPart, firstPart, jrPart)));
         } else {
-            return Optional.of(new Author(firstPart, firstAbbr, vonPart, lastPart, jrPart));
+            return Optional.of(Author.intern(new Author(firstPart, firstAbbr, vonPart, lastPart, jrPart)));
         }
     }
 
@@ -1,12 +1,19 @@
 package org.jabref.logic.importer;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.importer.fileformat.BibTeXMLImporter;
 import org.jabref.logic.importer.fileformat.BiblioscapeImporter;
@@ -177,56 +184,113 @@ public class ImportFormatReader {
             // Ignored
         }
 
-        UnknownFormatImport unknownFormatImport = importUnknownFormat(importer -> importer.importDatabase(filePath, importFormatPreferences.getEncoding()), importer -> importer.isRecognizedFormat(filePath, importFormatPreferences.getEncoding()));
+        Sample sample;
+        try {
+            sample = Sample.of(filePath, importFormatPreferences.getEncoding());
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+
+        UnknownFormatImport unknownFormatImport = importUnknownFormat(sample, importer -> importer.importDatabase(filePath, importFormatPreferences.getEncoding()), importer -> importer.isRecognizedFormat(filePath, importFormatPreferences.getEncoding()));
         unknownFormatImport.parserResult.setFile(filePath.toFile());
         return unknownFormatImport;
     }
 
     /**
-     * Tries to import entries by iterating through the available import filters,
-     * and keeping the import that seems the most promising
+     * Tries to import entries by checking the available import filters against a sample of the source,
+     * and keeping the import that seems the most promising.
+     * <p>
+     * All importers are checked in parallel: text based importers check whether they recognize the sample and import
+     * it, the others check the source itself. The importers are ranked by the number of entries found in the sample,
+     * and only the best ranked importers import the whole source. Lower ranked importers only get their turn if none of
+     * them finds an entry.
      *
+     * @param sample             the beginning of the source
      * @param importDatabase     the function to import the entries with a formatter
      * @param isRecognizedFormat the function to check whether the source is in the correct format for an importer
      * @return an UnknownFormatImport with the imported entries and metadata
      * @throws ImportException if the import fails (for example, if no suitable importer is found)
      */
-    private UnknownFormatImport importUnknownFormat(CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
-        // stores ref to best result, gets updated at the next loop
-        List<BibEntry> bestResult = null;
-        int bestResultCount = 0;
-        String bestFormatName = null;
-
-        // Cycle through all importers:
-        for (Importer imFo : getImportFormats()) {
-            try {
-                if (!isRecognizedFormat.apply(imFo)) {
+    private UnknownFormatImport importUnknownFormat(Sample sample, CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) throws ImportException {
+        List<Candidate> candidates = new ArrayList<>(getImportFormats()).parallelStream()
+                                                                         .map(importer -> check(importer, sample, importDatabase, isRecognizedFormat))
+                                                                         .flatMap(Optional::stream)
+                                                                         .collect(Collectors.toList());
+
+        // Candidates with the same rank keep the order of the importers
+        NavigableMap<Integer, List<Candidate>> candidatesByRank = candidates.stream()
+                                                                            .collect(Collectors.groupingBy(candidate -> candidate.entriesInSample,
+                                                                                    TreeMap::new, Collectors.toList()));
+
+        for (List<Candidate> candidatesOfRank : candidatesByRank.descendingMap().values()) {
+            // stores ref to best result, gets updated at the next loop
+            List<BibEntry> bestResult = null;
+            int bestResultCount = 0;
+            String bestFormatName = null;
+
+            for (Candidate candidate : candidatesOfRank) {
+                List<BibEntry> entries;
+                try {
+                    entries = candidate.entries.isPresent() ? candidate.entries.get() : importEntries(candidate.importer, importDatabase);
+                } catch (IOException ex) {
+                    // The import did not succeed. Go on.
                     continue;
                 }
 
-                ParserResult parserResult = importDatabase.apply(imFo);
-                List<BibEntry> entries = parserResult.getDatabase().getEntries();
+                if (entries.size() > bestResultCount) {
+                    bestResult = entries;
+                    bestResultCount = entries.size();
+                    bestFormatName = candidate.importer.getName();
+                }
+            }
 
-                BibDatabases.purgeEmptyEntries(entries);
-                int entryCount = entries.size();
+            if (bestResult != null) {
+                // we found something
+                ParserResult parserResult = new ParserResult(bestResult);
+                return new UnknownFormatImport(bestFormatName, parserResult);
+            }
+        }
 
-                if (entryCount > bestResultCount) {
-                    bestResult = entries;
-                    bestResultCount = entryCount;
-                    bestFormatName = imFo.getName();
+        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+    }
+
+    /**
+     * Checks whether the given importer recognizes the source. Text based importers are checked against the sample.
+     *
+     * @return the importer together with the number of entries it found in the sample, or an empty optional if it
+     * does not recognize the source
+     */
+    private static Optional<Candidate> check(Importer importer, Sample sample, CheckedFunction<Importer, ParserResult> importDatabase, CheckedFunction<Importer, Boolean> isRecognizedFormat) {
+        try {
+            if (!importer.isTextBased()) {
+                if (!isRecognizedFormat.apply(importer)) {
+                    return Optional.empty();
                 }
-            } catch (IOException ex) {
-                // The import did not succeed. Go on.
+                List<BibEntry> entries = importEntries(importer, importDatabase);
+                return Optional.of(new Candidate(importer, entries.size(), Optional.of(entries)));
+            }
+
+            if (!importer.isRecognizedFormat(sample.text)) {
+                return Optional.empty();
             }
+        } catch (IOException | RuntimeException ex) {
+            // The check did not succeed. Go on.
+            return Optional.empty();
         }
 
-        if (bestResult != null) {
-            // we found something
-            ParserResult parserResult = new ParserResult(bestResult);
-            return new UnknownFormatImport(bestFormatName, parserResult);
+        try {
+            List<BibEntry> entries = importEntries(importer, imFo -> imFo.importDatabase(sample.text));
+            return Optional.of(new Candidate(importer, entries.size(), sample.isComplete ? Optional.of(entries) : Optional.empty()));
+        } catch (IOException | RuntimeException ex) {
+            // The sample may end in the middle of a record (e.g., for XML), the whole source might still be fine
+            return Optional.of(new Candidate(importer, 0, Optional.empty()));
         }
+    }
 
-        throw new ImportException(Localization.lang("Could not find a suitable import format."));
+    private static List<BibEntry> importEntries(Importer importer, CheckedFunction<Importer, ParserResult> importDatabase) throws IOException {
+        List<BibEntry> entries = importDatabase.apply(importer).getDatabase().getEntries();
+        BibDatabases.purgeEmptyEntries(entries);
+        return entries;
     }
 
     @FunctionalInterface
@@ -235,6 +299,66 @@ public class ImportFormatReader {
         R apply(T t) throws IOException;
     }
 
+    /**
+     * An importer recognizing the source, together with the number of entries it found in the sample. If the sample
+     * is the whole source, the entries found are kept.
+     */
+    private static class Candidate {
+
+        private final Importer importer;
+        private final int entriesInSample;
+        private final Optional<List<BibEntry>> entries;
+
+        Candidate(Importer importer, int entriesInSample, Optional<List<BibEntry>> entries) {
+            this.importer = importer;
+            this.entriesInSample = entriesInSample;
+            this.entries = entries;
+        }
+    }
+
+    /**
+     * The beginning of a source, which is read once and shared by all importers to check whether they recognize the
+     * source. A sample of a longer source ends at a line break.
+     */
+    static class Sample {
+
+        /**
+         * Number of characters read from a file
+         */
+        static final int MAX_LENGTH = 256 * 1024;
+
+        final String text;
+        final boolean isComplete;
+
+        Sample(String text, boolean isComplete) {
+            this.text = text;
+            this.isComplete = isComplete;
+        }
+
+        static Sample of(Path filePath, Charset encoding) throws IOException {
+            try (BufferedReader reader = Importer.getReader(filePath, encoding)) {
+                return of(reader, MAX_LENGTH);
+            }
+        }
+
+        static Sample of(Reader reader, int maxLength) throws IOException {
+            char[] buffer = new char[maxLength];
+            int length = 0;
+            int read;
+            while ((length < maxLength) && ((read = reader.read(buffer, length, maxLength - length)) != -1)) {
+                length += read;
+            }
+
+            if ((length < maxLength) || (reader.read() == -1)) {
+                return new Sample(new String(buffer, 0, length), true);
+            }
+
+            String text = new String(buffer, 0, length);
+            int lastLineBreak = text.lastIndexOf('\n');
+            return new Sample((lastLineBreak > 0) ? text.substring(0, lastLineBreak + 1) : text, false);
+        }
+    }
+
     /**
      * Tries to import a String by iterating through the available import filters,
      * and keeping the import that seems the most promising
@@ -246,6 +370,6 @@ public class ImportFormatReader {
     public UnknownFormatImport importUnknownFormat(String data) throws ImportException {
         Objects.requireNonNull(data);
 
-        return importUnknownFormat(importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data));
+        return importUnknownFormat(new Sample(data, true), importer -> importer.importDatabase(data), importer -> importer.isRecognizedFormat(data));
     }
 }
@@ -58,6 +58,15 @@ public abstract class Importer implements Comparable<Importer> {
         }
     }
 
+    /**
+     * Whether this importer recognizes and parses its format from text, i.e., by {@link #isRecognizedFormat(BufferedReader)}
+     * and {@link #importDatabase(BufferedReader)}. Importers which have to read the file themselves (e.g., binary
+     * formats) return false.
+     */
+    public boolean isTextBased() {
+        return true;
+    }
+
     /**
      * Parse the database in the source.
      * <p>
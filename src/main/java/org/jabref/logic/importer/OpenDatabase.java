@@ -7,12 +7,14 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.logic.importer.fileformat.ParsedEntryCache;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.preferences.TimestampPreferences;
 import org.jabref.migrations.ConvertLegacyExplicitGroups;
 import org.jabref.migrations.ConvertMarkingToGroups;
 import org.jabref.migrations.PostOpenMigration;
 import org.jabref.migrations.SpecialFieldsToSeparateFields;
+import org.jabref.model.strings.StringPool;
 import org.jabref.model.util.FileUpdateMonitor;
 
 import org.slf4j.Logger;
@@ -60,11 +62,36 @@ public class OpenDatabase {
      */
     public static ParserResult loadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, TimestampPreferences timestampPreferences, FileUpdateMonitor fileMonitor)
             throws IOException {
+        StringPool fieldValuePool = StringPool.getFieldValuePool();
+        long requestsBefore = fieldValuePool.getNumberOfRequests();
+        long deduplicatedBefore = fieldValuePool.getNumberOfDeduplicatedValues();
+
         ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor).importDatabase(fileToOpen,
                 importFormatPreferences.getEncoding());
 
         performLoadDatabaseMigrations(result, timestampPreferences, importFormatPreferences.getKeywordSeparator());
 
+        // Other threads may use the pool at the same time, thus the numbers of this file are an estimate
+        long requests = fieldValuePool.getNumberOfRequests() - requestsBefore;
+        long deduplicated = fieldValuePool.getNumberOfDeduplicatedValues() - deduplicatedBefore;
+        LOGGER.info("Loaded {}: {} of {} field values share memory with equal ones ({}%, {}% of all field values loaded so far)",
+                fileToOpen, deduplicated, requests, (requests == 0) ? 0 : ((100 * deduplicated) / requests),
+                Math.round(100 * fieldValuePool.getDeduplicationRatio()));
+        return result;
+    }
+
+    /**
+     * Loads the database again, e.g., after it has been modified by another program. Only the entries which changed
+     * since the last load are parsed, the cache is updated afterwards.
+     */
+    public static ParserResult reloadDatabase(Path fileToOpen, ImportFormatPreferences importFormatPreferences, TimestampPreferences timestampPreferences, FileUpdateMonitor fileMonitor, ParsedEntryCache parsedEntryCache)
+            throws IOException {
+        ParserResult result = new BibtexImporter(importFormatPreferences, fileMonitor, parsedEntryCache).importDatabase(fileToOpen,
+                importFormatPreferences.getEncoding());
+
+        performLoadDatabaseMigrations(result, timestampPreferences, importFormatPreferences.getKeywordSeparator());
+
+        parsedEntryCache.update(result.getDatabase().getEntries());
         return result;
     }
 
@@ -27,10 +27,21 @@ public class BibtexImporter extends Importer {
 
     private final ImportFormatPreferences importFormatPreferences;
     private final FileUpdateMonitor fileMonitor;
+    private final Optional<ParsedEntryCache> parsedEntryCache;
 
     public BibtexImporter(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = importFormatPreferences;
         this.fileMonitor = fileMonitor;
+        this.parsedEntryCache = Optional.empty();
+    }
+
+    /**
+     * Creates an importer which only parses the entries not found in the given cache
+     */
+    public BibtexImporter(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor, ParsedEntryCache parsedEntryCache) {
+        this.importFormatPreferences = importFormatPreferences;
+        this.fileMonitor = fileMonitor;
+        this.parsedEntryCache = Optional.of(parsedEntryCache);
     }
 
     /**
@@ -70,7 +81,11 @@ public class BibtexImporter extends Importer {
 
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
-        return new BibtexParser(importFormatPreferences, fileMonitor).parse(reader);
+        BibtexParser parser = new BibtexParser(importFormatPreferences, fileMonitor);
+        if (parsedEntryCache.isPresent()) {
+            return parsedEntryCache.get().parse(reader, parser);
+        }
+        return parser.parse(reader);
     }
 
     @Override
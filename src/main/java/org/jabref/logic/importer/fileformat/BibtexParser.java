@@ -4,14 +4,12 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PushbackReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -19,6 +17,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.jabref.logic.bibtex.FieldContentFormatter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
@@ -60,16 +59,24 @@ import org.slf4j.LoggerFactory;
  * ParserResult result = BibtexParser.parse(reader);
  * <p>
  * Can be used stand-alone.
+ * <p>
+ * The input is read completely into memory first and then scanned sequentially. The field contents of the entries
+ * are only collected during the scan; formatting them and filling the entries is done in parallel afterwards.
  */
 public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
 
     private static final Integer LOOKAHEAD = 64;
+    private static final int READ_BUFFER_SIZE = 8192;
     private final FieldContentFormatter fieldContentFormatter;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    private final StringBuilder pureTextFromFile = new StringBuilder();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+    private StringBuilder input;
+    private int position;
+    private final char[] pushbackBuffer = new char[LOOKAHEAD];
+    private int pushbackSize;
     private BibDatabase database;
+    private List<ParsedEntry> parsedEntries;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
@@ -130,7 +137,7 @@ public class BibtexParser implements Parser {
      */
     public ParserResult parse(Reader in) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        readInput(in);
 
         // Bibtex related contents.
         initializeParserResult();
@@ -142,8 +149,27 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
+    /**
+     * Reads the complete input into memory. Scanning a buffer is much faster than reading character by character from a
+     * (synchronized) reader.
+     */
+    private void readInput(Reader in) throws IOException {
+        input = new StringBuilder();
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        int charactersRead;
+        while ((charactersRead = in.read(buffer)) != -1) {
+            input.append(buffer, 0, charactersRead);
+        }
+        position = 0;
+        pushbackSize = 0;
+        pureTextFromFile.setLength(0);
+        eof = false;
+        line = 1;
+    }
+
     private void initializeParserResult() {
         database = new BibDatabase();
+        parsedEntries = new ArrayList<>();
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
     }
@@ -201,6 +227,8 @@ public class BibtexParser implements Parser {
             skipWhitespace();
         }
 
+        addParsedEntries();
+
         // Instantiate meta data:
         try {
             parserResult.setMetaData(metaDataParser.parse(meta, importFormatPreferences.getKeywordSeparator()));
@@ -233,14 +261,13 @@ public class BibtexParser implements Parser {
             // this is at least `@Type`
             String commentsAndEntryTypeDefinition = dumpTextReadSoFarToString();
 
-            BibEntry entry = parseEntry(type);
+            ParsedEntry entry = parseEntry(type);
             // store comments collected without type definition
-            entry.setCommentsBeforeEntry(
-                    commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@')));
+            entry.commentsBeforeEntry = commentsAndEntryTypeDefinition.substring(0, commentsAndEntryTypeDefinition.lastIndexOf('@'));
             // store complete parsed serialization (comments, type definition + type contents)
-            entry.setParsedSerialization(commentsAndEntryTypeDefinition + dumpTextReadSoFarToString());
+            entry.parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
 
-            database.insertEntry(entry);
+            parsedEntries.add(entry);
         } catch (IOException ex) {
             // Trying to make the parser more robust.
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -251,6 +278,27 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Formats the field contents of all parsed entries and adds the entries to the database (in the order of the file)
+     */
+    private void addParsedEntries() {
+        parsedEntries.parallelStream().forEach(this::fillEntry);
+        database.insertEntries(parsedEntries.stream().map(parsedEntry -> parsedEntry.entry).collect(Collectors.toList()));
+        parsedEntries.clear();
+    }
+
+    private void fillEntry(ParsedEntry parsedEntry) {
+        BibEntry entry = parsedEntry.entry;
+        for (int i = 0; i < parsedEntry.fields.size(); i++) {
+            Field field = parsedEntry.fields.get(i);
+            String content = format(parsedEntry.contents.get(i), field);
+            setField(entry, field, content);
+        }
+        entry.setCommentsBeforeEntry(parsedEntry.commentsBeforeEntry);
+        // Setting the parsed serialization marks the entry as unchanged, thus this has to be done last
+        entry.setParsedSerialization(parsedEntry.parsedSerialization);
+    }
+
     private void parseJabRefComment(Map<String, String> meta) {
         StringBuilder buffer = null;
         try {
@@ -349,12 +397,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String text = pureTextFromFile.toString();
+        pureTextFromFile.setLength(0);
+        return text;
     }
 
     /**
@@ -457,10 +502,17 @@ public class BibtexParser implements Parser {
     }
 
     private int read() throws IOException {
-        int character = pushbackReader.read();
+        int character;
+        if (pushbackSize > 0) {
+            character = pushbackBuffer[--pushbackSize];
+        } else if (position < input.length()) {
+            character = input.charAt(position++);
+        } else {
+            character = -1;
+        }
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            pureTextFromFile.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -472,9 +524,14 @@ public class BibtexParser implements Parser {
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        // Same semantics as a PushbackReader with a pushback buffer of LOOKAHEAD characters
+        if (pushbackSize == pushbackBuffer.length) {
+            throw new IOException("Pushback buffer overflow");
+        }
+        pushbackBuffer[pushbackSize++] = (char) character;
+        int length = pureTextFromFile.length();
+        if ((length > 0) && (pureTextFromFile.charAt(length - 1) == character)) {
+            pureTextFromFile.setLength(length - 1);
         }
     }
 
@@ -488,7 +545,7 @@ public class BibtexParser implements Parser {
         skipWhitespace();
         LOGGER.debug("Now the contents");
         consume('=');
-        String content = parseFieldContent(FieldFactory.parseField(name));
+        String content = format(parseFieldContent(), FieldFactory.parseField(name));
         LOGGER.debug("Now I'm going to consume a }");
         consume('}', ')');
         // Consume new line which signals end of entry
@@ -503,8 +560,9 @@ public class BibtexParser implements Parser {
         return parseBracketedText();
     }
 
-    private BibEntry parseEntry(String entryType) throws IOException {
-        BibEntry result = new BibEntry(EntryTypeFactory.parse(entryType));
+    private ParsedEntry parseEntry(String entryType) throws IOException {
+        // The entry is created here (and not in parallel) to keep the ids in the order of the file
+        ParsedEntry result = new ParsedEntry(new BibEntry(EntryTypeFactory.parse(entryType)));
 
         skipWhitespace();
         consume('{', '(');
@@ -513,7 +571,7 @@ public class BibtexParser implements Parser {
             skipWhitespace();
         }
         String key = parseKey();
-        result.setCitationKey(key);
+        result.entry.setCitationKey(key);
         skipWhitespace();
 
         while (true) {
@@ -543,12 +601,17 @@ public class BibtexParser implements Parser {
         return result;
     }
 
-    private void parseField(BibEntry entry) throws IOException {
+    private void parseField(ParsedEntry entry) throws IOException {
         Field field = FieldFactory.parseField(parseTextToken().toLowerCase(Locale.ROOT));
 
         skipWhitespace();
         consume('=');
-        String content = parseFieldContent(field);
+        FieldContent content = parseFieldContent();
+        entry.fields.add(field);
+        entry.contents.add(content);
+    }
+
+    private void setField(BibEntry entry, Field field, String content) {
         if (!content.isEmpty()) {
             if (entry.hasField(field)) {
                 // The following hack enables the parser to deal with multiple
@@ -572,9 +635,9 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private String parseFieldContent(Field field) throws IOException {
+    private FieldContent parseFieldContent() throws IOException {
         skipWhitespace();
-        StringBuilder value = new StringBuilder();
+        FieldContent value = new FieldContent();
         int character;
 
         while (((character = peek()) != ',') && (character != '}') && (character != ')')) {
@@ -582,17 +645,15 @@ public class BibtexParser implements Parser {
                 throw new IOException("Error in line " + line + ": EOF in mid-string");
             }
             if (character == '"') {
-                StringBuilder text = parseQuotedFieldExactly();
-                value.append(fieldContentFormatter.format(text, field));
+                value.addTextToFormat(parseQuotedFieldExactly().toString());
             } else if (character == '{') {
                 // Value is a string enclosed in brackets. There can be pairs
                 // of brackets inside of a field, so we need to count the
                 // brackets to know when the string is finished.
-                StringBuilder text = parseBracketedTextExactly();
-                value.append(fieldContentFormatter.format(text, field));
+                value.addTextToFormat(parseBracketedTextExactly().toString());
             } else if (Character.isDigit((char) character)) { // value is a number
                 String number = parseTextToken();
-                value.append(number);
+                value.addText(number);
             } else if (character == '#') {
                 consume('#');
             } else {
@@ -601,10 +662,23 @@ public class BibtexParser implements Parser {
                     throw new IOException("Error in line " + line + " or above: "
                             + "Empty text token.\nThis could be caused " + "by a missing comma between two fields.");
                 }
-                value.append('#').append(textToken).append('#');
+                value.addText('#' + textToken + '#');
             }
             skipWhitespace();
         }
+        return value;
+    }
+
+    private String format(FieldContent content, Field field) {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < content.parts.size(); i++) {
+            String part = content.parts.get(i);
+            if (content.partsToFormat.get(i)) {
+                value.append(fieldContentFormatter.format(part, field));
+            } else {
+                value.append(part);
+            }
+        }
         return value.toString();
     }
 
@@ -930,4 +1004,38 @@ public class BibtexParser implements Parser {
                     + " but received " + (char) character);
         }
     }
+
+    /**
+     * An entry read from the file whose field contents still have to be formatted and set
+     */
+    private static class ParsedEntry {
+        private final BibEntry entry;
+        private final List<Field> fields = new ArrayList<>();
+        private final List<FieldContent> contents = new ArrayList<>();
+        private String commentsBeforeEntry;
+        private String parsedSerialization;
+
+        ParsedEntry(BibEntry entry) {
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * The parts of a field content as read from the file. Bracketed and quoted parts have to be formatted by the
+     * {@link FieldContentFormatter}, the other parts (numbers and string references) are taken as they are.
+     */
+    private static class FieldContent {
+        private final List<String> parts = new ArrayList<>();
+        private final List<Boolean> partsToFormat = new ArrayList<>();
+
+        void addTextToFormat(String text) {
+            parts.add(text);
+            partsToFormat.add(true);
+        }
+
+        void addText(String text) {
+            parts.add(text);
+            partsToFormat.add(false);
+        }
+    }
 }
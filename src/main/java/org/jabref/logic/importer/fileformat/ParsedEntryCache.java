@@ -0,0 +1,266 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remembers the entries of a BibTeX file by the text of the blocks they were parsed from. When the file is read again,
+ * only the blocks whose text changed are parsed, the entries of all other blocks are copied.
+ * <p>
+ * The block of an entry is the text the {@link BibtexParser} stores as its parsed serialization: the entry itself and
+ * the text (e.g., comments) in front of it up to the end of the preceding entry, string or preamble. The file is split
+ * at the same positions as the parser does, and the text of a block is used as its fingerprint. Everything the
+ * splitter cannot handle is parsed again, thus the result equals the result of parsing the whole file.
+ * <p>
+ * The cache is intended to be used for a single file, e.g., to detect external changes of an opened library.
+ */
+public class ParsedEntryCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParsedEntryCache.class);
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private Map<String, CachedEntry> entryOfBlock = new HashMap<>();
+
+    /**
+     * Replaces the cached entries by the given ones, e.g., the entries of a library which was just loaded. Entries
+     * changed after they were parsed are ignored, since their parsed serialization is outdated.
+     */
+    public synchronized void update(Collection<BibEntry> entries) {
+        Map<String, CachedEntry> cachedEntries = new HashMap<>(entries.size() * 2);
+        for (BibEntry entry : entries) {
+            String parsedSerialization = entry.getParsedSerialization();
+            if (!entry.hasChanged() && (parsedSerialization != null) && !parsedSerialization.isEmpty()) {
+                cachedEntries.put(parsedSerialization, new CachedEntry(entry));
+            }
+        }
+        entryOfBlock = cachedEntries;
+    }
+
+    /**
+     * Parses the given BibTeX content. The entries of unchanged blocks are copies of the cached entries, all other
+     * blocks are parsed by the given parser.
+     */
+    public synchronized ParserResult parse(Reader reader, BibtexParser parser) throws IOException {
+        Objects.requireNonNull(parser);
+        String content = readAll(reader);
+
+        Optional<List<Block>> blocks = split(content);
+        if (blocks.isEmpty()) {
+            LOGGER.debug("Could not split file into blocks, parsing it completely");
+            return parser.parse(new StringReader(content));
+        }
+
+        // Cached entries are stored at the position of their block, entries still to be parsed are null
+        List<BibEntry> entries = new ArrayList<>();
+        StringBuilder remainingContent = new StringBuilder();
+        int numberOfBlocksToParse = 0;
+        for (Block block : blocks.get()) {
+            String text = content.substring(block.start, block.end);
+            Optional<BibEntry> cachedEntry = block.isEntry ? getCopyOfEntry(text) : Optional.empty();
+            if (cachedEntry.isPresent()) {
+                entries.add(cachedEntry.get());
+            } else {
+                remainingContent.append(text);
+                if (block.isEntry) {
+                    entries.add(null);
+                    numberOfBlocksToParse++;
+                }
+            }
+        }
+
+        ParserResult result = parser.parse(new StringReader(remainingContent.toString()));
+        BibDatabase database = result.getDatabase();
+        List<BibEntry> parsedEntries = new ArrayList<>(database.getEntries());
+        if (result.hasWarnings() || (parsedEntries.size() != numberOfBlocksToParse)) {
+            // The parser recovers from errors by skipping text, thus the blocks are not reliable anymore
+            LOGGER.debug("Blocks of file do not match the parsed entries, parsing it completely");
+            return parser.parse(new StringReader(content));
+        }
+        LOGGER.debug("Parsed {} of {} entries", numberOfBlocksToParse, entries.size());
+
+        // Keep the order of the file
+        Iterator<BibEntry> parsedEntry = parsedEntries.iterator();
+        entries.replaceAll(entry -> (entry == null) ? parsedEntry.next() : entry);
+        database.removeEntries(parsedEntries);
+        database.insertEntries(entries);
+        return result;
+    }
+
+    private Optional<BibEntry> getCopyOfEntry(String block) {
+        CachedEntry cachedEntry = entryOfBlock.get(block);
+        if ((cachedEntry == null) || !cachedEntry.isUnchanged()) {
+            return Optional.empty();
+        }
+
+        BibEntry copy = (BibEntry) cachedEntry.entry.clone();
+        // The entry might have been changed while it was copied
+        if (!cachedEntry.isUnchanged()) {
+            return Optional.empty();
+        }
+        return Optional.of(copy);
+    }
+
+    private static String readAll(Reader reader) throws IOException {
+        StringBuilder content = new StringBuilder();
+        char[] buffer = new char[READ_BUFFER_SIZE];
+        int charactersRead;
+        while ((charactersRead = reader.read(buffer)) != -1) {
+            content.append(buffer, 0, charactersRead);
+        }
+        return content.toString();
+    }
+
+    /**
+     * Splits the content at the positions where the {@link BibtexParser} stores the text read so far, i.e., after
+     * entries, strings and the preamble including the line break following them. Comments belong to the block of the
+     * next entry. The text after the last entry, string or preamble forms the last block.
+     *
+     * @return empty if the content could not be split, e.g., due to unbalanced braces
+     */
+    static Optional<List<Block>> split(String content) {
+        List<Block> blocks = new ArrayList<>();
+        int start = 0;
+        int position = 0;
+        while (true) {
+            int at = content.indexOf('@', position);
+            if (at == -1) {
+                break;
+            }
+
+            int typeStart = skipWhitespace(content, at + 1);
+            int typeEnd = typeStart;
+            while ((typeEnd < content.length()) && isTypeCharacter(content.charAt(typeEnd))) {
+                typeEnd++;
+            }
+            String type = content.substring(typeStart, typeEnd).toLowerCase(Locale.ROOT);
+            boolean isComment = "comment".equals(type);
+
+            int opening = skipWhitespace(content, typeEnd);
+            char openingBracket = (opening < content.length()) ? content.charAt(opening) : '\0';
+            if ((openingBracket != '{') && (isComment || (openingBracket != '('))) {
+                if (isComment) {
+                    // Unbracketed comments are treated as arbitrary text
+                    position = typeEnd;
+                    continue;
+                }
+                return Optional.empty();
+            }
+
+            int closing = findClosingBracket(content, opening);
+            if (closing == -1) {
+                return Optional.empty();
+            }
+            position = closing + 1;
+            if (isComment) {
+                continue;
+            }
+
+            position = skipOneNewline(content, position);
+            blocks.add(new Block(start, position, !"preamble".equals(type) && !"string".equals(type)));
+            start = position;
+        }
+
+        if (start < content.length()) {
+            blocks.add(new Block(start, content.length(), false));
+        }
+        return Optional.of(blocks);
+    }
+
+    private static boolean isTypeCharacter(char character) {
+        return Character.isLetterOrDigit(character) || (":-_*+./'".indexOf(character) >= 0);
+    }
+
+    private static int skipWhitespace(String content, int position) {
+        while ((position < content.length()) && Character.isWhitespace(content.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    private static int skipOneNewline(String content, int position) {
+        while ((position < content.length()) && (content.charAt(position) == ' ')) {
+            position++;
+        }
+        if ((position < content.length()) && (content.charAt(position) == '\r')) {
+            position++;
+        }
+        if ((position < content.length()) && (content.charAt(position) == '\n')) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Finds the bracket closing the one at the given position. Braces are balanced, thus parentheses only close at
+     * brace level zero.
+     *
+     * @return the position of the closing bracket or -1 if there is none
+     */
+    private static int findClosingBracket(String content, int opening) {
+        char closingBracket = (content.charAt(opening) == '{') ? '}' : ')';
+        int braces = 0;
+        char lastCharacter = '\0';
+        for (int i = opening + 1; i < content.length(); i++) {
+            char character = content.charAt(i);
+            boolean isEscaped = lastCharacter == '\\';
+            if ((character == closingBracket) && (braces == 0) && !isEscaped) {
+                return i;
+            } else if ((character == '{') && !isEscaped) {
+                braces++;
+            } else if ((character == '}') && !isEscaped) {
+                braces--;
+                if (braces < 0) {
+                    return -1;
+                }
+            }
+            lastCharacter = character;
+        }
+        return -1;
+    }
+
+    static class Block {
+
+        final int start;
+        final int end;
+        final boolean isEntry;
+
+        Block(int start, int end, boolean isEntry) {
+            this.start = start;
+            this.end = end;
+            this.isEntry = isEntry;
+        }
+    }
+
+    private static class CachedEntry {
+
+        private final BibEntry entry;
+        private final int modificationCount;
+
+        CachedEntry(BibEntry entry) {
+            this.entry = entry;
+            this.modificationCount = entry.getModificationCount();
+        }
+
+        boolean isUnchanged() {
+            return entry.getModificationCount() == modificationCount;
+        }
+    }
+}
@@ -187,6 +187,11 @@ public class PdfContentImporter extends Importer {
         return input.readLine().startsWith("%PDF");
     }
 
+    @Override
+    public boolean isTextBased() {
+        return false;
+    }
+
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
         Objects.requireNonNull(reader);
@@ -35,6 +35,11 @@ public class PdfXmpImporter extends Importer {
         return StandardFileType.PDF;
     }
 
+    @Override
+    public boolean isTextBased() {
+        return false;
+    }
+
     @Override
     public ParserResult importDatabase(BufferedReader reader) throws IOException {
         Objects.requireNonNull(reader);
@@ -0,0 +1,28 @@
+package org.jabref.logic.net;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class HttpCachePreferences {
+
+    private final long maximumSize;
+    private final Duration timeToLive;
+
+    /**
+     * @param maximumSize the maximum size of the cached responses in bytes
+     * @param timeToLive  the longest time a response is used without asking the server, if the server only tells when
+     *                    the response was last modified
+     */
+    public HttpCachePreferences(long maximumSize, Duration timeToLive) {
+        this.maximumSize = maximumSize;
+        this.timeToLive = Objects.requireNonNull(timeToLive);
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+}
@@ -0,0 +1,85 @@
+package org.jabref.logic.net;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the requests, cache hits, received bytes and latency of the HTTP requests of {@link URLDownload} per host.
+ */
+public class HttpMetrics {
+
+    private final Map<String, HostMetrics> metricsOfHost = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the metrics of all hosts contacted so far
+     */
+    public Map<String, HostMetrics> getMetricsPerHost() {
+        return Map.copyOf(metricsOfHost);
+    }
+
+    public HostMetrics getMetrics(String host) {
+        return metricsOfHost.computeIfAbsent(host, key -> new HostMetrics());
+    }
+
+    void recordRequest(String host, long latencyInNanos) {
+        HostMetrics metrics = getMetrics(host);
+        metrics.requests.increment();
+        metrics.latency.add(latencyInNanos);
+    }
+
+    void recordBytes(String host, long bytes) {
+        getMetrics(host).bytesReceived.add(bytes);
+    }
+
+    void recordCacheHit(String host) {
+        getMetrics(host).cacheHits.increment();
+    }
+
+    void recordNotModified(String host) {
+        getMetrics(host).notModified.increment();
+    }
+
+    public static class HostMetrics {
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder notModified = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+        private final LongAdder latency = new LongAdder();
+
+        /**
+         * Returns the number of requests sent to the host, including conditional ones
+         */
+        public long getNumberOfRequests() {
+            return requests.sum();
+        }
+
+        /**
+         * Returns the number of responses taken from the cache without contacting the host
+         */
+        public long getNumberOfCacheHits() {
+            return cacheHits.sum();
+        }
+
+        /**
+         * Returns the number of conditional requests answered with "304 Not Modified"
+         */
+        public long getNumberOfNotModifiedResponses() {
+            return notModified.sum();
+        }
+
+        public long getBytesReceived() {
+            return bytesReceived.sum();
+        }
+
+        /**
+         * Returns the average time until the headers of a response were received
+         */
+        public Duration getAverageLatency() {
+            long numberOfRequests = requests.sum();
+            return (numberOfRequests == 0) ? Duration.ZERO : Duration.ofNanos(latency.sum() / numberOfRequests);
+        }
+    }
+}
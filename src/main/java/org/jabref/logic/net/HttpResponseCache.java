@@ -0,0 +1,356 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stores responses of HTTP GET requests on disk, so that requesting the same URL again does not download the response
+ * again.
+ * <p>
+ * The cache follows the headers of the server: responses marked with "Cache-Control: no-store" or "private" are not
+ * stored, a response is used without asking the server for "max-age" seconds or until its "Expires" date (and not at
+ * all for "no-cache" or "Pragma: no-cache"). If the server does not specify either, a response is used for 10% of the
+ * time since it was last modified, at most for the configured time to live. Responses without any of these headers are
+ * stored, but the server is asked on every use whether the response changed using its "ETag" and "Last-Modified"
+ * headers. If the cache exceeds its maximum size, the least recently used responses are removed.
+ * <p>
+ * Responses are stored per URI and content negotiation headers of the request (e.g. "Accept"), as the same URI may
+ * return BibTeX or HTML depending on them. Additionally, a response is only used for a request having the same values
+ * of the request headers listed in the "Vary" header of the response.
+ */
+public class HttpResponseCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpResponseCache.class);
+
+    private static final String BODY_EXTENSION = ".body";
+    private static final String METADATA_EXTENSION = ".json";
+    private static final List<String> NEGOTIATION_HEADERS = List.of("Accept", "Accept-Language");
+
+    private final Path directory;
+    private final long maximumSize;
+    private final Duration defaultTimeToLive;
+    private final AtomicLong size = new AtomicLong();
+
+    public HttpResponseCache(Path directory, HttpCachePreferences preferences) {
+        this(directory, preferences.getMaximumSize(), preferences.getTimeToLive());
+    }
+
+    HttpResponseCache(Path directory, long maximumSize, Duration defaultTimeToLive) {
+        this.directory = directory;
+        this.maximumSize = maximumSize;
+        this.defaultTimeToLive = defaultTimeToLive;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                size.set(files.filter(file -> file.toString().endsWith(BODY_EXTENSION)).mapToLong(HttpResponseCache::sizeOf).sum());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not open HTTP cache {}", directory, e);
+        }
+    }
+
+    /**
+     * Returns the stored response of the given request, no matter whether it is still fresh
+     */
+    Optional<CachedResponse> get(URI uri, Map<String, String> requestHeaders) {
+        String key = getKey(uri, requestHeaders);
+        Path metadataFile = directory.resolve(key + METADATA_EXTENSION);
+        Path bodyFile = directory.resolve(key + BODY_EXTENSION);
+        if (Files.notExists(metadataFile) || Files.notExists(bodyFile)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonObject metadata = JsonParser.parseString(Files.readString(metadataFile, StandardCharsets.UTF_8)).getAsJsonObject();
+            if (!uri.toString().equals(metadata.get("uri").getAsString()) || !matchesVary(metadata, requestHeaders)) {
+                return Optional.empty();
+            }
+            byte[] body = Files.readAllBytes(bodyFile);
+            // The modification time of the body tracks the last use for the eviction
+            Files.setLastModifiedTime(bodyFile, FileTime.fromMillis(System.currentTimeMillis()));
+            return Optional.of(new CachedResponse(body,
+                    getString(metadata, "etag"),
+                    getString(metadata, "lastModified"),
+                    metadata.get("expires").getAsLong()));
+        } catch (IOException | JsonParseException | IllegalStateException | NullPointerException e) {
+            LOGGER.debug("Could not read cached response of {}", uri, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the given response, unless the server forbids it or it is too large for the cache
+     */
+    void put(URI uri, Map<String, String> requestHeaders, HttpHeaders headers, byte[] body) {
+        List<String> cacheControl = getCacheControl(headers);
+        List<String> vary = getListHeader(headers, "Vary");
+        if (cacheControl.contains("no-store") || cacheControl.contains("private") || vary.contains("*")
+                || (body.length > (maximumSize / 8))) {
+            return;
+        }
+
+        JsonObject metadata = new JsonObject();
+        metadata.addProperty("uri", uri.toString());
+        JsonObject varyingHeaders = new JsonObject();
+        for (String header : vary) {
+            varyingHeaders.addProperty(header, getRequestHeader(requestHeaders, header).orElse(null));
+        }
+        metadata.add("vary", varyingHeaders);
+        headers.firstValue("ETag").ifPresent(etag -> metadata.addProperty("etag", etag));
+        headers.firstValue("Last-Modified").ifPresent(lastModified -> metadata.addProperty("lastModified", lastModified));
+        metadata.addProperty("expires", getExpiration(headers, headers.firstValue("Last-Modified")));
+
+        String key = getKey(uri, requestHeaders);
+        Path bodyFile = directory.resolve(key + BODY_EXTENSION);
+        try {
+            long previousSize = Files.exists(bodyFile) ? sizeOf(bodyFile) : 0;
+            write(directory.resolve(key + METADATA_EXTENSION), metadata.toString().getBytes(StandardCharsets.UTF_8));
+            write(bodyFile, body);
+            size.addAndGet(body.length - previousSize);
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache response of {}", uri, e);
+            return;
+        }
+
+        if (size.get() > maximumSize) {
+            evict();
+        }
+    }
+
+    /**
+     * Updates the expiration of the stored response after the server confirmed that it did not change
+     */
+    void refresh(URI uri, Map<String, String> requestHeaders, HttpHeaders headers) {
+        String key = getKey(uri, requestHeaders);
+        Path metadataFile = directory.resolve(key + METADATA_EXTENSION);
+        try {
+            JsonObject metadata = JsonParser.parseString(Files.readString(metadataFile, StandardCharsets.UTF_8)).getAsJsonObject();
+            // A "304 Not Modified" usually does not repeat the modification date of the stored response
+            Optional<String> lastModified = headers.firstValue("Last-Modified").or(() -> Optional.ofNullable(getString(metadata, "lastModified")));
+            metadata.addProperty("expires", getExpiration(headers, lastModified));
+            write(metadataFile, metadata.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException | JsonParseException | IllegalStateException e) {
+            LOGGER.debug("Could not refresh cached response of {}", uri, e);
+        }
+    }
+
+    /**
+     * Returns the size of the stored responses in bytes
+     */
+    public long getSize() {
+        return size.get();
+    }
+
+    boolean isFresh(CachedResponse response) {
+        return System.currentTimeMillis() < response.getExpires();
+    }
+
+    /**
+     * Returns until when a response with the given headers may be used without asking the server (see RFC 7234,
+     * section 4.2)
+     *
+     * @param lastModified the "Last-Modified" header of the stored response
+     */
+    private long getExpiration(HttpHeaders headers, Optional<String> lastModified) {
+        long now = System.currentTimeMillis();
+        List<String> cacheControl = getCacheControl(headers);
+        if (cacheControl.contains("no-cache")
+                || (cacheControl.isEmpty() && getListHeader(headers, "Pragma").contains("no-cache"))) {
+            return now;
+        }
+
+        Optional<Duration> maxAge = cacheControl.stream()
+                                                .filter(directive -> directive.startsWith("max-age="))
+                                                .findFirst()
+                                                .flatMap(directive -> parseSeconds(directive.substring("max-age=".length())));
+        if (maxAge.isPresent()) {
+            return now + maxAge.get().toMillis();
+        }
+
+        // Dates of the server are compared to its own clock
+        long date = headers.firstValue("Date").flatMap(HttpResponseCache::parseDate).orElse(now);
+        Optional<String> expires = headers.firstValue("Expires");
+        if (expires.isPresent()) {
+            // An invalid date (e.g., "0") means that the response is expired already
+            return parseDate(expires.get()).map(expiration -> now + (expiration - date)).orElse(now);
+        }
+
+        Optional<Long> lastModifiedDate = lastModified.flatMap(HttpResponseCache::parseDate);
+        if (cacheControl.contains("must-revalidate") || lastModifiedDate.isEmpty()) {
+            return now;
+        }
+        long heuristicTimeToLive = Math.max(0, date - lastModifiedDate.get()) / 10;
+        return now + Math.min(heuristicTimeToLive, defaultTimeToLive.toMillis());
+    }
+
+    /**
+     * Removes the least recently used responses until the cache uses at most 90% of its maximum size
+     */
+    private synchronized void evict() {
+        long targetSize = (maximumSize / 10) * 9;
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> bodies = files.filter(file -> file.toString().endsWith(BODY_EXTENSION))
+                                     .sorted(Comparator.comparing(HttpResponseCache::lastModifiedTime))
+                                     .collect(Collectors.toList());
+            for (Path body : bodies) {
+                if (size.get() <= targetSize) {
+                    break;
+                }
+                long bodySize = sizeOf(body);
+                String fileName = body.getFileName().toString();
+                Files.deleteIfExists(body);
+                Files.deleteIfExists(directory.resolve(fileName.substring(0, fileName.length() - BODY_EXTENSION.length()) + METADATA_EXTENSION));
+                size.addAndGet(-bodySize);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warn("Could not clean up HTTP cache {}", directory, e);
+        }
+    }
+
+    private void write(Path file, byte[] content) throws IOException {
+        // Readers never see a partially written file
+        Path temporaryFile = Files.createTempFile(directory, "response", ".tmp");
+        Files.write(temporaryFile, content);
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static List<String> getCacheControl(HttpHeaders headers) {
+        return getListHeader(headers, "Cache-Control");
+    }
+
+    private static List<String> getListHeader(HttpHeaders headers, String name) {
+        return headers.allValues(name).stream()
+                      .flatMap(value -> Stream.of(value.split(",")))
+                      .map(element -> element.trim().toLowerCase(Locale.ROOT))
+                      .filter(element -> !element.isEmpty())
+                      .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks whether the request has the same values of the headers the stored response varies on
+     */
+    private static boolean matchesVary(JsonObject metadata, Map<String, String> requestHeaders) {
+        JsonObject varyingHeaders = metadata.getAsJsonObject("vary");
+        if (varyingHeaders == null) {
+            return true;
+        }
+        for (Map.Entry<String, JsonElement> header : varyingHeaders.entrySet()) {
+            String storedValue = header.getValue().isJsonNull() ? null : header.getValue().getAsString();
+            if (!Objects.equals(storedValue, getRequestHeader(requestHeaders, header.getKey()).orElse(null))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Optional<String> getRequestHeader(Map<String, String> requestHeaders, String name) {
+        return requestHeaders.entrySet().stream()
+                             .filter(header -> header.getKey().equalsIgnoreCase(name))
+                             .map(Map.Entry::getValue)
+                             .findFirst();
+    }
+
+    private static Optional<Long> parseDate(String date) {
+        try {
+            return Optional.of(ZonedDateTime.parse(date.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli());
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Duration> parseSeconds(String seconds) {
+        try {
+            return Optional.of(Duration.ofSeconds(Long.parseLong(seconds.trim())));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String getKey(URI uri, Map<String, String> requestHeaders) {
+        StringBuilder key = new StringBuilder(uri.toString());
+        for (String header : NEGOTIATION_HEADERS) {
+            getRequestHeader(requestHeaders, header).ifPresent(value -> key.append('\n').append(header).append(": ").append(value));
+        }
+        return Hashing.sha256().hashString(key, StandardCharsets.UTF_8).toString();
+    }
+
+    private static String getString(JsonObject json, String member) {
+        JsonElement element = json.get(member);
+        return ((element == null) || element.isJsonNull()) ? null : element.getAsString();
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static FileTime lastModifiedTime(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    static class CachedResponse {
+
+        private final byte[] body;
+        private final String etag;
+        private final String lastModified;
+        private final long expires;
+
+        CachedResponse(byte[] body, String etag, String lastModified, long expires) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expires = expires;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        Optional<String> getEtag() {
+            return Optional.ofNullable(etag);
+        }
+
+        Optional<String> getLastModified() {
+            return Optional.ofNullable(lastModified);
+        }
+
+        long getExpires() {
+            return expires;
+        }
+    }
+}
@@ -28,5 +28,7 @@ public class ProxyRegisterer {
             System.setProperty("java.net.useSystemProxies", "true");
             System.setProperty("proxySet", "true");
         }
+        // Connections opened with the previous settings must not be reused
+        SharedHttpClient.reset();
     }
 }
@@ -0,0 +1,186 @@
+package org.jabref.logic.net;
+
+import java.io.FileNotFoundException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.Authenticator;
+import java.net.CookieHandler;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.net.ssl.SSLContext;
+
+/**
+ * Holds the HTTP clients shared by all {@link URLDownload}s. A client keeps connections to a host open and reuses them
+ * for later requests, and uses HTTP/2 if the server supports it.
+ * <p>
+ * Additionally, it holds the optional {@link HttpResponseCache} and the {@link HttpMetrics} of all requests.
+ */
+public class SharedHttpClient {
+
+    private static final Map<Duration, HttpClient> CLIENTS = new ConcurrentHashMap<>();
+    private static final HttpMetrics METRICS = new HttpMetrics();
+
+    private static volatile SSLContext sslContext;
+    private static volatile HttpResponseCache responseCache;
+
+    private SharedHttpClient() {
+    }
+
+    /**
+     * Sets the cache for the responses of GET requests. Without a cache, every request is sent to the server.
+     */
+    public static void setResponseCache(HttpResponseCache cache) {
+        responseCache = cache;
+    }
+
+    public static Optional<HttpResponseCache> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
+    public static HttpMetrics getMetrics() {
+        return METRICS;
+    }
+
+    /**
+     * Uses the given SSL context for all later requests, or the default one if null is passed. Open connections are
+     * closed as soon as they are not used anymore.
+     */
+    static void setSslContext(SSLContext context) {
+        sslContext = context;
+        reset();
+    }
+
+    /**
+     * Creates new clients for all later requests, e.g., because the proxy authentication changed
+     */
+    public static void reset() {
+        CLIENTS.clear();
+    }
+
+    /**
+     * Sends the request and throws an exception if the server answers with an error, like {@link
+     * java.net.HttpURLConnection#getInputStream()} does. The received bytes are counted while the body is read.
+     */
+    static HttpResponse<InputStream> send(HttpRequest request, Duration connectTimeout) throws IOException {
+        HttpResponse<InputStream> response = sendUnchecked(request, connectTimeout);
+        int status = response.statusCode();
+        if (status >= 400) {
+            response.body().close();
+            if ((status == 404) || (status == 410)) {
+                throw new FileNotFoundException(request.uri().toString());
+            }
+            throw new IOException("Server returned HTTP response code: " + status + " for URL: " + request.uri());
+        }
+        return response;
+    }
+
+    /**
+     * Sends the request without checking the status code of the response
+     */
+    static HttpResponse<InputStream> sendUnchecked(HttpRequest request, Duration connectTimeout) throws IOException {
+        String host = getHost(request.uri());
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response;
+        try {
+            response = getClient(connectTimeout).send(request, responseInfo -> HttpResponse.BodySubscribers.mapping(
+                    HttpResponse.BodySubscribers.ofInputStream(),
+                    body -> new MeteredInputStream(body, host)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request to " + request.uri() + " was interrupted");
+        }
+        METRICS.recordRequest(host, System.nanoTime() - start);
+        return response;
+    }
+
+    static String getHost(URI uri) {
+        return Optional.ofNullable(uri.getHost()).orElse("");
+    }
+
+    private static HttpClient getClient(Duration connectTimeout) {
+        return CLIENTS.computeIfAbsent(connectTimeout, SharedHttpClient::createClient);
+    }
+
+    private static HttpClient createClient(Duration connectTimeout) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                                               .version(HttpClient.Version.HTTP_2)
+                                               // URLDownload followed redirects to other protocols before as well
+                                               .followRedirects(HttpClient.Redirect.ALWAYS)
+                                               .cookieHandler(new DefaultCookieHandler())
+                                               .connectTimeout(connectTimeout);
+        ProxySelector proxySelector = ProxySelector.getDefault();
+        if (proxySelector != null) {
+            // The default proxy selector follows the proxy settings of JabRef
+            builder.proxy(proxySelector);
+        }
+        Authenticator authenticator = Authenticator.getDefault();
+        if (authenticator != null) {
+            builder.authenticator(authenticator);
+        }
+        SSLContext context = sslContext;
+        if (context != null) {
+            builder.sslContext(context);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Stores cookies in the default cookie handler, like {@link java.net.HttpURLConnection} does. The default handler
+     * is looked up on each request, as fetchers (e.g., the ACM portal fetcher) set it after the clients were created.
+     */
+    private static class DefaultCookieHandler extends CookieHandler {
+
+        @Override
+        public Map<String, List<String>> get(URI uri, Map<String, List<String>> requestHeaders) throws IOException {
+            CookieHandler cookieHandler = CookieHandler.getDefault();
+            return (cookieHandler == null) ? Map.of() : cookieHandler.get(uri, requestHeaders);
+        }
+
+        @Override
+        public void put(URI uri, Map<String, List<String>> responseHeaders) throws IOException {
+            CookieHandler cookieHandler = CookieHandler.getDefault();
+            if (cookieHandler != null) {
+                cookieHandler.put(uri, responseHeaders);
+            }
+        }
+    }
+
+    private static class MeteredInputStream extends FilterInputStream {
+
+        private final String host;
+
+        MeteredInputStream(InputStream in, String host) {
+            super(in);
+            this.host = host;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            if (read >= 0) {
+                METRICS.recordBytes(host, 1);
+            }
+            return read;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                METRICS.recordBytes(host, read);
+            }
+            return read;
+        }
+    }
+}
@@ -16,9 +16,12 @@ import java.net.CookiePolicy;
 import java.net.HttpCookie;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -30,8 +33,11 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -59,7 +65,8 @@ import org.slf4j.LoggerFactory;
  * String contentType = dl.getMimeType();
  * </code>
  *
- * Each call to a public method creates a new HTTP connection. Nothing is cached.
+ * HTTP requests are sent by a {@link SharedHttpClient}, which reuses connections to a host. The responses of GET
+ * requests downloaded as a string are cached in its {@link HttpResponseCache}, if one is set.
  */
 public class URLDownload {
 
@@ -67,6 +74,11 @@ public class URLDownload {
     private static final Logger LOGGER = LoggerFactory.getLogger(URLDownload.class);
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
 
+    /**
+     * Headers set by the HTTP client itself
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "date", "expect", "from", "host", "upgrade", "via", "warning");
+
     private final URL source;
     private final Map<String, String> parameters = new HashMap<>();
     private String postData = "";
@@ -128,6 +140,8 @@ public class URLDownload {
             // Install all-trusting host verifier
             HostnameVerifier allHostsValid = (hostname, session) -> true;
             HttpsURLConnection.setDefaultHostnameVerifier(allHostsValid);
+
+            SharedHttpClient.setSslContext(context);
         } catch (Exception e) {
             LOGGER.error("A problem occurred when bypassing SSL verification", e);
         }
@@ -142,6 +156,8 @@ public class URLDownload {
         try {
             HttpsURLConnection.setDefaultSSLSocketFactory(socketFactory);
             HttpsURLConnection.setDefaultHostnameVerifier(verifier);
+
+            SharedHttpClient.setSslContext(null);
         } catch (Exception e) {
             LOGGER.error("A problem occurred when reset SSL verification", e);
         }
@@ -234,10 +250,12 @@ public class URLDownload {
      * @return the downloaded string
      */
     public String asString(Charset encoding) throws IOException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream());
-             Writer output = new StringWriter()) {
-            copy(input, output, encoding);
-            return output.toString();
+        if (isHttp()) {
+            return asString(downloadHttp(), encoding);
+        }
+
+        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream())) {
+            return asString(input.readAllBytes(), encoding);
         }
     }
 
@@ -272,7 +290,9 @@ public class URLDownload {
      * @param destination the destination file path.
      */
     public void toFile(Path destination) throws IOException {
-        try (InputStream input = new BufferedInputStream(this.openConnection().getInputStream())) {
+        try (InputStream input = new BufferedInputStream(isHttp()
+                ? SharedHttpClient.send(buildRequest(Map.of()), connectTimeout).body()
+                : this.openConnection().getInputStream())) {
             Files.copy(input, destination, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             LOGGER.warn("Could not copy input", e);
@@ -284,6 +304,21 @@ public class URLDownload {
      * Takes the web resource as the source for a monitored input stream.
      */
     public ProgressInputStream asInputStream() throws IOException {
+        if (isHttp()) {
+            HttpResponse<InputStream> response = SharedHttpClient.sendUnchecked(buildRequest(Map.of()), connectTimeout);
+            if ((response.statusCode() == HttpURLConnection.HTTP_NOT_FOUND) || (response.statusCode() == HttpURLConnection.HTTP_BAD_REQUEST)) {
+                LOGGER.error("Response code {} returned for url {}", response.statusCode(), response.uri());
+                response.body().close();
+                return new ProgressInputStream(new ByteArrayInputStream(new byte[0]), 0);
+            }
+            if (response.statusCode() >= 400) {
+                response.body().close();
+                throw new IOException("Server returned HTTP response code: " + response.statusCode() + " for URL: " + response.uri());
+            }
+            long fileSize = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+            return new ProgressInputStream(new BufferedInputStream(response.body()), fileSize);
+        }
+
         HttpURLConnection urlConnection = (HttpURLConnection) this.openConnection();
 
         if ((urlConnection.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) || (urlConnection.getResponseCode() == HttpURLConnection.HTTP_BAD_REQUEST)) {
@@ -320,7 +355,14 @@ public class URLDownload {
         return "URLDownload{" + "source=" + this.source + '}';
     }
 
-    private void copy(InputStream in, Writer out, Charset encoding) throws IOException {
+    private static String asString(byte[] content, Charset encoding) throws IOException {
+        try (Writer output = new StringWriter()) {
+            copy(new ByteArrayInputStream(content), output, encoding);
+            return output.toString();
+        }
+    }
+
+    private static void copy(InputStream in, Writer out, Charset encoding) throws IOException {
         Reader r = new InputStreamReader(in, encoding);
         try (BufferedReader read = new BufferedReader(r)) {
 
@@ -332,6 +374,86 @@ public class URLDownload {
         }
     }
 
+    private boolean isHttp() {
+        String protocol = source.getProtocol().toLowerCase(Locale.ROOT);
+        return protocol.equals("http") || protocol.equals("https");
+    }
+
+    /**
+     * Downloads the response of an HTTP request. Responses of GET requests are taken from the cache as long as they are
+     * fresh; afterwards the server is asked whether the cached response is still valid.
+     */
+    private byte[] downloadHttp() throws IOException {
+        Optional<HttpResponseCache> cache = postData.isEmpty() ? SharedHttpClient.getResponseCache() : Optional.empty();
+        URI uri = toUri();
+        String host = SharedHttpClient.getHost(uri);
+
+        Optional<HttpResponseCache.CachedResponse> cachedResponse = cache.flatMap(responseCache -> responseCache.get(uri, parameters));
+        Map<String, String> conditionalHeaders = new HashMap<>();
+        if (cachedResponse.isPresent()) {
+            if (cache.get().isFresh(cachedResponse.get())) {
+                SharedHttpClient.getMetrics().recordCacheHit(host);
+                return cachedResponse.get().getBody();
+            }
+            cachedResponse.get().getEtag().ifPresent(etag -> conditionalHeaders.put("If-None-Match", etag));
+            cachedResponse.get().getLastModified().ifPresent(lastModified -> conditionalHeaders.put("If-Modified-Since", lastModified));
+        }
+
+        HttpResponse<InputStream> response = conditionalHeaders.isEmpty()
+                ? SharedHttpClient.send(buildRequest(Map.of()), connectTimeout)
+                : SharedHttpClient.sendUnchecked(buildRequest(conditionalHeaders), connectTimeout);
+        if ((response.statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED) && cachedResponse.isPresent()) {
+            response.body().close();
+            cache.get().refresh(uri, parameters, response.headers());
+            SharedHttpClient.getMetrics().recordNotModified(host);
+            return cachedResponse.get().getBody();
+        }
+        if (response.statusCode() >= 400) {
+            // Throws the same exception as without the conditional headers
+            response.body().close();
+            response = SharedHttpClient.send(buildRequest(Map.of()), connectTimeout);
+        }
+
+        byte[] body;
+        try (InputStream input = response.body()) {
+            body = input.readAllBytes();
+        }
+        if (cache.isPresent() && (response.statusCode() == HttpURLConnection.HTTP_OK)) {
+            cache.get().put(uri, parameters, response.headers(), body);
+        }
+        return body;
+    }
+
+    private HttpRequest buildRequest(Map<String, String> additionalHeaders) throws IOException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(toUri());
+        Map<String, String> headers = new HashMap<>(parameters);
+        headers.putAll(additionalHeaders);
+        for (Entry<String, String> header : headers.entrySet()) {
+            if (RESTRICTED_HEADERS.contains(header.getKey().toLowerCase(Locale.ROOT))) {
+                LOGGER.debug("Ignoring header {} set by the HTTP client", header.getKey());
+            } else {
+                request.header(header.getKey(), header.getValue());
+            }
+        }
+
+        if (!postData.isEmpty()) {
+            // Default content type of HttpURLConnection, which was used before
+            if (headers.keySet().stream().noneMatch(key -> key.equalsIgnoreCase("Content-Type"))) {
+                request.header("Content-Type", "application/x-www-form-urlencoded");
+            }
+            request.POST(HttpRequest.BodyPublishers.ofString(postData, StandardCharsets.ISO_8859_1));
+        }
+        return request.build();
+    }
+
+    private URI toUri() throws IOException {
+        try {
+            return source.toURI();
+        } catch (URISyntaxException e) {
+            throw new MalformedURLException("Cannot convert " + source + " to an URI: " + e.getMessage());
+        }
+    }
+
     private URLConnection openConnection() throws IOException {
         URLConnection connection = this.source.openConnection();
         connection.setConnectTimeout((int) connectTimeout.toMillis());
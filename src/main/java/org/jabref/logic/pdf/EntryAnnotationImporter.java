@@ -47,11 +47,29 @@ public class EntryAnnotationImporter {
         Map<Path, List<FileAnnotation>> annotations = new HashMap<>();
         AnnotationImporter importer = new PdfAnnotationImporter();
 
-        // import annotationsOfFiles if the selected files are valid which is checked in getFilteredFileList()
         for (LinkedFile linkedFile : this.getFilteredFileList()) {
             linkedFile.findIn(databaseContext, filePreferences)
                       .ifPresent(file -> annotations.put(file, importer.importAnnotations(file)));
         }
         return annotations;
     }
+
+    /**
+     * Reads the annotations from the files that are attached to a BibEntry. Only files not found in the given store
+     * (or changed since) are read, their annotations are added to the store.
+     *
+     * @param databaseContext The context is needed for the importer.
+     * @return Map from each PDF to a list of file annotations
+     */
+    public Map<Path, List<FileAnnotation>> importAnnotationsFromFiles(BibDatabaseContext databaseContext, FilePreferences filePreferences, FileAnnotationStore store) {
+        Map<Path, List<FileAnnotation>> annotations = new HashMap<>();
+        AnnotationImporter importer = new PdfAnnotationImporter();
+
+        // import annotationsOfFiles if the selected files are valid which is checked in getFilteredFileList()
+        for (LinkedFile linkedFile : this.getFilteredFileList()) {
+            linkedFile.findIn(databaseContext, filePreferences)
+                      .ifPresent(file -> annotations.put(file, store.getOrImport(file, importer)));
+        }
+        return annotations;
+    }
 }
@@ -24,6 +24,10 @@ public class FileAnnotationCache {
     // the inner list holds the annotations per file, the outer collection maps this to a BibEntry.
     private LoadingCache<BibEntry, Map<Path, List<FileAnnotation>>> annotationCache;
 
+    private BibDatabaseContext context;
+    private FilePreferences filePreferences;
+    private FileAnnotationStore store;
+
     /**
      * Creates an empty fil annotation cache. Required to allow the annotation cache to be injected into views without
      * hitting the bug https://github.com/AdamBien/afterburner.fx/issues/71 .
@@ -32,15 +36,33 @@ public class FileAnnotationCache {
 
     }
 
-    public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences) {
+    /**
+     * @param store the annotations of all files read so far, shared by the caches of all libraries
+     */
+    public FileAnnotationCache(BibDatabaseContext context, FilePreferences filePreferences, FileAnnotationStore store) {
+        this.context = context;
+        this.filePreferences = filePreferences;
+        this.store = store;
         annotationCache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(new CacheLoader<BibEntry, Map<Path, List<FileAnnotation>>>() {
             @Override
             public Map<Path, List<FileAnnotation>> load(BibEntry entry) throws Exception {
-                return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences);
+                return new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences, store);
             }
         });
     }
 
+    /**
+     * Reads the annotations of all files linked to the entries of the library into the store, so that they are
+     * available immediately later on. Files already in the store are only read again if they changed.
+     *
+     * @implNote Reading PDFs takes a while, better call it from a background task.
+     */
+    public void importAllAnnotations() {
+        for (BibEntry entry : List.copyOf(context.getEntries())) {
+            new EntryAnnotationImporter(entry).importAnnotationsFromFiles(context, filePreferences, store);
+        }
+    }
+
     /**
      * Note that entry becomes the most recent entry in the cache
      *
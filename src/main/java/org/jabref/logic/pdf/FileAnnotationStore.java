@@ -0,0 +1,191 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.pdf.FileAnnotation;
+import org.jabref.model.pdf.FileAnnotationType;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the annotations of files across sessions and libraries, as extracting them from a PDF takes a while.
+ * <p>
+ * The annotations are stored by the absolute path of the file, together with the size and the modification time of the
+ * file when the annotations were extracted. If either differs, the file is read again.
+ */
+public class FileAnnotationStore implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileAnnotationStore.class);
+
+    private static final String MAP_NAME = "FileAnnotations";
+
+    private final MVStore store;
+    private final MVMap<String, String> annotationsOfFile;
+
+    /**
+     * Opens the store in the given file. If the file cannot be opened (e.g., because another instance of JabRef uses
+     * it), the annotations are only kept in memory.
+     */
+    public FileAnnotationStore(Path storeFile) {
+        MVStore openedStore;
+        try {
+            Files.createDirectories(storeFile.toAbsolutePath().getParent());
+            openedStore = new MVStore.Builder().fileName(storeFile.toAbsolutePath().toString()).compress().open();
+        } catch (IOException | IllegalStateException e) {
+            LOGGER.warn("Could not open annotation cache {}, keeping annotations in memory only", storeFile, e);
+            openedStore = new MVStore.Builder().open();
+        }
+        this.store = openedStore;
+        this.annotationsOfFile = store.openMap(MAP_NAME);
+    }
+
+    /**
+     * Creates a store which keeps the annotations in memory only
+     */
+    public FileAnnotationStore() {
+        this.store = new MVStore.Builder().open();
+        this.annotationsOfFile = store.openMap(MAP_NAME);
+    }
+
+    /**
+     * Returns the stored annotations of the given file, if the file did not change since they were stored. After the
+     * store was closed, nothing is found.
+     */
+    public Optional<List<FileAnnotation>> get(Path file) {
+        return readAttributes(file).flatMap(attributes -> get(file, attributes));
+    }
+
+    private Optional<List<FileAnnotation>> get(Path file, BasicFileAttributes attributes) {
+        String stored;
+        synchronized (this) {
+            if (store.isClosed()) {
+                return Optional.empty();
+            }
+            stored = annotationsOfFile.get(getKey(file));
+        }
+        if (stored == null) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonObject storedFile = JsonParser.parseString(stored).getAsJsonObject();
+            if ((storedFile.get("size").getAsLong() != attributes.size())
+                    || (storedFile.get("modified").getAsLong() != attributes.lastModifiedTime().toMillis())) {
+                return Optional.empty();
+            }
+
+            List<FileAnnotation> annotations = new ArrayList<>();
+            for (JsonElement annotation : storedFile.getAsJsonArray("annotations")) {
+                annotations.add(fromJson(annotation.getAsJsonObject()));
+            }
+            return Optional.of(annotations);
+        } catch (JsonParseException | DateTimeParseException | IllegalStateException | IllegalArgumentException | NullPointerException e) {
+            LOGGER.debug("Could not read stored annotations of {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the annotations of the given file, together with its current size and modification time. After the store
+     * was closed (e.g., while JabRef shuts down), nothing is stored.
+     */
+    public void put(Path file, List<FileAnnotation> annotations) {
+        readAttributes(file).ifPresent(attributes -> put(file, attributes, annotations));
+    }
+
+    /**
+     * Stores the annotations of the given file together with the given size and modification time, which have to be
+     * read before the annotations were extracted
+     */
+    private void put(Path file, BasicFileAttributes attributes, List<FileAnnotation> annotations) {
+        JsonArray storedAnnotations = new JsonArray();
+        annotations.forEach(annotation -> storedAnnotations.add(toJson(annotation)));
+
+        JsonObject storedFile = new JsonObject();
+        storedFile.addProperty("size", attributes.size());
+        storedFile.addProperty("modified", attributes.lastModifiedTime().toMillis());
+        storedFile.add("annotations", storedAnnotations);
+        synchronized (this) {
+            if (!store.isClosed()) {
+                annotationsOfFile.put(getKey(file), storedFile.toString());
+            }
+        }
+    }
+
+    /**
+     * Returns the stored annotations of the given file. If there are none or the file changed, the annotations are
+     * imported and stored.
+     */
+    public List<FileAnnotation> getOrImport(Path file, AnnotationImporter importer) {
+        // Read before importing, thus a change of the file during the import is detected on next access
+        Optional<BasicFileAttributes> attributes = readAttributes(file);
+        Optional<List<FileAnnotation>> storedAnnotations = attributes.flatMap(fileAttributes -> get(file, fileAttributes));
+        if (storedAnnotations.isPresent()) {
+            return storedAnnotations.get();
+        }
+
+        List<FileAnnotation> annotations = importer.importAnnotations(file);
+        attributes.ifPresent(fileAttributes -> put(file, fileAttributes, annotations));
+        return annotations;
+    }
+
+    @Override
+    public synchronized void close() {
+        store.close();
+    }
+
+    private static String getKey(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    private static Optional<BasicFileAttributes> readAttributes(Path file) {
+        try {
+            return Optional.of(Files.readAttributes(file, BasicFileAttributes.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static JsonObject toJson(FileAnnotation annotation) {
+        JsonObject json = new JsonObject();
+        json.addProperty("author", annotation.getAuthor());
+        json.addProperty("modified", annotation.getTimeModified().toString());
+        json.addProperty("page", annotation.getPage());
+        json.addProperty("content", annotation.getContent());
+        json.addProperty("type", annotation.getAnnotationType().name());
+        if (annotation.hasLinkedAnnotation()) {
+            json.add("linked", toJson(annotation.getLinkedFileAnnotation()));
+        }
+        return json;
+    }
+
+    private static FileAnnotation fromJson(JsonObject json) {
+        JsonElement author = json.get("author");
+        Optional<FileAnnotation> linkedAnnotation = json.has("linked")
+                ? Optional.of(fromJson(json.getAsJsonObject("linked")))
+                : Optional.empty();
+        return new FileAnnotation(
+                ((author == null) || author.isJsonNull()) ? null : author.getAsString(),
+                LocalDateTime.parse(json.get("modified").getAsString()),
+                json.get("page").getAsInt(),
+                json.get("content").getAsString(),
+                FileAnnotationType.valueOf(json.get("type").getAsString()),
+                linkedAnnotation);
+    }
+}
@@ -0,0 +1,380 @@
+package org.jabref.logic.pdf;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.logic.util.io.FileUtil;
+import org.jabref.logic.xmp.XmpUtilReader;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.preferences.FilePreferences;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.queryparser.classic.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.RegexpQuery;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A Lucene index of the text of linked PDF files, which allows to search the contents of the attachments without
+ * reading the files again for each search.
+ * <p>
+ * The files are indexed by their absolute path, together with their size and modification time. Indexing a file again
+ * only reads it if either changed. The index is shared by all libraries.
+ * <p>
+ * After the index was closed (e.g., while JabRef shuts down), indexing does nothing and searches find nothing, as
+ * background tasks may still be running.
+ */
+public class FullTextIndex implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FullTextIndex.class);
+
+    private static final String PATH = "path";
+    private static final String SIZE = "size";
+    private static final String MODIFIED = "modified";
+    private static final String CONTENT = "content";
+
+    /**
+     * Number of files indexed before the new documents are made visible to searches
+     */
+    private static final int REFRESH_INTERVAL = 100;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    /**
+     * Guards {@link #closed}. Indexing and searching hold the read lock while using the writer or searchers, closing
+     * holds the write lock.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private boolean closed;
+
+    /**
+     * Opens the index in the given directory. If the index cannot be opened (e.g., because another instance of JabRef
+     * uses it), the index is only kept in memory.
+     */
+    public FullTextIndex(Path indexDirectory) {
+        Directory openedDirectory = null;
+        IndexWriter openedWriter;
+        try {
+            Files.createDirectories(indexDirectory);
+            openedDirectory = FSDirectory.open(indexDirectory);
+            openedWriter = openWriter(openedDirectory);
+        } catch (IOException e) {
+            LOGGER.warn("Could not open full text index {}, keeping the index in memory only", indexDirectory, e);
+            closeQuietly(openedDirectory);
+            openedDirectory = new ByteBuffersDirectory();
+            openedWriter = openWriterUnchecked(openedDirectory);
+        }
+        this.directory = openedDirectory;
+        this.writer = openedWriter;
+        this.searcherManager = openSearcherManager(writer);
+    }
+
+    /**
+     * Creates an index which is kept in memory only
+     */
+    public FullTextIndex() {
+        this.directory = new ByteBuffersDirectory();
+        this.writer = openWriterUnchecked(directory);
+        this.searcherManager = openSearcherManager(writer);
+    }
+
+    /**
+     * Adds the linked PDF files of all entries of the library to the index. Files indexed already are only read again
+     * if they changed.
+     *
+     * @implNote Reading PDFs takes a while, better call it from a background task.
+     */
+    public void indexLinkedFiles(BibDatabaseContext context, FilePreferences filePreferences) {
+        int indexedFiles = 0;
+        for (BibEntry entry : List.copyOf(context.getEntries())) {
+            if (isClosed()) {
+                return;
+            }
+            for (LinkedFile linkedFile : entry.getFiles()) {
+                Optional<Path> file = linkedFile.findIn(context, filePreferences);
+                if (file.isPresent() && isPdf(file.get()) && addToIndex(file.get())) {
+                    indexedFiles++;
+                    if ((indexedFiles % REFRESH_INTERVAL) == 0) {
+                        refresh();
+                    }
+                }
+            }
+        }
+        if (indexedFiles > 0) {
+            commit();
+        }
+    }
+
+    /**
+     * Adds the given file to the index, unless it is indexed already and did not change since.
+     *
+     * @return true if the file was read
+     */
+    public boolean addToIndex(Path file) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (IOException e) {
+            LOGGER.debug("Could not read attributes of {}", file, e);
+            return false;
+        }
+
+        String key = getKey(file);
+        long size = attributes.size();
+        long modified = attributes.lastModifiedTime().toMillis();
+        lock.readLock().lock();
+        try {
+            if (closed || isIndexed(key, size, modified)) {
+                return false;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Document document = new Document();
+        document.add(new StringField(PATH, key, Field.Store.YES));
+        document.add(new StoredField(SIZE, size));
+        document.add(new StoredField(MODIFIED, modified));
+        // A file which cannot be read is indexed without content, so that it is not read again until it changes
+        document.add(new TextField(CONTENT, extractText(file), Field.Store.NO));
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            writer.updateDocument(new Term(PATH, key), document);
+            return true;
+        } catch (IOException e) {
+            LOGGER.warn("Could not index {}", file, e);
+            return false;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Makes the changes of the index visible to searches and writes them to disk
+     */
+    public void commit() {
+        lock.readLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            LOGGER.warn("Could not write full text index", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the absolute paths of the indexed files containing all the words of the query. The index does not
+     * distinguish between upper and lower case, regular expressions have to match single words.
+     */
+    public Set<String> search(SearchQuery searchQuery) {
+        List<String> words = searchQuery.getSearchWords();
+        if (words.isEmpty() || words.get(0).isEmpty()) {
+            return Set.of();
+        }
+
+        Set<String> files = new HashSet<>();
+        try {
+            // The words are analyzed the same way as the text of the files, e.g., "e-mail" is split into two terms
+            QueryParser parser = new QueryParser(CONTENT, analyzer);
+            parser.setDefaultOperator(QueryParser.Operator.AND);
+            BooleanQuery.Builder query = new BooleanQuery.Builder();
+            for (String word : words) {
+                Query wordQuery = searchQuery.isRegularExpression()
+                        ? new RegexpQuery(new Term(CONTENT, word.toLowerCase(Locale.ROOT)))
+                        : parser.parse(QueryParser.escape(word));
+                query.add(wordQuery, BooleanClause.Occur.MUST);
+            }
+
+            lock.readLock().lock();
+            try {
+                if (closed) {
+                    return Set.of();
+                }
+                IndexSearcher searcher = searcherManager.acquire();
+                try {
+                    TopDocs hits = searcher.search(query.build(), Math.max(1, searcher.getIndexReader().maxDoc()));
+                    for (ScoreDoc hit : hits.scoreDocs) {
+                        files.add(searcher.doc(hit.doc).get(PATH));
+                    }
+                } finally {
+                    searcherManager.release(searcher);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+        } catch (IOException | ParseException | IllegalArgumentException e) {
+            LOGGER.warn("Could not search full text index for {}", searchQuery, e);
+        }
+        return files;
+    }
+
+    /**
+     * Returns a matcher for the entries of the library having an attachment which contains the words of the query.
+     * The index is searched once, the matcher only looks up the files of the entries.
+     */
+    public SearchMatcher getMatcher(SearchQuery searchQuery, BibDatabaseContext context, FilePreferences filePreferences) {
+        Set<String> matchingFiles = search(searchQuery);
+        if (matchingFiles.isEmpty()) {
+            return entry -> false;
+        }
+        return entry -> entry.getFiles().stream()
+                             .map(linkedFile -> linkedFile.findIn(context, filePreferences))
+                             .flatMap(Optional::stream)
+                             .anyMatch(file -> matchingFiles.contains(getKey(file)));
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        } catch (IOException e) {
+            LOGGER.warn("Could not close full text index", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private boolean isClosed() {
+        lock.readLock().lock();
+        try {
+            return closed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean isIndexed(String key, long size, long modified) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs hits = searcher.search(new TermQuery(new Term(PATH, key)), 1);
+                if (hits.scoreDocs.length == 0) {
+                    return false;
+                }
+                Document document = searcher.doc(hits.scoreDocs[0].doc);
+                return (document.getField(SIZE).numericValue().longValue() == size)
+                        && (document.getField(MODIFIED).numericValue().longValue() == modified);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void refresh() {
+        lock.readLock().lock();
+        try {
+            if (!closed) {
+                searcherManager.maybeRefresh();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not refresh full text index", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String extractText(Path file) {
+        try (PDDocument document = XmpUtilReader.loadWithAutomaticDecryption(file)) {
+            return new PDFTextStripper().getText(document);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Could not extract text of {}", file, e);
+            return "";
+        }
+    }
+
+    private static boolean isPdf(Path file) {
+        return FileUtil.getFileExtension(file).map(extension -> extension.equalsIgnoreCase("pdf")).orElse(false);
+    }
+
+    private static String getKey(Path file) {
+        return file.toAbsolutePath().normalize().toString();
+    }
+
+    private IndexWriter openWriter(Directory indexDirectory) throws IOException {
+        return new IndexWriter(indexDirectory, new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+    }
+
+    private IndexWriter openWriterUnchecked(Directory indexDirectory) {
+        try {
+            return openWriter(indexDirectory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(Directory indexDirectory) {
+        if (indexDirectory == null) {
+            return;
+        }
+        try {
+            indexDirectory.close();
+        } catch (IOException e) {
+            LOGGER.debug("Could not close {}", indexDirectory, e);
+        }
+    }
+
+    private static SearcherManager openSearcherManager(IndexWriter writer) {
+        try {
+            return new SearcherManager(writer, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
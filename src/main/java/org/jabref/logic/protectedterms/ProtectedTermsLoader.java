@@ -13,6 +13,7 @@ import java.util.Set;
 import java.util.function.Supplier;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.strings.MultiStringMatcher;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,6 +26,10 @@ public class ProtectedTermsLoader {
 
     private final List<ProtectedTermsList> mainList = new ArrayList<>();
 
+    private MultiStringMatcher protectedTermsMatcher;
+    private final List<ProtectedTermsList> listsOfMatcher = new ArrayList<>();
+    private final List<Integer> stateOfMatcher = new ArrayList<>();
+
     static {
         INTERNAL_LISTS.put("/protectedterms/months_weekdays.terms", () -> Localization.lang("Months and weekdays in English"));
         INTERNAL_LISTS.put("/protectedterms/countries_territories.terms", () -> Localization.lang("Countries and territories in English"));
@@ -121,6 +126,40 @@ public class ProtectedTermsLoader {
         return new ArrayList<>(result);
     }
 
+    /**
+     * Returns a matcher for the terms of all enabled lists. The matcher is only built again if a list was added,
+     * removed, enabled, disabled or if terms were added to a list since the last call.
+     */
+    public synchronized MultiStringMatcher getProtectedTermsMatcher() {
+        if ((protectedTermsMatcher == null) || !isMatcherUpToDate()) {
+            protectedTermsMatcher = new MultiStringMatcher(getProtectedTerms());
+            listsOfMatcher.clear();
+            stateOfMatcher.clear();
+            for (ProtectedTermsList list : mainList) {
+                listsOfMatcher.add(list);
+                stateOfMatcher.add(getState(list));
+            }
+        }
+        return protectedTermsMatcher;
+    }
+
+    private boolean isMatcherUpToDate() {
+        if (listsOfMatcher.size() != mainList.size()) {
+            return false;
+        }
+        for (int i = 0; i < mainList.size(); i++) {
+            // Reloading a list replaces it by a new instance, thus the lists are compared by identity
+            if ((listsOfMatcher.get(i) != mainList.get(i)) || (stateOfMatcher.get(i) != getState(mainList.get(i)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getState(ProtectedTermsList list) {
+        return list.isEnabled() ? list.getTermList().size() : -1;
+    }
+
     public void addProtectedTermsListFromFile(String fileName, boolean enabled) {
         try {
             mainList.add(readProtectedTermsListFromFile(new File(fileName), enabled));
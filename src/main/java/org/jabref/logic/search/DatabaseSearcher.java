@@ -3,6 +3,8 @@ package org.jabref.logic.search;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jabref.model.database.BibDatabase;
@@ -32,7 +34,12 @@ public class DatabaseSearcher {
             return Collections.emptyList();
         }
 
-        List<BibEntry> matchEntries = database.getEntries().stream().filter(query::isMatch).collect(Collectors.toList());
+        // Only check the candidates found in the index, but keep the order of the database
+        Optional<Set<BibEntry>> candidates = query.getCandidates(database.getSearchIndex());
+        List<BibEntry> matchEntries = database.getEntries().parallelStream()
+                                              .filter(entry -> candidates.map(set -> set.contains(entry)).orElse(true))
+                                              .filter(query::isMatch)
+                                              .collect(Collectors.toList());
         return BibDatabases.purgeEmptyEntries(matchEntries);
     }
 }
@@ -0,0 +1,216 @@
+package org.jabref.logic.search;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchIndex;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A search over a snapshot of the entries of a {@link BibDatabase}, which is evaluated in parallel partitions by a
+ * {@link SearchExecutor}. The matches of each partition are published as soon as the partition is done.
+ * <p>
+ * Already while the search is running, {@link #isMatch(BibEntry)} answers from the results found so far. Entries which
+ * were changed after they had been evaluated (or which were added after the search started) are evaluated again.
+ */
+public class ProgressiveSearch {
+
+    /**
+     * Number of entries evaluated (and published) at once
+     */
+    static final int BATCH_SIZE = 1000;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProgressiveSearch.class);
+
+    private static final long NOT_EVALUATED = -1;
+
+    private final SearchQuery query;
+    private final SearchIndex index;
+    private final List<BibEntry> entries;
+    private final Consumer<List<BibEntry>> onBatch;
+    private final Runnable onFinished;
+
+    /**
+     * The result of every entry of the snapshot: the modification count of the entry at evaluation time shifted by one
+     * bit, with the lowest bit set if the entry matched
+     */
+    private final AtomicLongArray results;
+
+    /**
+     * Position of every entry in the snapshot. Built by the search itself to keep the calling thread free.
+     */
+    private volatile Map<BibEntry, Integer> positions;
+
+    private volatile boolean cancelled;
+    private volatile boolean finished;
+
+    /**
+     * The search has to be created on the thread modifying the database (i.e., the JavaFX thread), since it takes a
+     * snapshot of the entries.
+     */
+    ProgressiveSearch(SearchQuery query, BibDatabase database, Consumer<List<BibEntry>> onBatch, Runnable onFinished) {
+        this.query = Objects.requireNonNull(query);
+        this.index = database.getSearchIndex();
+        this.entries = new ArrayList<>(database.getEntries());
+        this.onBatch = Objects.requireNonNull(onBatch);
+        this.onFinished = Objects.requireNonNull(onFinished);
+        this.results = new AtomicLongArray(entries.size());
+    }
+
+    /**
+     * Checks whether the given entry matches the query.
+     * <p>
+     * Entries of the snapshot which were not evaluated yet do not match. Entries not part of the snapshot and entries
+     * changed after their evaluation are evaluated directly.
+     */
+    public boolean isMatch(BibEntry entry) {
+        Map<BibEntry, Integer> currentPositions = positions;
+        if (currentPositions == null) {
+            return false;
+        }
+
+        Integer position = currentPositions.get(entry);
+        if (position == null) {
+            return query.isMatch(entry, index);
+        }
+
+        long result = results.get(position);
+        if (result == NOT_EVALUATED) {
+            return false;
+        }
+        if ((result >>> 1) != entry.getModificationCount()) {
+            return query.isMatch(entry, index);
+        }
+        return (result & 1) == 1;
+    }
+
+    /**
+     * Stops the evaluation of the remaining entries. No further batches are published and the search does not finish.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public SearchQuery getQuery() {
+        return query;
+    }
+
+    RecursiveAction createTask() {
+        return new SearchAllEntries();
+    }
+
+    private void store(int position, int modificationCount, boolean matched) {
+        results.set(position, ((long) modificationCount << 1) | (matched ? 1 : 0));
+    }
+
+    /**
+     * Prepares the snapshot and evaluates it in partitions
+     */
+    private class SearchAllEntries extends RecursiveAction {
+
+        @Override
+        protected void compute() {
+            // The modification counts have to be read before the candidates are looked up in the index
+            Map<BibEntry, Integer> entryPositions = new IdentityHashMap<>(entries.size());
+            int[] modificationCounts = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                entryPositions.put(entries.get(i), i);
+                modificationCounts[i] = entries.get(i).getModificationCount();
+                results.set(i, NOT_EVALUATED);
+            }
+            positions = entryPositions;
+
+            if (cancelled) {
+                return;
+            }
+
+            if (query.isValid()) {
+                Optional<Set<BibEntry>> candidates = query.getCandidates(index);
+                try {
+                    new SearchPartition(0, entries.size(), candidates, modificationCounts).invoke();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Error while searching for " + query, e);
+                }
+            } else {
+                LOGGER.warn("Search failed: illegal search expression");
+            }
+
+            if (!cancelled) {
+                finished = true;
+                onFinished.run();
+            }
+        }
+    }
+
+    /**
+     * Evaluates the entries from {@code from} (inclusive) to {@code to} (exclusive) of the snapshot
+     */
+    private class SearchPartition extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final Optional<Set<BibEntry>> candidates;
+        private final int[] modificationCounts;
+
+        SearchPartition(int from, int to, Optional<Set<BibEntry>> candidates, int[] modificationCounts) {
+            this.from = from;
+            this.to = to;
+            this.candidates = candidates;
+            this.modificationCounts = modificationCounts;
+        }
+
+        @Override
+        protected void compute() {
+            if ((to - from) > BATCH_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new SearchPartition(from, middle, candidates, modificationCounts),
+                        new SearchPartition(middle, to, candidates, modificationCounts));
+                return;
+            }
+
+            List<BibEntry> matches = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                if (cancelled) {
+                    return;
+                }
+
+                BibEntry entry = entries.get(i);
+                if (candidates.isPresent() && !candidates.get().contains(entry)) {
+                    store(i, modificationCounts[i], false);
+                    continue;
+                }
+
+                int modificationCount = entry.getModificationCount();
+                boolean matched = query.isMatch(entry);
+                store(i, modificationCount, matched);
+                if (matched) {
+                    matches.add(entry);
+                }
+            }
+
+            if (!cancelled && !matches.isEmpty()) {
+                onBatch.accept(matches);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.jabref.logic.search;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Runs searches in the background by partitioning the entries of a database across a {@link ForkJoinPool}.
+ * <p>
+ * Only the latest search is of interest: starting a new search cancels the one still running, e.g., when the user
+ * typed another character.
+ */
+public class SearchExecutor {
+
+    private final ForkJoinPool pool;
+
+    private Optional<ProgressiveSearch> currentSearch = Optional.empty();
+
+    public SearchExecutor() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SearchExecutor(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Cancels the running search and starts searching the given database. This method has to be called on the thread
+     * modifying the database, since the entries are copied before the search starts.
+     *
+     * @param onBatch    called from a worker thread with the matches of each partition of the entries
+     * @param onFinished called from a worker thread after all entries have been evaluated, unless the search was cancelled
+     */
+    public synchronized ProgressiveSearch search(SearchQuery query, BibDatabase database, Consumer<List<BibEntry>> onBatch, Runnable onFinished) {
+        cancel();
+        ProgressiveSearch search = new ProgressiveSearch(query, database, onBatch, onFinished);
+        currentSearch = Optional.of(search);
+        pool.execute(search.createTask());
+        return search;
+    }
+
+    /**
+     * Cancels the running search (if any)
+     */
+    public synchronized void cancel() {
+        currentSearch.ifPresent(ProgressiveSearch::cancel);
+        currentSearch = Optional.empty();
+    }
+}
@@ -4,12 +4,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.model.search.SearchMatcher;
 import org.jabref.model.search.rules.ContainBasedSearchRule;
 import org.jabref.model.search.rules.GrammarBasedSearchRule;
@@ -58,13 +60,45 @@ public class SearchQuery implements SearchMatcher {
     private final String query;
     private final boolean caseSensitive;
     private final boolean regularExpression;
+    private final boolean fulltext;
     private final SearchRule rule;
+    private final List<String> indexTerms;
+    private final Optional<SearchMatcher> attachmentMatcher;
 
     public SearchQuery(String query, boolean caseSensitive, boolean regularExpression) {
+        this(query, caseSensitive, regularExpression, false);
+    }
+
+    /**
+     * @param fulltext whether entries whose attached files contain the words of the query match as well. The files are
+     *                 only searched once {@link #withAttachmentMatcher(SearchMatcher) a matcher for them} is set.
+     */
+    public SearchQuery(String query, boolean caseSensitive, boolean regularExpression, boolean fulltext) {
         this.query = Objects.requireNonNull(query);
         this.caseSensitive = caseSensitive;
         this.regularExpression = regularExpression;
+        this.fulltext = fulltext;
         this.rule = SearchRules.getSearchRuleByQuery(query, caseSensitive, regularExpression);
+        this.indexTerms = rule.getIndexTerms(query);
+        this.attachmentMatcher = Optional.empty();
+    }
+
+    private SearchQuery(SearchQuery searchQuery, SearchMatcher attachmentMatcher) {
+        this.query = searchQuery.query;
+        this.caseSensitive = searchQuery.caseSensitive;
+        this.regularExpression = searchQuery.regularExpression;
+        this.fulltext = searchQuery.fulltext;
+        this.rule = searchQuery.rule;
+        this.indexTerms = searchQuery.indexTerms;
+        this.attachmentMatcher = Optional.of(attachmentMatcher);
+    }
+
+    /**
+     * Returns a copy of this query which additionally matches the entries matched by the given matcher, e.g., the
+     * entries having an attachment which contains the words of the query.
+     */
+    public SearchQuery withAttachmentMatcher(SearchMatcher attachmentMatcher) {
+        return new SearchQuery(this, Objects.requireNonNull(attachmentMatcher));
     }
 
     @Override
@@ -74,7 +108,31 @@ public class SearchQuery implements SearchMatcher {
 
     @Override
     public boolean isMatch(BibEntry entry) {
-        return rule.applyRule(getQuery(), entry);
+        return rule.applyRule(getQuery(), entry)
+                || attachmentMatcher.map(matcher -> matcher.isMatch(entry)).orElse(false);
+    }
+
+    /**
+     * Same as {@link #isMatch(BibEntry)}, but first uses the given index to rule out entries cheaply.
+     */
+    public boolean isMatch(BibEntry entry, SearchIndex index) {
+        if (attachmentMatcher.isPresent()) {
+            // The index only knows the fields of the entries
+            return isMatch(entry);
+        }
+        return index.isCandidate(entry, indexTerms) && isMatch(entry);
+    }
+
+    /**
+     * Looks up the entries possibly matching this query in the given index.
+     *
+     * @return a superset of the matching entries or an empty optional if the index cannot narrow down the search
+     */
+    public Optional<Set<BibEntry>> getCandidates(SearchIndex index) {
+        if (indexTerms.isEmpty() || attachmentMatcher.isPresent()) {
+            return Optional.empty();
+        }
+        return index.getCandidates(indexTerms);
     }
 
     public boolean isValid() {
@@ -145,6 +203,10 @@ public class SearchQuery implements SearchMatcher {
         return regularExpression;
     }
 
+    public boolean isFulltext() {
+        return fulltext;
+    }
+
     /**
      * Returns a list of words this query searches for. The returned strings can be a regular expression.
      */
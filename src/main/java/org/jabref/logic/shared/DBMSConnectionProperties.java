@@ -28,6 +28,7 @@ public class DBMSConnectionProperties implements DatabaseConnectionProperties {
     private boolean allowPublicKeyRetrieval;
     private boolean useSSL;
     private String serverTimezone = "";
+    private int batchSize = DBMSProcessor.DEFAULT_BATCH_SIZE;
 
     // Not needed for connection, but stored for future login
     private String keyStore;
@@ -49,6 +50,7 @@ public class DBMSConnectionProperties implements DatabaseConnectionProperties {
         prefs.getKeyStoreFile().ifPresent(theKeystore -> this.keyStore = theKeystore);
         prefs.getServerTimezone().ifPresent(theServerTimezone -> this.serverTimezone = theServerTimezone);
         this.useSSL = prefs.isUseSSL();
+        this.batchSize = prefs.getBatchSize();
 
         if (prefs.getUser().isPresent()) {
             this.user = prefs.getUser().get();
@@ -68,7 +70,7 @@ public class DBMSConnectionProperties implements DatabaseConnectionProperties {
     }
 
     DBMSConnectionProperties(DBMSType type, String host, int port, String database, String user,
-                             String password, boolean useSSL, boolean allowPublicKeyRetrieval, String serverTimezone, String keyStore) {
+                             String password, boolean useSSL, boolean allowPublicKeyRetrieval, String serverTimezone, String keyStore, int batchSize) {
         this.type = type;
         this.host = host;
         this.port = port;
@@ -79,6 +81,7 @@ public class DBMSConnectionProperties implements DatabaseConnectionProperties {
         this.allowPublicKeyRetrieval = allowPublicKeyRetrieval;
         this.serverTimezone = serverTimezone;
         this.keyStore = keyStore;
+        this.batchSize = batchSize;
     }
 
     @Override
@@ -126,6 +129,11 @@ public class DBMSConnectionProperties implements DatabaseConnectionProperties {
         return serverTimezone;
     }
 
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     public String getUrl() {
         String url = type.getUrl(host, port, database);
         return url;
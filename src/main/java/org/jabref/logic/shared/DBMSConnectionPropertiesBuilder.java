@@ -11,6 +11,7 @@ public class DBMSConnectionPropertiesBuilder {
     private boolean allowPublicKeyRetrieval;
     private String serverTimezone = "";
     private String keyStore;
+    private int batchSize = DBMSProcessor.DEFAULT_BATCH_SIZE;
 
     public DBMSConnectionPropertiesBuilder setType(DBMSType type) {
         this.type = type;
@@ -62,10 +63,15 @@ public class DBMSConnectionPropertiesBuilder {
         return this;
     }
 
+    public DBMSConnectionPropertiesBuilder setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
     public DBMSConnectionProperties createDBMSConnectionProperties() {
         if (port == -1) {
             port = type.getDefaultPort();
         }
-        return new DBMSConnectionProperties(type, host, port, database, user, password, useSSL, allowPublicKeyRetrieval, serverTimezone, keyStore);
+        return new DBMSConnectionProperties(type, host, port, database, user, password, useSSL, allowPublicKeyRetrieval, serverTimezone, keyStore, batchSize);
     }
 }
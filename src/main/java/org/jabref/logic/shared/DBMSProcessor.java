@@ -19,6 +19,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
+import org.jabref.logic.shared.prefs.SharedDatabasePreferences;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.SharedBibEntryData;
 import org.jabref.model.entry.event.EntriesEventSource;
@@ -26,6 +27,7 @@ import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.types.EntryTypeFactory;
 
+import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,15 +38,25 @@ public abstract class DBMSProcessor {
 
     public static final String PROCESSOR_ID = UUID.randomUUID().toString();
 
+    /**
+     * Default for the maximum number of rows written by a single statement or JDBC batch
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
+        if (connectionProperties.getBatchSize() > 0) {
+            this.batchSize = connectionProperties.getBatchSize();
+        }
     }
 
     /**
@@ -129,6 +141,23 @@ public abstract class DBMSProcessor {
      */
     abstract String escape(String expression);
 
+    /**
+     * Sets the maximum number of rows written by a single statement or JDBC batch. Larger batches need less round trips
+     * to the database, but some database systems limit the number of parameters of a statement.
+     * <p>
+     * The batch size is initialized from the connection properties, see {@link SharedDatabasePreferences#getBatchSize()}.
+     */
+    public void setBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size has to be positive");
+        }
+        this.batchSize = batchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     /**
      * For use in test only. Inserts the BibEntry into the shared database.
      *
@@ -139,25 +168,50 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Inserts the List of BibEntry into the shared database.
+     * Inserts the List of BibEntry into the shared database. All entries are inserted in a single transaction, using
+     * multi-row statements of at most {@link #getBatchSize()} rows. If the transaction fails, the entries are left
+     * unshared, i.e., their shared ID is reset to -1.
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
+     * @return <code>true</code> if the entries were inserted, <code>false</code> if the transaction was rolled back
      */
-    public void insertEntries(List<BibEntry> bibEntries) {
+    public boolean insertEntries(List<BibEntry> bibEntries) {
         List<BibEntry> notYetExistingEntries = getNotYetExistingEntries(bibEntries);
         if (notYetExistingEntries.isEmpty()) {
-            return;
+            return true;
         }
-        insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+
+        try {
+            connection.setAutoCommit(false); // disable auto commit due to transaction
+            try {
+                for (List<BibEntry> partition : Lists.partition(notYetExistingEntries, batchSize)) {
+                    insertIntoEntryTable(partition);
+                }
+                insertIntoFieldTable(notYetExistingEntries);
+                connection.commit(); // apply all changes in current transaction
+                return true;
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
+                connection.rollback(); // undo changes made in current transaction
+            } finally {
+                connection.setAutoCommit(true); // enable auto commit mode again
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error: ", e);
+        }
+
+        // The shared IDs assigned during the transaction do not exist in the database, thus the entries would be
+        // considered as removed from the shared database and removed from the local library, too
+        notYetExistingEntries.forEach(entry -> entry.getSharedBibEntryData().setSharedID(-1));
+        return false;
     }
 
     /**
-     * Inserts the given List of BibEntry into the ENTRY table.
+     * Inserts the given List of BibEntry into the ENTRY table using a single statement.
      *
-     * @param bibEntries List of {@link BibEntry} to be inserted
+     * @param bibEntries List of {@link BibEntry} to be inserted, at most {@link #getBatchSize()} entries
      */
-    protected void insertIntoEntryTable(List<BibEntry> bibEntries) {
+    protected void insertIntoEntryTable(List<BibEntry> bibEntries) throws SQLException {
         StringBuilder insertIntoEntryQuery = new StringBuilder()
                 .append("INSERT INTO ")
                 .append(escape("ENTRY"))
@@ -187,8 +241,6 @@ public abstract class DBMSProcessor {
                     LOGGER.error("Error: Some shared IDs left unassigned");
                 }
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -200,7 +252,7 @@ public abstract class DBMSProcessor {
      */
     private List<BibEntry> getNotYetExistingEntries(List<BibEntry> bibEntries) {
 
-        List<Integer> remoteIds = new ArrayList<>();
+        Set<Integer> remoteIds = new HashSet<>();
         List<Integer> localIds = bibEntries.stream()
                                            .map(BibEntry::getSharedBibEntryData)
                                            .map(SharedBibEntryData::getSharedID)
@@ -233,54 +285,60 @@ public abstract class DBMSProcessor {
      *
      * @param bibEntries {@link BibEntry} to be inserted
      */
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
-
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
+    private void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        List<BibEntry> fieldEntries = new ArrayList<>();
+        List<Field> fields = new ArrayList<>();
+        for (BibEntry bibEntry : bibEntries) {
+            for (Field field : bibEntry.getFields()) {
+                fieldEntries.add(bibEntry);
+                fields.add(field);
             }
+        }
+        insertIntoFieldTable(fieldEntries, fields);
+    }
 
-            // Number of commas is fields.size() - 1
-            for (int i = 0; i < (numFields - 1); i++) {
-                insertFieldQuery.append(", (?, ?, ?)");
-            }
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+    /**
+     * Inserts the given fields into FIELD table using multi-row statements of at most {@link #getBatchSize()} rows.
+     *
+     * @param fieldEntries the {@link BibEntry} the field at the same position belongs to
+     * @param fields       the fields to be inserted
+     */
+    private void insertIntoFieldTable(List<BibEntry> fieldEntries, List<Field> fields) throws SQLException {
+        for (int from = 0; from < fields.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, fields.size());
+            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(getInsertIntoFieldTableQuery(to - from))) {
+                for (int i = from; i < to; i++) {
+                    // columnIndex starts with 1
+                    int fieldsCompleted = i - from;
+                    BibEntry bibEntry = fieldEntries.get(i);
+                    preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntry.getSharedBibEntryData().getSharedID());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(i).getName());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntry.getField(fields.get(i)).orElse(null));
                 }
                 preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
+    /**
+     * Creates the statement inserting the given number of rows (ENTRY_SHARED_ID, NAME, VALUE) into FIELD table.
+     */
+    protected String getInsertIntoFieldTableQuery(int numberOfRows) {
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
+        // Number of commas is numberOfRows - 1
+        insertFieldQuery.append(", (?, ?, ?)".repeat(numberOfRows - 1));
+        return insertFieldQuery.toString();
+    }
+
     /**
      * Updates the whole {@link BibEntry} on shared database.
      *
@@ -299,14 +357,14 @@ public abstract class DBMSProcessor {
 
             BibEntry sharedBibEntry = sharedEntryOptional.get();
 
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
-
             // update only if local version is higher or the entries are equal
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                                                                                      .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
 
-                insertOrUpdateFields(localBibEntry);
+                // remove shared fields which do not exist locally
+                removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
+
+                insertOrUpdateFields(localBibEntry, sharedBibEntry);
 
                 // updating entry type
                 StringBuilder updateEntryTypeQuery = new StringBuilder()
@@ -341,98 +399,82 @@ public abstract class DBMSProcessor {
     }
 
     /**
-     * Helping method. Removes shared fields which do not exist locally
+     * Helping method. Removes shared fields which do not exist locally using a single statement per
+     * {@link #getBatchSize()} fields.
      */
     private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
         Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
         nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
+        for (List<Field> partition : Lists.partition(new ArrayList<>(nullFields), batchSize)) {
             StringBuilder deleteFieldQuery = new StringBuilder()
                     .append("DELETE FROM ")
                     .append(escape("FIELD"))
                     .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
                     .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
+                    .append(" = ? AND ")
+                    .append(escape("NAME"))
+                    .append(" IN (")
+                    .append("?, ".repeat(partition.size() - 1))
+                    .append("?)");
 
             try (PreparedStatement preparedDeleteFieldStatement = connection
                     .prepareStatement(deleteFieldQuery.toString())) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+                preparedDeleteFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
+                for (int i = 0; i < partition.size(); i++) {
+                    preparedDeleteFieldStatement.setString(i + 2, partition.get(i).getName());
+                }
                 preparedDeleteFieldStatement.executeUpdate();
             }
         }
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
+     * Helping method. Inserts a key-value pair into FIELD table for every field not existing in the shared entry.
+     * Fields whose value differs from the shared entry are updated. The updates are sent as JDBC batches, the inserts as
+     * multi-row statements, thus the number of round trips does not grow with the number of fields.
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
+    private void insertOrUpdateFields(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
+        List<BibEntry> insertedFieldEntries = new ArrayList<>();
+        List<Field> insertedFields = new ArrayList<>();
+        List<Field> updatedFields = new ArrayList<>();
         for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
+            Optional<String> sharedValue = sharedBibEntry.getField(field);
+            if (sharedValue.isEmpty()) {
+                insertedFieldEntries.add(localBibEntry);
+                insertedFields.add(field);
+            } else if (!sharedValue.equals(localBibEntry.getField(field))) {
+                updatedFields.add(field);
             }
+        }
 
-            StringBuilder selectFieldQuery = new StringBuilder()
-                    .append("SELECT * FROM ")
-                    .append(escape("FIELD"))
-                    .append(" WHERE ")
-                    .append(escape("NAME"))
-                    .append(" = ? AND ")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(" = ?");
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery.toString())) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        StringBuilder updateFieldQuery = new StringBuilder()
-                                .append("UPDATE ")
-                                .append(escape("FIELD"))
-                                .append(" SET ")
-                                .append(escape("VALUE"))
-                                .append(" = ? WHERE ")
-                                .append(escape("NAME"))
-                                .append(" = ? AND ")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(" = ?");
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery.toString())) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        StringBuilder insertFieldQuery = new StringBuilder()
-                                .append("INSERT INTO ")
-                                .append(escape("FIELD"))
-                                .append("(")
-                                .append(escape("ENTRY_SHARED_ID"))
-                                .append(", ")
-                                .append(escape("NAME"))
-                                .append(", ")
-                                .append(escape("VALUE"))
-                                .append(") VALUES(?, ?, ?)");
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery.toString())) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
+        insertIntoFieldTable(insertedFieldEntries, insertedFields);
+
+        if (updatedFields.isEmpty()) {
+            return;
+        }
+
+        StringBuilder updateFieldQuery = new StringBuilder()
+                .append("UPDATE ")
+                .append(escape("FIELD"))
+                .append(" SET ")
+                .append(escape("VALUE"))
+                .append(" = ? WHERE ")
+                .append(escape("NAME"))
+                .append(" = ? AND ")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(" = ?");
+
+        try (PreparedStatement preparedUpdateFieldStatement = connection
+                .prepareStatement(updateFieldQuery.toString())) {
+            for (List<Field> partition : Lists.partition(updatedFields, batchSize)) {
+                for (Field field : partition) {
+                    // null values are accepted by PreparedStatement!
+                    preparedUpdateFieldStatement.setString(1, localBibEntry.getField(field).orElse(null));
+                    preparedUpdateFieldStatement.setString(2, field.getName());
+                    preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
+                    preparedUpdateFieldStatement.addBatch();
                 }
+                preparedUpdateFieldStatement.executeBatch();
             }
         }
     }
@@ -444,25 +486,25 @@ public abstract class DBMSProcessor {
      */
     public void removeEntries(List<BibEntry> bibEntries) {
         Objects.requireNonNull(bibEntries);
-        if (bibEntries.isEmpty()) {
-            return;
-        }
-        StringBuilder query = new StringBuilder()
-                .append("DELETE FROM ")
-                .append(escape("ENTRY"))
-                .append(" WHERE ")
-                .append(escape("SHARED_ID"))
-                .append(" IN (");
-        query.append("?, ".repeat(bibEntries.size() - 1));
-        query.append("?)");
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            for (int j = 0; j < bibEntries.size(); j++) {
-                preparedStatement.setInt(j + 1, bibEntries.get(j).getSharedBibEntryData().getSharedID());
+        // Some database systems limit the number of expressions in a list (e.g., Oracle to 1000)
+        for (List<BibEntry> partition : Lists.partition(bibEntries, batchSize)) {
+            StringBuilder query = new StringBuilder()
+                    .append("DELETE FROM ")
+                    .append(escape("ENTRY"))
+                    .append(" WHERE ")
+                    .append(escape("SHARED_ID"))
+                    .append(" IN (");
+            query.append("?, ".repeat(partition.size() - 1));
+            query.append("?)");
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
+                for (int j = 0; j < partition.size(); j++) {
+                    preparedStatement.setInt(j + 1, partition.get(j).getSharedBibEntryData().getSharedID());
+                }
+                preparedStatement.executeUpdate();
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error: ", e);
             }
-            preparedStatement.executeUpdate();
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
         }
     }
 
@@ -3,6 +3,7 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -44,6 +45,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DBMSSynchronizer.class);
 
+    private static final int FETCH_CHUNK_SIZE = 500;
+
     private DBMSProcessor dbmsProcessor;
     private String dbName;
     private final BibDatabaseContext bibDatabaseContext;
@@ -81,7 +84,9 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             synchronizeLocalDatabase();
-            dbmsProcessor.insertEntries(event.getBibEntries());
+            if (!dbmsProcessor.insertEntries(event.getBibEntries())) {
+                LOGGER.warn("Could not insert {} entries into the shared database, they are kept locally only", event.getBibEntries().size());
+            }
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
@@ -173,6 +178,8 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     /**
      * Synchronizes the local database with shared one. Possible update types are: removal, update, or insert of a
      * {@link BibEntry}.
+     * <p>
+     * All outdated and missing entries are fetched from the shared database at once and applied afterwards.
      */
     @Override
     public void synchronizeLocalDatabase() {
@@ -185,44 +192,64 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
+
+        Map<Integer, BibEntry> localEntriesBySharedID = new HashMap<>();
+        for (BibEntry localEntry : bibDatabase.getEntries()) {
+            localEntriesBySharedID.put(localEntry.getSharedBibEntryData().getSharedID(), localEntry);
+        }
+
         List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
+        List<Integer> entriesToUpdateInLocalDatabase = new ArrayList<>();
+        // compare versions and collect the entries which need to be fetched
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
-            }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
+            BibEntry localEntry = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if (localEntry == null) {
                 entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            } else if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
+                entriesToUpdateInLocalDatabase.add(idVersionEntry.getKey());
+            }
+        }
+
+        List<Integer> entriesToFetch = new ArrayList<>(entriesToUpdateInLocalDatabase);
+        entriesToFetch.addAll(entriesToInsertIntoLocalDatabase);
+        if (entriesToFetch.isEmpty()) {
+            return;
+        }
+
+        List<BibEntry> entriesToInsert = new ArrayList<>();
+        for (BibEntry sharedEntry : getSharedEntries(entriesToFetch)) {
+            BibEntry localEntry = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (localEntry == null) {
+                entriesToInsert.add(sharedEntry);
+            } else {
+                updateLocalEntry(localEntry, sharedEntry);
             }
         }
 
-        if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
+        if (!entriesToInsert.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.getSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            bibDatabase.insertEntries(entriesToInsert, EntriesEventSource.SHARED);
+        }
+    }
+
+    /**
+     * Fetches the given shared entries. The ids are split into chunks, because some DBMS (e.g. Oracle) limit the number
+     * of expressions in an <code>IN</code> list.
+     */
+    private List<BibEntry> getSharedEntries(List<Integer> sharedIDs) {
+        List<BibEntry> sharedEntries = new ArrayList<>(sharedIDs.size());
+        for (int start = 0; start < sharedIDs.size(); start += FETCH_CHUNK_SIZE) {
+            List<Integer> chunk = sharedIDs.subList(start, Math.min(sharedIDs.size(), start + FETCH_CHUNK_SIZE));
+            sharedEntries.addAll(dbmsProcessor.getSharedEntries(chunk));
         }
+        return sharedEntries;
+    }
+
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData().setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        // replace the local fields by the remote ones at once, fields not existing remotely are removed
+        localEntry.setFields(sharedEntry.getFieldMap(), EntriesEventSource.SHARED);
     }
 
     /**
@@ -232,8 +259,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      * @param sharedIDs    Set of all IDs which are present on shared database
      */
     private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
+        // Entries without a shared ID were never inserted into the shared database, e.g., because the insertion failed
         List<BibEntry> entriesToRemove =
                 localEntries.stream()
+                            .filter(localEntry -> localEntry.getSharedBibEntryData().getSharedID() != -1)
                             .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
                             .collect(Collectors.toList());
         if (!entriesToRemove.isEmpty()) {
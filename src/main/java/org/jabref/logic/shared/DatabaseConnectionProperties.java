@@ -23,4 +23,9 @@ public interface DatabaseConnectionProperties {
     boolean isAllowPublicKeyRetrieval();
 
     String getServerTimezone();
+
+    /**
+     * Returns the maximum number of rows written by a single statement or JDBC batch
+     */
+    int getBatchSize();
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.prefs.BackingStoreException;
 import java.util.prefs.Preferences;
 
+import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DatabaseConnectionProperties;
 import org.jabref.logic.shared.security.Password;
 
@@ -29,6 +30,7 @@ public class SharedDatabasePreferences {
     private static final String SHARED_DATABASE_USE_SSL = "sharedDatabaseUseSSL";
     private static final String SHARED_DATABASE_KEYSTORE_FILE = "sharedDatabaseKeyStoreFile";
     private static final String SHARED_DATABASE_SERVER_TIMEZONE = "sharedDatabaseServerTimezone";
+    private static final String SHARED_DATABASE_BATCH_SIZE = "sharedDatabaseBatchSize";
 
     // This {@link Preferences} is used only for things which should not appear in real JabRefPreferences due to security reasons.
     private final Preferences internalPrefs;
@@ -81,6 +83,10 @@ public class SharedDatabasePreferences {
         return internalPrefs.getBoolean(SHARED_DATABASE_USE_SSL, false);
     }
 
+    public int getBatchSize() {
+        return internalPrefs.getInt(SHARED_DATABASE_BATCH_SIZE, DBMSProcessor.DEFAULT_BATCH_SIZE);
+    }
+
     public void setType(String type) {
         internalPrefs.put(SHARED_DATABASE_TYPE, type);
     }
@@ -121,6 +127,10 @@ public class SharedDatabasePreferences {
         internalPrefs.put(SHARED_DATABASE_SERVER_TIMEZONE, serverTimezone);
     }
 
+    public void setBatchSize(int batchSize) {
+        internalPrefs.putInt(SHARED_DATABASE_BATCH_SIZE, batchSize);
+    }
+
     public void clearPassword() {
         internalPrefs.remove(SHARED_DATABASE_PASSWORD);
     }
@@ -148,6 +158,7 @@ public class SharedDatabasePreferences {
         setUseSSL(properties.isUseSSL());
         setKeystoreFile(properties.getKeyStore());
         setServerTimezone(properties.getServerTimezone());
+        setBatchSize(properties.getBatchSize());
 
         try {
             setPassword(new Password(properties.getPassword().toCharArray(), properties.getUser()).encrypt());
@@ -0,0 +1,143 @@
+package org.jabref.logic.util.strings;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Finds all occurrences of a fixed set of strings in a text in a single pass (Aho-Corasick automaton).
+ * <p>
+ * Building the matcher takes time linear in the total length of the strings, thus a matcher should be built once and
+ * reused for many texts. The matcher is immutable and can be used from several threads.
+ */
+public class MultiStringMatcher {
+
+    private final Node root = new Node();
+
+    public MultiStringMatcher(Collection<String> strings) {
+        for (String string : strings) {
+            if (!Objects.requireNonNull(string).isEmpty()) {
+                add(string);
+            }
+        }
+        linkNodes();
+    }
+
+    /**
+     * Returns all occurrences of the strings in the given text, ordered by their end. Occurrences ending at the same
+     * position are ordered from the longest to the shortest.
+     */
+    public List<Match> findAll(String text) {
+        List<Match> matches = new ArrayList<>();
+        Node node = root;
+        for (int position = 0; position < text.length(); position++) {
+            char character = text.charAt(position);
+            while ((node != root) && !node.children.containsKey(character)) {
+                node = node.failure;
+            }
+            node = node.children.getOrDefault(character, root);
+
+            for (Node output = (node.length > 0) ? node : node.output; output != null; output = output.output) {
+                matches.add(new Match(position + 1 - output.length, position + 1));
+            }
+        }
+        return matches;
+    }
+
+    private void add(String string) {
+        Node node = root;
+        for (int i = 0; i < string.length(); i++) {
+            node = node.children.computeIfAbsent(string.charAt(i), character -> new Node());
+        }
+        node.length = string.length();
+    }
+
+    /**
+     * Sets the failure link of each node to the node of its longest proper suffix, and the output link to the node of
+     * its longest proper suffix which is one of the strings
+     */
+    private void linkNodes() {
+        Deque<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<Character, Node> entry : node.children.entrySet()) {
+                char character = entry.getKey();
+                Node child = entry.getValue();
+
+                Node failure = node.failure;
+                while ((failure != root) && !failure.children.containsKey(character)) {
+                    failure = failure.failure;
+                }
+                child.failure = failure.children.getOrDefault(character, root);
+                child.output = (child.failure.length > 0) ? child.failure : child.failure.output;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static class Node {
+
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node failure;
+        private Node output;
+
+        /**
+         * Length of the string ending at this node, or 0 if no string ends here
+         */
+        private int length;
+    }
+
+    /**
+     * An occurrence of one of the strings, from {@code start} (inclusive) to {@code end} (exclusive)
+     */
+    public static class Match {
+
+        private final int start;
+        private final int end;
+
+        public Match(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        public int getStart() {
+            return start;
+        }
+
+        public int getEnd() {
+            return end;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if ((o == null) || (getClass() != o.getClass())) {
+                return false;
+            }
+            Match match = (Match) o;
+            return (start == match.start) && (end == match.end);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return "Match{" + start + ", " + end + '}';
+        }
+    }
+}
@@ -31,7 +31,10 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.GroupMembershipIndex;
+import org.jabref.model.search.SearchIndex;
 import org.jabref.model.strings.StringUtil;
 
 import com.google.common.eventbus.EventBus;
@@ -61,6 +64,22 @@ public class BibDatabase {
     private String epilog = "";
     private String sharedDatabaseID;
 
+    /**
+     * Always kept up to date, because looking up entries by their key is needed everywhere (e.g., for resolving
+     * crossrefs and for generating unique keys)
+     */
+    private final CitationKeyIndex citationKeyIndex = new CitationKeyIndex();
+
+    /**
+     * Created on first use, because building the index is only worth the effort if the database is searched
+     */
+    private SearchIndex searchIndex;
+
+    /**
+     * Created on first use, because the index is only needed if groups are displayed or selected
+     */
+    private GroupMembershipIndex groupMembershipIndex;
+
     public BibDatabase(List<BibEntry> entries) {
         this();
         insertEntries(entries);
@@ -121,6 +140,27 @@ public class BibDatabase {
         return FXCollections.unmodifiableObservableList(entries);
     }
 
+    /**
+     * Returns the search index of this database. The index is built on first access and kept up to date afterwards.
+     */
+    public synchronized SearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new SearchIndex(this);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns the index of the group memberships of the entries. The index is created on first access and kept up to
+     * date afterwards.
+     */
+    public synchronized GroupMembershipIndex getGroupMembershipIndex() {
+        if (groupMembershipIndex == null) {
+            groupMembershipIndex = new GroupMembershipIndex(this);
+        }
+        return groupMembershipIndex;
+    }
+
     /**
      * Returns a set of Strings, that contains all field names that are visible. This means that the fields
      * are not internal fields. Internal fields are fields, that are starting with "_".
@@ -137,15 +177,11 @@ public class BibDatabase {
     }
 
     /**
-     * Returns the entry with the given citation key.
+     * Returns the entry with the given citation key. If several entries have this key, the first one in the database
+     * is returned.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        for (BibEntry entry : entries) {
-            if (key.equals(entry.getCitationKey().orElse(null))) {
-                return Optional.of(entry);
-            }
-        }
-        return Optional.empty();
+        return getEntriesByCitationKey(key).stream().findFirst();
     }
 
     /**
@@ -155,16 +191,15 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+        List<BibEntry> result = citationKeyIndex.getEntries(key);
+        if (result.size() <= 1) {
+            return result;
         }
-        return result;
+
+        // Duplicate keys are rare, thus we restore the order of the database only in this case
+        return entries.stream()
+                      .filter(entry -> result.stream().anyMatch(entryWithKey -> entryWithKey == entry))
+                      .collect(Collectors.toList());
     }
 
     /**
@@ -199,6 +234,7 @@ public class BibDatabase {
         for (BibEntry entry : newEntries) {
             entry.registerListener(this);
         }
+        citationKeyIndex.addEntries(newEntries);
         if (newEntries.isEmpty()) {
             eventBus.post(new EntriesAddedEvent(newEntries, eventSource));
         } else {
@@ -235,13 +271,23 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = new HashSet<>();
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
-        if (anyRemoved) {
-            eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
+        // The given entries may be other instances with the same id (e.g., after undoing a merge), thus the indexes
+        // have to forget the instances actually removed
+        List<BibEntry> removedEntries = new ArrayList<>();
+        entries.removeIf(entry -> {
+            if (ids.contains(entry.getId())) {
+                removedEntries.add(entry);
+                return true;
+            }
+            return false;
+        });
+        if (!removedEntries.isEmpty()) {
+            citationKeyIndex.removeEntries(removedEntries);
+            eventBus.post(new EntriesRemovedEvent(removedEntries, eventSource));
         }
     }
 
@@ -573,6 +619,10 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        if (InternalField.KEY_FIELD.equals(event.getField())) {
+            // Update the index first, listeners of the database may look up the new key
+            citationKeyIndex.updateEntry(event.getBibEntry());
+        }
         eventBus.post(event);
     }
 
@@ -610,10 +660,7 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        return citationKeyIndex.getNumberOfEntries(key);
     }
 
     /**
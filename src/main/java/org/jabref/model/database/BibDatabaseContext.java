@@ -9,13 +9,17 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.jabref.architecture.AllowedToUseLogic;
+import org.jabref.logic.exporter.SerializationCache;
 import org.jabref.logic.shared.DatabaseLocation;
 import org.jabref.logic.shared.DatabaseSynchronizer;
 import org.jabref.logic.util.CoarseChangeFilter;
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.preferences.FilePreferences;
 
+import com.google.common.eventbus.Subscribe;
+
 /**
  * Represents everything related to a BIB file. <p> The entries are stored in BibDatabase, the other data in MetaData
  * and the options relevant for this file in Defaults.
@@ -35,6 +39,11 @@ public class BibDatabaseContext {
     private CoarseChangeFilter dbmsListener;
     private DatabaseLocation location;
 
+    /**
+     * Serializations of the entries written by the last save. Used to avoid serializing unchanged entries again.
+     */
+    private final SerializationCache serializationCache = new SerializationCache();
+
     public BibDatabaseContext() {
         this(new BibDatabase());
     }
@@ -48,6 +57,7 @@ public class BibDatabaseContext {
         this.metaData = Objects.requireNonNull(metaData);
         this.location = DatabaseLocation.LOCAL;
         this.path = Optional.empty();
+        metaData.registerListener(this);
     }
 
     public BibDatabaseContext(BibDatabase database, MetaData metaData, Path path) {
@@ -97,8 +107,23 @@ public class BibDatabaseContext {
         return metaData;
     }
 
+    public SerializationCache getSerializationCache() {
+        return serializationCache;
+    }
+
     public void setMetaData(MetaData metaData) {
+        this.metaData.unregisterListener(this);
         this.metaData = Objects.requireNonNull(metaData);
+        metaData.registerListener(this);
+    }
+
+    /**
+     * Lets the group membership index forget the groups which were removed or replaced and recombine the groups of the
+     * tree
+     */
+    @Subscribe
+    public void listen(GroupUpdatedEvent event) {
+        metaData.getGroups().ifPresent(root -> database.getGroupMembershipIndex().retainGroups(root));
     }
 
     public boolean isBiblatexMode() {
@@ -0,0 +1,91 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * Maps the citation keys of the entries of a {@link BibDatabase} to the entries having that key.
+ * <p>
+ * The database updates the index when entries are inserted or removed and when the citation key of an entry changes.
+ * The entries of a key are stored in the order they were indexed, which is the order of the database unless keys
+ * were changed afterwards.
+ */
+class CitationKeyIndex {
+
+    private final Map<BibEntry, String> keyOfEntry = new IdentityHashMap<>();
+    private final Map<String, List<BibEntry>> entriesOfKey = new HashMap<>();
+
+    public synchronized void addEntries(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            if (!keyOfEntry.containsKey(entry)) {
+                keyOfEntry.put(entry, null);
+                entry.getCitationKey().ifPresent(key -> add(key, entry));
+            }
+        }
+    }
+
+    public synchronized void removeEntries(Collection<BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            if (keyOfEntry.containsKey(entry)) {
+                remove(entry);
+                keyOfEntry.remove(entry);
+            }
+        }
+    }
+
+    /**
+     * Updates the key of the given entry. Entries not contained in the database are ignored.
+     */
+    public synchronized void updateEntry(BibEntry entry) {
+        if (!keyOfEntry.containsKey(entry)) {
+            return;
+        }
+        Optional<String> key = entry.getCitationKey();
+        if (key.isPresent() && key.get().equals(keyOfEntry.get(entry))) {
+            return;
+        }
+        remove(entry);
+        key.ifPresent(newKey -> add(newKey, entry));
+    }
+
+    /**
+     * Returns the entries having the given key (in the order they were indexed)
+     */
+    public synchronized List<BibEntry> getEntries(String key) {
+        List<BibEntry> entries = entriesOfKey.get(key);
+        if (entries == null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(entries);
+    }
+
+    public synchronized int getNumberOfEntries(String key) {
+        List<BibEntry> entries = entriesOfKey.get(key);
+        return (entries == null) ? 0 : entries.size();
+    }
+
+    private void add(String key, BibEntry entry) {
+        keyOfEntry.put(entry, key);
+        entriesOfKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+    }
+
+    private void remove(BibEntry entry) {
+        String key = keyOfEntry.put(entry, null);
+        if (key == null) {
+            return;
+        }
+        List<BibEntry> entries = entriesOfKey.get(key);
+        entries.removeIf(indexedEntry -> indexedEntry == entry);
+        if (entries.isEmpty()) {
+            entriesOfKey.remove(key);
+        }
+    }
+}
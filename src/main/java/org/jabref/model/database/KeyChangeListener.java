@@ -42,6 +42,10 @@ public class KeyChangeListener {
     }
 
     private void updateEntryLinks(String newKey, String oldKey) {
+        if (oldKey == null) {
+            // No entry can link to an entry without key (e.g., when generating keys for new entries)
+            return;
+        }
         for (BibEntry entry : database.getEntries()) {
             for (Field field : FieldFactory.getKeyFields()) {
                 entry.getField(field).ifPresent(fieldContent -> {
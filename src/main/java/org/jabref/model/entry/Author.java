@@ -6,12 +6,22 @@ import java.util.Optional;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
 import org.jabref.model.strings.StringUtil;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * This is an immutable class that keeps information regarding single author. It is just a container for the information, with very simple methods to access it.
  * <p>
  * Current usage: only methods <code>getLastOnly</code>, <code>getFirstLast</code>, and <code>getLastFirst</code> are used; all other methods are provided for completeness.
  */
 public class Author {
+
+    /**
+     * Authors repeat across the entries of a library. Sharing one instance per name also shares its cached LaTeX-free
+     * version.
+     */
+    private static final Interner<Author> INTERNER = Interners.newWeakInterner();
+
     private final String firstPart;
     private final String firstAbbr;
     private final String vonPart;
@@ -36,6 +46,13 @@ public class Author {
         jrPart = removeStartAndEndBraces(jr);
     }
 
+    /**
+     * Returns the shared instance equal to the given author. If there is none, the given author becomes the shared one.
+     */
+    public static Author intern(Author author) {
+        return INTERNER.intern(author);
+    }
+
     public static String addDotIfAbbreviation(String name) {
         if ((name == null) || name.isEmpty()) {
             return name;
@@ -2,7 +2,6 @@ package org.jabref.model.entry;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.WeakHashMap;
 import java.util.function.Function;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -10,6 +9,11 @@ import java.util.stream.Collectors;
 import org.jabref.architecture.AllowedToUseLogic;
 import org.jabref.logic.importer.AuthorListParser;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+
 /**
  * This is an immutable class representing information of either <CODE>author</CODE> or <CODE>editor</CODE> field in bibtex record.
  * <p>
@@ -115,7 +119,22 @@ import org.jabref.logic.importer.AuthorListParser;
 @AllowedToUseLogic("because it needs access to AuthorList parser")
 public class AuthorList {
 
-    private static final WeakHashMap<String, AuthorList> AUTHOR_CACHE = new WeakHashMap<>();
+    /**
+     * Number of parsed author strings kept. Large libraries have a few ten thousand distinct author fields.
+     */
+    private static final int MAX_CACHED_AUTHOR_LISTS = 50_000;
+
+    private static final LoadingCache<String, AuthorList> AUTHOR_CACHE = CacheBuilder
+            .newBuilder()
+            .maximumSize(MAX_CACHED_AUTHOR_LISTS)
+            .recordStats()
+            .build(new CacheLoader<>() {
+                @Override
+                public AuthorList load(String authors) {
+                    return new AuthorListParser().parse(authors);
+                }
+            });
+
     private final List<Author> authors;
     private AuthorList latexFreeAuthors;
 
@@ -162,7 +181,8 @@ public class AuthorList {
     /**
      * Retrieve an AuthorList for the given string of authors or editors.
      * <p>
-     * This function tries to cache the parsed AuthorLists by the string passed in.
+     * This function caches the parsed AuthorLists by the string passed in. The cache can be used from several threads
+     * and keeps the most recently used lists only.
      *
      * @param authors The string of authors or editors in bibtex format to parse.
      * @return An AuthorList object representing the given authors.
@@ -170,13 +190,14 @@ public class AuthorList {
     public static AuthorList parse(final String authors) {
         Objects.requireNonNull(authors);
 
-        AuthorList authorList = AUTHOR_CACHE.get(authors);
-        if (authorList == null) {
-            AuthorListParser parser = new AuthorListParser();
-            authorList = parser.parse(authors);
-            AUTHOR_CACHE.put(authors, authorList);
-        }
-        return authorList;
+        return AUTHOR_CACHE.getUnchecked(authors);
+    }
+
+    /**
+     * Returns the hit and miss counts of the cache used by {@link #parse(String)}
+     */
+    public static CacheStats getCacheStatistics() {
+        return AUTHOR_CACHE.stats();
     }
 
     /**
@@ -38,6 +38,7 @@ import org.jabref.model.entry.types.EntryType;
 import org.jabref.model.entry.types.IEEETranEntryType;
 import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.strings.LatexToUnicodeAdapter;
+import org.jabref.model.strings.StringPool;
 import org.jabref.model.strings.StringUtil;
 import org.jabref.model.util.MultiKeyMap;
 
@@ -61,27 +62,31 @@ public class BibEntry implements Cloneable {
     private final SharedBibEntryData sharedBibEntryData;
 
     /**
-     * Map to store the words in every field
+     * Map to store the words in every field. The caches are created on first use, since most entries of a large library
+     * are never accessed this way.
      */
-    private final Map<Field, Set<String>> fieldsAsWords = new HashMap<>();
+    private Map<Field, Set<String>> fieldsAsWords;
 
     /**
      * Cache that stores latex free versions of fields.
      */
-    private final Map<Field, String> latexFreeFields = new ConcurrentHashMap<>();
+    private volatile Map<Field, String> latexFreeFields;
 
     /**
      * Cache that stores the field as keyword lists (format &lt;Field, Separator, Keyword list>)
      */
-    private final MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+    private MultiKeyMap<StandardField, Character, KeywordList> fieldsAsKeywords;
 
-    private final EventBus eventBus = new EventBus();
+    /**
+     * Created when the first listener registers. Before, there is nobody to notify.
+     */
+    private volatile EventBus eventBus;
 
     private String id;
 
     private final ObjectProperty<EntryType> type = new SimpleObjectProperty<>(DEFAULT_TYPE);
 
-    private ObservableMap<Field, String> fields = FXCollections.observableMap(new ConcurrentHashMap<>());
+    private ObservableMap<Field, String> fields = FXCollections.observableMap(new CompactFieldMap());
 
     /**
      * The part before the start of the entry
@@ -100,6 +105,15 @@ public class BibEntry implements Cloneable {
      */
     private boolean changed;
 
+    /**
+     * Incremented whenever the serialization of this entry may change. Allows caches of the serialization to detect
+     * stale values without comparing the contents.
+     * <p>
+     * Changes of the (observable) fields and type increment the counter before and after the change. This way, listeners
+     * notified by the observable map or property during the change already see a new value.
+     */
+    private volatile int modificationCount;
+
     /**
      * Constructs a new BibEntry. The internal ID is set to IdGenerator.next()
      */
@@ -324,7 +338,7 @@ public class BibEntry implements Cloneable {
 
         String oldId = this.id;
 
-        eventBus.post(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
+        postEvent(new FieldChangedEvent(this, InternalField.INTERNAL_ID_FIELD, id, oldId));
         this.id = id;
         changed = true;
     }
@@ -389,10 +403,12 @@ public class BibEntry implements Cloneable {
         }
 
         changed = true;
+        modificationCount++;
         this.type.setValue(newType);
+        modificationCount++;
 
         FieldChange change = new FieldChange(this, InternalField.TYPE_HEADER, oldType.getName(), newType.getName());
-        eventBus.post(new FieldChangedEvent(change, eventSource));
+        postEvent(new FieldChangedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -536,6 +552,57 @@ public class BibEntry implements Cloneable {
         fields.forEach(this::setField);
     }
 
+    /**
+     * Replaces all fields of this entry by the given ones. All fields are changed before the listeners of the entry are
+     * notified with one event per changed field, as they (e.g., the indexes of the library) track single fields.
+     * Observers of the field map see each field change on its own, and the modification count changes with each of
+     * them.
+     *
+     * @param newFields   the fields the entry should have, fields not contained are removed
+     * @param eventSource Source the events are sent from
+     * @return the changes of the fields
+     */
+    public List<FieldChange> setFields(Map<Field, String> newFields, EntriesEventSource eventSource) {
+        Objects.requireNonNull(newFields, "fields must not be null");
+
+        List<FieldChange> changes = new ArrayList<>();
+        for (Field field : getFields()) {
+            if (StringUtil.isNullOrEmpty(newFields.get(field))) {
+                changes.add(new FieldChange(this, field, getField(field).get(), null));
+            }
+        }
+        newFields.forEach((field, value) -> {
+            String oldValue = getField(field).orElse(null);
+            if (!StringUtil.isNullOrEmpty(value) && !value.equals(oldValue)) {
+                changes.add(new FieldChange(this, field, oldValue, value));
+            }
+        });
+        if (changes.isEmpty()) {
+            return changes;
+        }
+
+        changed = true;
+        for (FieldChange change : changes) {
+            invalidateFieldCache(change.getField());
+            modificationCount++;
+            if (change.getNewValue() == null) {
+                fields.remove(change.getField());
+            } else {
+                fields.put(change.getField(), StringPool.getFieldValuePool().intern(change.getNewValue()));
+            }
+            modificationCount++;
+        }
+
+        for (FieldChange change : changes) {
+            if ((change.getOldValue() == null) || (change.getNewValue() == null)) {
+                postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
+            } else {
+                postEvent(new FieldChangedEvent(change, eventSource));
+            }
+        }
+        return changes;
+    }
+
     /**
      * Set a field, and notify listeners about the change.
      *
@@ -560,13 +627,15 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
-        fields.put(field, value.intern());
+        modificationCount++;
+        fields.put(field, StringPool.getFieldValuePool().intern(value));
+        modificationCount++;
 
         FieldChange change = new FieldChange(this, field, oldValue, value);
         if (isNewField) {
-            eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+            postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         } else {
-            eventBus.post(new FieldChangedEvent(change, eventSource));
+            postEvent(new FieldChangedEvent(change, eventSource));
         }
         return Optional.of(change);
     }
@@ -606,10 +675,12 @@ public class BibEntry implements Cloneable {
         changed = true;
 
         invalidateFieldCache(field);
+        modificationCount++;
         fields.remove(field);
+        modificationCount++;
 
         FieldChange change = new FieldChange(this, field, oldValue.get(), null);
-        eventBus.post(new FieldAddedOrRemovedEvent(change, eventSource));
+        postEvent(new FieldAddedOrRemovedEvent(change, eventSource));
         return Optional.of(change);
     }
 
@@ -634,7 +705,7 @@ public class BibEntry implements Cloneable {
     @Override
     public Object clone() {
         BibEntry clone = new BibEntry(type.getValue());
-        clone.fields = FXCollections.observableMap(new ConcurrentHashMap<>(fields));
+        clone.fields = FXCollections.observableMap(new CompactFieldMap(fields));
         clone.commentsBeforeEntry = commentsBeforeEntry;
         clone.parsedSerialization = parsedSerialization;
         clone.changed = changed;
@@ -696,11 +767,13 @@ public class BibEntry implements Cloneable {
     public void setParsedSerialization(String parsedSerialization) {
         changed = false;
         this.parsedSerialization = parsedSerialization;
+        modificationCount++;
     }
 
     public void setCommentsBeforeEntry(String parsedComments) {
         // delete trailing whitespaces (between entry and text)
         this.commentsBeforeEntry = REMOVE_TRAILING_WHITESPACE.matcher(parsedComments).replaceFirst("");
+        modificationCount++;
     }
 
     public boolean hasChanged() {
@@ -709,6 +782,14 @@ public class BibEntry implements Cloneable {
 
     public void setChanged(boolean changed) {
         this.changed = changed;
+        modificationCount++;
+    }
+
+    /**
+     * Returns a counter which is increased on every change affecting the serialization of this entry.
+     */
+    public int getModificationCount() {
+        return modificationCount;
     }
 
     public Optional<FieldChange> putKeywords(List<String> keywords, Character delimiter) {
@@ -819,11 +900,17 @@ public class BibEntry implements Cloneable {
         return Objects.hash(type.getValue(), fields);
     }
 
-    public void registerListener(Object object) {
+    public synchronized void registerListener(Object object) {
+        if (eventBus == null) {
+            eventBus = new EventBus();
+        }
         this.eventBus.register(object);
     }
 
-    public void unregisterListener(Object object) {
+    public synchronized void unregisterListener(Object object) {
+        if (eventBus == null) {
+            return;
+        }
         try {
             this.eventBus.unregister(object);
         } catch (IllegalArgumentException e) {
@@ -832,6 +919,13 @@ public class BibEntry implements Cloneable {
         }
     }
 
+    private void postEvent(Object event) {
+        EventBus currentEventBus = eventBus;
+        if (currentEventBus != null) {
+            currentEventBus.post(event);
+        }
+    }
+
     public BibEntry withField(Field field, String value) {
         setField(field, value);
         this.setChanged(false);
@@ -855,6 +949,9 @@ public class BibEntry implements Cloneable {
     }
 
     public Set<String> getFieldAsWords(Field field) {
+        if (fieldsAsWords == null) {
+            fieldsAsWords = new HashMap<>();
+        }
         Set<String> storedList = fieldsAsWords.get(field);
         if (storedList != null) {
             return storedList;
@@ -871,7 +968,7 @@ public class BibEntry implements Cloneable {
     }
 
     public KeywordList getFieldAsKeywords(Field field, Character keywordSeparator) {
-        if (field instanceof StandardField) {
+        if ((field instanceof StandardField) && (fieldsAsKeywords != null)) {
             Optional<KeywordList> storedList = fieldsAsKeywords.get((StandardField) field, keywordSeparator);
             if (storedList.isPresent()) {
                 return storedList.get();
@@ -883,6 +980,9 @@ public class BibEntry implements Cloneable {
                 .orElse(new KeywordList());
 
         if (field instanceof StandardField) {
+            if (fieldsAsKeywords == null) {
+                fieldsAsKeywords = new MultiKeyMap<>(StandardField.class);
+            }
             fieldsAsKeywords.put((StandardField) field, keywordSeparator, keywords);
         }
         return keywords;
@@ -893,10 +993,14 @@ public class BibEntry implements Cloneable {
     }
 
     private void invalidateFieldCache(Field field) {
-        latexFreeFields.remove(field);
-        fieldsAsWords.remove(field);
-
-        if (field instanceof StandardField) {
+        Map<Field, String> currentLatexFreeFields = latexFreeFields;
+        if (currentLatexFreeFields != null) {
+            currentLatexFreeFields.remove(field);
+        }
+        if (fieldsAsWords != null) {
+            fieldsAsWords.remove(field);
+        }
+        if ((field instanceof StandardField) && (fieldsAsKeywords != null)) {
             fieldsAsKeywords.remove((StandardField) field);
         }
     }
@@ -907,13 +1011,20 @@ public class BibEntry implements Cloneable {
             return getCitationKey();
         } else if (InternalField.TYPE_HEADER.equals(field)) {
             return Optional.of(type.get().getDisplayName());
-        } else if (latexFreeFields.containsKey(field)) {
-            return Optional.ofNullable(latexFreeFields.get(field));
+        }
+
+        Map<Field, String> currentLatexFreeFields = latexFreeFields;
+        if (currentLatexFreeFields == null) {
+            currentLatexFreeFields = new ConcurrentHashMap<>();
+            latexFreeFields = currentLatexFreeFields;
+        }
+        if (currentLatexFreeFields.containsKey(field)) {
+            return Optional.ofNullable(currentLatexFreeFields.get(field));
         } else {
             Optional<String> fieldValue = getField(field);
             if (fieldValue.isPresent()) {
-                String latexFreeValue = LatexToUnicodeAdapter.format(fieldValue.get()).intern();
-                latexFreeFields.put(field, latexFreeValue);
+                String latexFreeValue = StringPool.getFieldValuePool().intern(LatexToUnicodeAdapter.format(fieldValue.get()));
+                currentLatexFreeFields.put(field, latexFreeValue);
                 return Optional.of(latexFreeValue);
             } else {
                 return Optional.empty();
@@ -0,0 +1,204 @@
+package org.jabref.model.entry;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jabref.model.entry.field.Field;
+
+/**
+ * Stores the fields of an entry in a single array alternating between fields and values.
+ * <p>
+ * Entries have only a few fields, thus a linear scan is as fast as hashing, while needing a fraction of the memory of a
+ * hash map. Fields are compared by identity first, which is sufficient for the standard fields.
+ * <p>
+ * The fields are read by parallel searches while they are edited, therefore the map is copy-on-write: every change
+ * replaces the array, reads and iterations work on the array current at their start and never block.
+ */
+final class CompactFieldMap extends AbstractMap<Field, String> {
+
+    private static final Object[] EMPTY = new Object[0];
+
+    private volatile Object[] table = EMPTY;
+
+    CompactFieldMap() {
+    }
+
+    CompactFieldMap(Map<Field, String> fields) {
+        if (fields instanceof CompactFieldMap) {
+            table = ((CompactFieldMap) fields).table;
+            return;
+        }
+        Object[] newTable = new Object[fields.size() * 2];
+        int i = 0;
+        for (Entry<Field, String> field : fields.entrySet()) {
+            newTable[i++] = Objects.requireNonNull(field.getKey());
+            newTable[i++] = Objects.requireNonNull(field.getValue());
+        }
+        table = newTable;
+    }
+
+    @Override
+    public int size() {
+        return table.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return table.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(table, key) >= 0;
+    }
+
+    @Override
+    public String get(Object key) {
+        Object[] currentTable = table;
+        int index = indexOf(currentTable, key);
+        return (index >= 0) ? (String) currentTable[index + 1] : null;
+    }
+
+    @Override
+    public synchronized String put(Field key, String value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+
+        Object[] currentTable = table;
+        int index = indexOf(currentTable, key);
+        if (index >= 0) {
+            Object[] newTable = currentTable.clone();
+            newTable[index + 1] = value;
+            table = newTable;
+            return (String) currentTable[index + 1];
+        }
+
+        Object[] newTable = Arrays.copyOf(currentTable, currentTable.length + 2);
+        newTable[currentTable.length] = key;
+        newTable[currentTable.length + 1] = value;
+        table = newTable;
+        return null;
+    }
+
+    @Override
+    public synchronized String remove(Object key) {
+        Object[] currentTable = table;
+        int index = indexOf(currentTable, key);
+        if (index < 0) {
+            return null;
+        }
+
+        Object[] newTable = new Object[currentTable.length - 2];
+        System.arraycopy(currentTable, 0, newTable, 0, index);
+        System.arraycopy(currentTable, index + 2, newTable, index, currentTable.length - index - 2);
+        table = newTable;
+        return (String) currentTable[index + 1];
+    }
+
+    @Override
+    public synchronized void clear() {
+        table = EMPTY;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super Field, ? super String> action) {
+        Object[] currentTable = table;
+        for (int i = 0; i < currentTable.length; i += 2) {
+            action.accept((Field) currentTable[i], (String) currentTable[i + 1]);
+        }
+    }
+
+    @Override
+    public Set<Entry<Field, String>> entrySet() {
+        return new EntrySet();
+    }
+
+    private static int indexOf(Object[] table, Object key) {
+        for (int i = 0; i < table.length; i += 2) {
+            if (table[i] == key) {
+                return i;
+            }
+        }
+        if (key == null) {
+            return -1;
+        }
+        for (int i = 0; i < table.length; i += 2) {
+            if (key.equals(table[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<Field, String>> {
+
+        @Override
+        public Iterator<Entry<Field, String>> iterator() {
+            return new EntryIterator(table);
+        }
+
+        @Override
+        public int size() {
+            return CompactFieldMap.this.size();
+        }
+    }
+
+    /**
+     * Iterates over the fields present at its creation. Changes made through the iterator are written to the map.
+     */
+    private class EntryIterator implements Iterator<Entry<Field, String>> {
+
+        private final Object[] snapshot;
+        private int next;
+        private Field lastReturned;
+
+        EntryIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < snapshot.length;
+        }
+
+        @Override
+        public Entry<Field, String> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = (Field) snapshot[next];
+            Entry<Field, String> entry = new FieldEntry(lastReturned, (String) snapshot[next + 1]);
+            next += 2;
+            return entry;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+            CompactFieldMap.this.remove(lastReturned);
+            lastReturned = null;
+        }
+    }
+
+    private class FieldEntry extends SimpleEntry<Field, String> {
+
+        FieldEntry(Field field, String value) {
+            super(field, value);
+        }
+
+        @Override
+        public String setValue(String value) {
+            put(getKey(), value);
+            return super.setValue(value);
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package org.jabref.model.groups;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 
@@ -8,10 +13,33 @@ import org.jabref.model.entry.BibEntry;
 import org.jabref.model.util.TreeCollector;
 
 public abstract class AutomaticGroup extends AbstractGroup {
+
+    /**
+     * The subgroups are created again whenever the tree of the automatic group is shown. Reusing the group of a key
+     * keeps its identity, thus, e.g., the {@link GroupMembershipIndex} does not evaluate it again.
+     */
+    private final Map<String, AbstractGroup> subgroupOfKey = new ConcurrentHashMap<>();
+
     public AutomaticGroup(String name, GroupHierarchyType context) {
         super(name, context);
     }
 
+    /**
+     * Returns the subgroups created so far, at all levels
+     */
+    public Collection<AbstractGroup> getCreatedSubgroups() {
+        return Collections.unmodifiableCollection(subgroupOfKey.values());
+    }
+
+    /**
+     * Returns the subgroup created before for the given key, or creates it
+     *
+     * @param key identifies the subgroup among all subgroups of this group, e.g., the keyword path
+     */
+    protected AbstractGroup getOrCreateSubgroup(String key, Supplier<AbstractGroup> createSubgroup) {
+        return subgroupOfKey.computeIfAbsent(key, k -> createSubgroup.get());
+    }
+
     @Override
     public boolean contains(BibEntry entry) {
         return false;
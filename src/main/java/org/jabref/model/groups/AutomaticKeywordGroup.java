@@ -68,14 +68,15 @@ public class AutomaticKeywordGroup extends AutomaticGroup {
     }
 
     private GroupTreeNode createGroup(Keyword keywordChain) {
-        WordKeywordGroup rootGroup = new WordKeywordGroup(
+        String path = keywordChain.getPathFromRootAsString(keywordHierarchicalDelimiter);
+        AbstractGroup rootGroup = getOrCreateSubgroup(path, () -> new WordKeywordGroup(
                 keywordChain.get(),
                 GroupHierarchyType.INCLUDING,
                 field,
-                keywordChain.getPathFromRootAsString(keywordHierarchicalDelimiter),
+                path,
                 true,
                 keywordDelimiter,
-                true);
+                true));
         GroupTreeNode root = new GroupTreeNode(rootGroup);
         keywordChain.getChild()
                     .map(this::createGroup)
@@ -42,7 +42,7 @@ public class AutomaticPersonsGroup extends AutomaticGroup {
     public Set<GroupTreeNode> createSubgroups(BibEntry entry) {
         return LastNameGroup.getAsLastNamesLatexFree(field, entry)
                             .stream()
-                            .map(lastName -> new LastNameGroup(lastName, GroupHierarchyType.INDEPENDENT, field, lastName))
+                            .map(lastName -> getOrCreateSubgroup(lastName, () -> new LastNameGroup(lastName, GroupHierarchyType.INDEPENDENT, field, lastName)))
                             .map(GroupTreeNode::new)
                             .collect(Collectors.toSet());
     }
@@ -0,0 +1,294 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.model.search.matchers.MatcherSet;
+import org.jabref.model.search.matchers.MatcherSets;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Keeps track which entries of a {@link BibDatabase} are matched by which groups.
+ * <p>
+ * Every entry gets a slot number, and for every group the matched entries are stored as a {@link BitSet} of slots. The
+ * bit set of a group is computed on first use. Afterwards, only the entries added or changed are evaluated again.
+ * The hierarchical context of the groups (see {@link GroupTreeNode#getSearchMatcher()}) is resolved by unions and
+ * intersections of the bit sets of the involved groups.
+ * <p>
+ * The bit sets are stored per {@link AbstractGroup} instance. Groups are exchanged (and not modified) when edited, thus
+ * a modified group gets new bit sets automatically. The subgroups of an {@link AutomaticGroup} keep their instance when
+ * they are created again. Groups whose matches depend on something else than the entry itself (e.g., the aux file of a
+ * {@link TexGroup}) have to be {@link #invalidate(AbstractGroup) invalidated}. Whenever the group tree changes,
+ * {@link #retainGroups(GroupTreeNode)} has to be called.
+ */
+public class GroupMembershipIndex {
+
+    private final Map<BibEntry, Integer> slotOfEntry = new IdentityHashMap<>();
+    private final List<BibEntry> entryOfSlot = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+    private int[] evaluatedModificationCount = new int[0];
+    private final Map<AbstractGroup, BitSet> membersOfGroup = new IdentityHashMap<>();
+
+    /**
+     * Incremented on every change of the membership of an entry
+     */
+    private int version;
+
+    public GroupMembershipIndex(BibDatabase database) {
+        Objects.requireNonNull(database);
+        database.registerListener(this);
+        database.getEntries().forEach(this::add);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::add);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::remove);
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        updateEntries(List.of(event.getBibEntry()));
+    }
+
+    /**
+     * Evaluates the groups for the given entries if they changed since their last evaluation.
+     * <p>
+     * The index is notified about changes by the database, which happens after the observers of the entry list were
+     * notified. Observers of the entry list should call this method before querying the index. Entries which did not
+     * change are skipped, thus it is cheap to call this method for the same entries multiple times.
+     */
+    public synchronized void updateEntries(Collection<? extends BibEntry> entries) {
+        for (BibEntry entry : entries) {
+            Integer slot = slotOfEntry.get(entry);
+            if ((slot != null) && (entry.getModificationCount() != evaluatedModificationCount[slot])) {
+                evaluate(slot);
+            }
+        }
+    }
+
+    /**
+     * Removes the given entries from the index. The database removes the entries from its entry list before notifying
+     * the index, thus observers of the entry list should call this method before querying the index.
+     */
+    public synchronized void removeEntries(Collection<? extends BibEntry> entries) {
+        entries.forEach(this::remove);
+    }
+
+    /**
+     * Returns the number of entries matched by the given group, taking the hierarchical context into account.
+     */
+    public synchronized int getNumberOfMatches(GroupTreeNode node) {
+        return getMatches(node, node.getGroup().getHierarchicalContext()).cardinality();
+    }
+
+    /**
+     * Returns the entries matched by the given group (in no particular order), taking the hierarchical context into
+     * account.
+     */
+    public synchronized List<BibEntry> getMatches(GroupTreeNode node) {
+        BitSet matches = getMatches(node, node.getGroup().getHierarchicalContext());
+        List<BibEntry> entries = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            entries.add(entryOfSlot.get(slot));
+        }
+        return entries;
+    }
+
+    /**
+     * Creates a matcher accepting the entries matched by all (if {@code intersection} is set) or any of the given
+     * groups. The matcher answers by a lookup in the combined bit set of the groups, which is only recomputed if the
+     * membership of an entry changed. Note that the structure of the group tree is captured when the combined bit set
+     * is computed.
+     */
+    public SearchMatcher createMatcher(List<GroupTreeNode> nodes, boolean intersection) {
+        List<GroupTreeNode> matchedNodes = new ArrayList<>(nodes);
+        return new SearchMatcher() {
+            private BitSet matches;
+            private int matchesVersion;
+
+            @Override
+            public boolean isMatch(BibEntry entry) {
+                synchronized (GroupMembershipIndex.this) {
+                    Integer slot = slotOfEntry.get(entry);
+                    if (slot == null) {
+                        return createFallbackMatcher(matchedNodes, intersection).isMatch(entry);
+                    }
+                    updateEntries(List.of(entry));
+                    if ((matches == null) || (matchesVersion != version)) {
+                        matches = combine(matchedNodes, intersection);
+                        matchesVersion = version;
+                    }
+                    return matches.get(slot);
+                }
+            }
+        };
+    }
+
+    /**
+     * Forgets the entries matched by the given group. They are computed again on next use.
+     */
+    public synchronized void invalidate(AbstractGroup group) {
+        if (membersOfGroup.remove(group) != null) {
+            version++;
+        }
+    }
+
+    /**
+     * Forgets the entries matched by all groups not contained in the given tree (e.g., groups which were replaced by an
+     * edited version), and the combined matches of the matchers, as the structure of the tree may have changed
+     */
+    public synchronized void retainGroups(GroupTreeNode root) {
+        Map<AbstractGroup, Boolean> groupsInTree = new IdentityHashMap<>();
+        for (GroupTreeNode node : root.findChildrenSatisfying(node -> true)) {
+            AbstractGroup group = node.getGroup();
+            groupsInTree.put(group, Boolean.TRUE);
+            if (group instanceof AutomaticGroup) {
+                ((AutomaticGroup) group).getCreatedSubgroups().forEach(subgroup -> groupsInTree.put(subgroup, Boolean.TRUE));
+            }
+        }
+        membersOfGroup.keySet().retainAll(groupsInTree.keySet());
+        version++;
+    }
+
+    private BitSet combine(List<GroupTreeNode> nodes, boolean intersection) {
+        BitSet result = null;
+        for (GroupTreeNode node : nodes) {
+            BitSet matches = getMatches(node, node.getGroup().getHierarchicalContext());
+            if (result == null) {
+                result = matches;
+            } else if (intersection) {
+                result.and(matches);
+            } else {
+                result.or(matches);
+            }
+        }
+        return result == null ? new BitSet() : result;
+    }
+
+    /**
+     * Mirrors the structure of the matcher created by {@link GroupTreeNode#getSearchMatcher()}
+     *
+     * @return a new bit set which may be modified by the caller
+     */
+    private BitSet getMatches(GroupTreeNode node, GroupHierarchyType originalContext) {
+        AbstractGroup group = node.getGroup();
+        GroupHierarchyType context = group.getHierarchicalContext();
+        BitSet result = (BitSet) getMembers(group).clone();
+        if (context == GroupHierarchyType.INDEPENDENT) {
+            return result;
+        }
+        if ((context == GroupHierarchyType.INCLUDING) && (originalContext != GroupHierarchyType.REFINING)) {
+            for (GroupTreeNode child : node.getChildren()) {
+                result.or(getMatches(child, originalContext));
+            }
+        } else if ((context == GroupHierarchyType.REFINING) && !node.isRoot() && (originalContext
+                != GroupHierarchyType.INCLUDING)) {
+            // noinspection OptionalGetWithoutIsPresent
+            result.and(getMatches(node.getParent().get(), originalContext));
+        }
+        return result;
+    }
+
+    private BitSet getMembers(AbstractGroup group) {
+        BitSet members = membersOfGroup.get(group);
+        if (members == null) {
+            members = new BitSet(entryOfSlot.size());
+            for (int slot = 0; slot < entryOfSlot.size(); slot++) {
+                BibEntry entry = entryOfSlot.get(slot);
+                if ((entry != null) && group.isMatch(entry)) {
+                    members.set(slot);
+                }
+            }
+            membersOfGroup.put(group, members);
+        }
+        return members;
+    }
+
+    private SearchMatcher createFallbackMatcher(List<GroupTreeNode> nodes, boolean intersection) {
+        MatcherSet matcher = MatcherSets.build(intersection ? MatcherSets.MatcherType.AND : MatcherSets.MatcherType.OR);
+        nodes.forEach(node -> matcher.addRule(node.getSearchMatcher()));
+        return matcher;
+    }
+
+    private void add(BibEntry entry) {
+        if (slotOfEntry.containsKey(entry)) {
+            return;
+        }
+
+        int slot = freeSlots.nextSetBit(0);
+        if (slot < 0) {
+            slot = entryOfSlot.size();
+            entryOfSlot.add(entry);
+            if (slot >= evaluatedModificationCount.length) {
+                evaluatedModificationCount = Arrays.copyOf(evaluatedModificationCount, Math.max(16, 2 * slot));
+            }
+        } else {
+            freeSlots.clear(slot);
+            entryOfSlot.set(slot, entry);
+        }
+        slotOfEntry.put(entry, slot);
+        evaluate(slot);
+    }
+
+    private void remove(BibEntry entry) {
+        Integer slot = slotOfEntry.remove(entry);
+        if (slot == null) {
+            return;
+        }
+
+        entryOfSlot.set(slot, null);
+        freeSlots.set(slot);
+        for (BitSet members : membersOfGroup.values()) {
+            members.clear(slot);
+        }
+        version++;
+    }
+
+    /**
+     * Evaluates all known groups for the entry in the given slot
+     */
+    private void evaluate(int slot) {
+        BibEntry entry = entryOfSlot.get(slot);
+        evaluatedModificationCount[slot] = entry.getModificationCount();
+        for (Map.Entry<AbstractGroup, BitSet> groupAndMembers : membersOfGroup.entrySet()) {
+            boolean isMatch = groupAndMembers.getKey().isMatch(entry);
+            BitSet members = groupAndMembers.getValue();
+            if (members.get(slot) != isMatch) {
+                members.set(slot, isMatch);
+                version++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of indexed entries. Mainly for testing.
+     */
+    synchronized int getNumberOfIndexedEntries() {
+        return slotOfEntry.size();
+    }
+
+    /**
+     * Returns the number of groups whose matches are stored. Mainly for testing.
+     */
+    synchronized int getNumberOfIndexedGroups() {
+        return membersOfGroup.size();
+    }
+}
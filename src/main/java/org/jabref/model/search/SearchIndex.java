@@ -0,0 +1,158 @@
+package org.jabref.model.search;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.Field;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Inverted trigram index over the latex-free, lower-cased field contents of all entries of a {@link BibDatabase}.
+ * <p>
+ * The index is used to narrow down the entries which may match a search before the (expensive) search rule is applied.
+ * An entry containing a term as a substring contains all trigrams of that term, thus the entries returned by
+ * {@link #getCandidates(Collection)} are a superset of the real matches. Terms shorter than three characters do not
+ * narrow down the result.
+ * <p>
+ * The index is kept up to date by listening to {@link EntriesAddedEvent}, {@link EntriesRemovedEvent} and
+ * {@link FieldChangedEvent} of the database.
+ */
+public class SearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<BibEntry, Set<String>> gramsOfEntry = new IdentityHashMap<>();
+    private final Map<String, Set<BibEntry>> entriesOfGram = new HashMap<>();
+
+    public SearchIndex(BibDatabase database) {
+        Objects.requireNonNull(database);
+        database.registerListener(this);
+        database.getEntries().forEach(this::index);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        event.getBibEntries().forEach(this::index);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        event.getBibEntries().forEach(this::remove);
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (gramsOfEntry.containsKey(entry)) {
+            index(entry);
+        }
+    }
+
+    /**
+     * Returns all entries whose field contents may contain all given terms.
+     *
+     * @param terms the terms, which are searched case insensitively
+     * @return the candidate entries (in no particular order) or an empty optional if the terms are too short to narrow down the search
+     */
+    public synchronized Optional<Set<BibEntry>> getCandidates(Collection<String> terms) {
+        Set<String> grams = getGramsOfTerms(terms);
+        if (grams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Start with the rarest gram to keep the intermediate results small
+        Set<BibEntry> smallest = null;
+        for (String gram : grams) {
+            Set<BibEntry> entries = entriesOfGram.get(gram);
+            if (entries == null) {
+                return Optional.of(Collections.emptySet());
+            }
+            if ((smallest == null) || (entries.size() < smallest.size())) {
+                smallest = entries;
+            }
+        }
+
+        Set<BibEntry> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (BibEntry entry : smallest) {
+            if (gramsOfEntry.get(entry).containsAll(grams)) {
+                candidates.add(entry);
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Checks whether the given entry may contain all given terms. Entries not known to the index are always candidates.
+     */
+    public synchronized boolean isCandidate(BibEntry entry, Collection<String> terms) {
+        Set<String> gramsOfCurrentEntry = gramsOfEntry.get(entry);
+        if (gramsOfCurrentEntry == null) {
+            return true;
+        }
+        return gramsOfCurrentEntry.containsAll(getGramsOfTerms(terms));
+    }
+
+    private void index(BibEntry entry) {
+        remove(entry);
+
+        Set<String> grams = new HashSet<>();
+        for (Field field : entry.getFields()) {
+            entry.getLatexFreeField(field).ifPresent(content -> addGrams(content.toLowerCase(Locale.ROOT), grams));
+        }
+        for (String gram : grams) {
+            entriesOfGram.computeIfAbsent(gram, key -> Collections.newSetFromMap(new IdentityHashMap<>())).add(entry);
+        }
+        gramsOfEntry.put(entry, grams);
+    }
+
+    private void remove(BibEntry entry) {
+        Set<String> grams = gramsOfEntry.remove(entry);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Set<BibEntry> entries = entriesOfGram.get(gram);
+            if (entries != null) {
+                entries.remove(entry);
+                if (entries.isEmpty()) {
+                    entriesOfGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> getGramsOfTerms(Collection<String> terms) {
+        Set<String> grams = new HashSet<>();
+        for (String term : terms) {
+            addGrams(term.toLowerCase(Locale.ROOT), grams);
+        }
+        return grams;
+    }
+
+    private static void addGrams(String text, Set<String> grams) {
+        for (int i = 0; (i + GRAM_LENGTH) <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+    }
+
+    /**
+     * Returns the number of indexed entries. Mainly for testing.
+     */
+    synchronized int getNumberOfIndexedEntries() {
+        return gramsOfEntry.size();
+    }
+}
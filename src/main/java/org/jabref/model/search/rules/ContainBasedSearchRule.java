@@ -58,4 +58,10 @@ public class ContainBasedSearchRule implements SearchRule {
 
         return false; // Didn't match all words.
     }
+
+    @Override
+    public List<String> getIndexTerms(String query) {
+        // every word has to be contained in some field
+        return new SentenceAnalyzer(query).getWords();
+    }
 }
@@ -1,17 +1,21 @@
 package org.jabref.model.search.rules;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.regex.PatternSyntaxException;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.Keyword;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.strings.StringUtil;
 import org.jabref.search.SearchBaseVisitor;
 import org.jabref.search.SearchLexer;
 import org.jabref.search.SearchParser;
@@ -40,6 +44,7 @@ public class GrammarBasedSearchRule implements SearchRule {
     private final boolean regExpSearch;
 
     private ParseTree tree;
+    private Predicate<BibEntry> predicate;
     private String query;
 
     public static class ThrowingErrorListener extends BaseErrorListener {
@@ -79,7 +84,7 @@ public class GrammarBasedSearchRule implements SearchRule {
         return this.query;
     }
 
-    private void init(String query) throws ParseCancellationException {
+    private void init(String query) throws ParseCancellationException, PatternSyntaxException {
         if (Objects.equals(this.query, query)) {
             return;
         }
@@ -91,14 +96,16 @@ public class GrammarBasedSearchRule implements SearchRule {
         parser.removeErrorListeners(); // no infos on file system
         parser.addErrorListener(ThrowingErrorListener.INSTANCE);
         parser.setErrorHandler(new BailErrorStrategy()); // ParseCancelationException on parse errors
-        tree = parser.start();
+        ParseTree parsedTree = parser.start();
+        predicate = new SearchExpressionCompiler(caseSensitiveSearch, regExpSearch).visit(parsedTree);
+        tree = parsedTree;
         this.query = query;
     }
 
     @Override
     public boolean applyRule(String query, BibEntry bibEntry) {
         try {
-            return new BibtexSearchVisitor(caseSensitiveSearch, regExpSearch, bibEntry).visit(tree);
+            return predicate.test(bibEntry);
         } catch (Exception e) {
             LOGGER.debug("Search failed", e);
             return false;
@@ -110,12 +117,20 @@ public class GrammarBasedSearchRule implements SearchRule {
         try {
             init(query);
             return true;
-        } catch (ParseCancellationException e) {
+        } catch (ParseCancellationException | PatternSyntaxException e) {
             LOGGER.debug("Search query invalid", e);
             return false;
         }
     }
 
+    @Override
+    public List<String> getIndexTerms(String query) {
+        if (!validateSearchStrings(query)) {
+            return Collections.emptyList();
+        }
+        return new IndexTermCollector(caseSensitiveSearch, regExpSearch).visit(tree);
+    }
+
     public enum ComparisonOperator {
         EXACT, CONTAINS, DOES_NOT_CONTAIN;
 
@@ -130,129 +145,221 @@ public class GrammarBasedSearchRule implements SearchRule {
         }
     }
 
-    public static class Comparator {
+    public static class Comparator implements Predicate<BibEntry> {
 
         private final ComparisonOperator operator;
         private final Pattern fieldPattern;
-        private final Pattern valuePattern;
+        private final Predicate<String> valueMatcher;
+
+        private final boolean searchesEntryType;
+        private final boolean searchesAnyKeyword;
+        private final boolean searchesAnyField;
+
+        /**
+         * Remembers for every field seen so far whether it is requested by the field pattern. Entries only use a few
+         * distinct fields, thus the field pattern is matched only a few times per search.
+         */
+        private final Map<Field, Boolean> requestedFields = new ConcurrentHashMap<>();
 
         public Comparator(String field, String value, ComparisonOperator operator, boolean caseSensitive, boolean regex) {
             this.operator = operator;
 
             int option = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE;
             this.fieldPattern = Pattern.compile(regex ? field : "\\Q" + field + "\\E", option);
-            this.valuePattern = Pattern.compile(regex ? value : "\\Q" + value + "\\E", option);
+            this.valueMatcher = regex ? getRegexMatcher(Pattern.compile(value, option)) : getLiteralMatcher(value, caseSensitive);
+
+            this.searchesEntryType = fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches();
+            this.searchesAnyKeyword = fieldPattern.matcher("anykeyword").matches();
+            this.searchesAnyField = fieldPattern.matcher("anyfield").matches();
+        }
+
+        private Predicate<String> getRegexMatcher(Pattern valuePattern) {
+            return switch (operator) {
+                case CONTAINS -> content -> valuePattern.matcher(content).find();
+                case EXACT -> content -> valuePattern.matcher(content).matches();
+                case DOES_NOT_CONTAIN -> content -> !valuePattern.matcher(content).find();
+            };
+        }
+
+        /**
+         * Literal values do not need a regular expression, plain string comparisons are much cheaper
+         */
+        private Predicate<String> getLiteralMatcher(String value, boolean caseSensitive) {
+            if (caseSensitive) {
+                return switch (operator) {
+                    case CONTAINS -> content -> content.contains(value);
+                    case EXACT -> content -> content.equals(value);
+                    case DOES_NOT_CONTAIN -> content -> !content.contains(value);
+                };
+            } else {
+                return switch (operator) {
+                    case CONTAINS -> content -> StringUtil.containsIgnoreCase(content, value);
+                    case EXACT -> content -> content.equalsIgnoreCase(value);
+                    case DOES_NOT_CONTAIN -> content -> !StringUtil.containsIgnoreCase(content, value);
+                };
+            }
+        }
+
+        @Override
+        public boolean test(BibEntry entry) {
+            return compare(entry);
         }
 
         public boolean compare(BibEntry entry) {
             // special case for searching for entrytype=phdthesis
-            if (fieldPattern.matcher(InternalField.TYPE_HEADER.getName()).matches()) {
+            if (searchesEntryType) {
                 return matchFieldValue(entry.getType().getName());
             }
 
             // special case for searching a single keyword
-            if (fieldPattern.matcher("anykeyword").matches()) {
+            if (searchesAnyKeyword) {
                 return entry.getKeywords(',').stream().map(Keyword::toString).anyMatch(this::matchFieldValue);
             }
 
             // specification of fieldsKeys to search is done in the search expression itself
-            Set<Field> fieldsKeys = entry.getFields();
-
             // special case for searching allfields=cat and title=dog
-            if (!fieldPattern.matcher("anyfield").matches()) {
-                // Filter out the requested fields
-                fieldsKeys = fieldsKeys.stream().filter(matchFieldKey()).collect(Collectors.toSet());
-            }
-
-            for (Field field : fieldsKeys) {
-                Optional<String> fieldValue = entry.getLatexFreeField(field);
-                if (fieldValue.isPresent()) {
-                    if (matchFieldValue(fieldValue.get())) {
+            boolean containsRequestedField = false;
+            for (Field field : entry.getFields()) {
+                if (searchesAnyField || isRequestedField(field)) {
+                    containsRequestedField = true;
+                    Optional<String> fieldValue = entry.getLatexFreeField(field);
+                    if (fieldValue.isPresent() && matchFieldValue(fieldValue.get())) {
                         return true;
                     }
                 }
             }
 
             // special case of asdf!=whatever and entry does not contain asdf
-            return fieldsKeys.isEmpty() && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
+            return !containsRequestedField && (operator == ComparisonOperator.DOES_NOT_CONTAIN);
         }
 
-        private Predicate<Field> matchFieldKey() {
-            return field -> fieldPattern.matcher(field.getName()).matches();
+        private boolean isRequestedField(Field field) {
+            return requestedFields.computeIfAbsent(field, key -> fieldPattern.matcher(key.getName()).matches());
         }
 
         public boolean matchFieldValue(String content) {
-            Matcher matcher = valuePattern.matcher(content);
-            if (operator == ComparisonOperator.CONTAINS) {
-                return matcher.find();
-            } else if (operator == ComparisonOperator.EXACT) {
-                return matcher.matches();
-            } else if (operator == ComparisonOperator.DOES_NOT_CONTAIN) {
-                return !matcher.find();
-            } else {
-                throw new IllegalStateException("MUST NOT HAPPEN");
-            }
+            return valueMatcher.test(content);
         }
     }
 
     /**
-     * Search results in boolean. It may be later on converted to an int.
+     * Compiles the parse tree of a query into a tree of predicates. This way, the query is parsed and the patterns are
+     * compiled only once per search and not once per entry.
      */
-    static class BibtexSearchVisitor extends SearchBaseVisitor<Boolean> {
+    static class SearchExpressionCompiler extends SearchBaseVisitor<Predicate<BibEntry>> {
 
         private final boolean caseSensitive;
         private final boolean regex;
 
-        private final BibEntry entry;
-
-        public BibtexSearchVisitor(boolean caseSensitive, boolean regex, BibEntry bibEntry) {
+        public SearchExpressionCompiler(boolean caseSensitive, boolean regex) {
             this.caseSensitive = caseSensitive;
             this.regex = regex;
-            this.entry = bibEntry;
-        }
-
-        public boolean comparison(String field, ComparisonOperator operator, String value) {
-            return new Comparator(field, value, operator, caseSensitive, regex).compare(entry);
         }
 
         @Override
-        public Boolean visitStart(SearchParser.StartContext ctx) {
+        public Predicate<BibEntry> visitStart(SearchParser.StartContext ctx) {
             return visit(ctx.expression());
         }
 
         @Override
-        public Boolean visitComparison(SearchParser.ComparisonContext context) {
-            // remove possible enclosing " symbols
-            String right = context.right.getText();
-            if (right.startsWith("\"") && right.endsWith("\"")) {
-                right = right.substring(1, right.length() - 1);
-            }
+        public Predicate<BibEntry> visitComparison(SearchParser.ComparisonContext context) {
+            String right = getValue(context);
 
             Optional<SearchParser.NameContext> fieldDescriptor = Optional.ofNullable(context.left);
             if (fieldDescriptor.isPresent()) {
-                return comparison(fieldDescriptor.get().getText(), ComparisonOperator.build(context.operator.getText()), right);
+                return new Comparator(fieldDescriptor.get().getText(), right, ComparisonOperator.build(context.operator.getText()), caseSensitive, regex);
             } else {
-                return SearchRules.getSearchRule(caseSensitive, regex).applyRule(right, entry);
+                SearchRule rule = SearchRules.getSearchRule(caseSensitive, regex);
+                return entry -> rule.applyRule(right, entry);
             }
         }
 
         @Override
-        public Boolean visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
-            return !visit(ctx.expression()); // negate
+        public Predicate<BibEntry> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return visit(ctx.expression()).negate();
         }
 
         @Override
-        public Boolean visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+        public Predicate<BibEntry> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
             return visit(ctx.expression()); // ignore parenthesis
         }
 
         @Override
-        public Boolean visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+        public Predicate<BibEntry> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
+            if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
+                return visit(ctx.left).and(visit(ctx.right));
+            } else {
+                return visit(ctx.left).or(visit(ctx.right));
+            }
+        }
+    }
+
+    /**
+     * Collects the values every matching entry has to contain in one of its fields: the values of the positive,
+     * literal comparisons which are required by all alternatives of the query.
+     */
+    static class IndexTermCollector extends SearchBaseVisitor<List<String>> {
+
+        private final boolean caseSensitive;
+        private final boolean regex;
+
+        public IndexTermCollector(boolean caseSensitive, boolean regex) {
+            this.caseSensitive = caseSensitive;
+            this.regex = regex;
+        }
+
+        @Override
+        public List<String> visitStart(SearchParser.StartContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public List<String> visitComparison(SearchParser.ComparisonContext context) {
+            String right = getValue(context);
+            if (context.left == null) {
+                return SearchRules.getSearchRule(caseSensitive, regex).getIndexTerms(right);
+            }
+
+            String field = context.left.getText();
+            ComparisonOperator operator = ComparisonOperator.build(context.operator.getText());
+            // keywords are compared before removing LaTeX commands and the entry type is no field, both are not indexed
+            boolean isIndexedField = !field.equalsIgnoreCase(InternalField.TYPE_HEADER.getName()) && !"anykeyword".equalsIgnoreCase(field);
+            if (!regex && isIndexedField && (operator != ComparisonOperator.DOES_NOT_CONTAIN)) {
+                return List.of(right);
+            }
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> visitUnaryExpression(SearchParser.UnaryExpressionContext ctx) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public List<String> visitParenExpression(SearchParser.ParenExpressionContext ctx) {
+            return visit(ctx.expression());
+        }
+
+        @Override
+        public List<String> visitBinaryExpression(SearchParser.BinaryExpressionContext ctx) {
             if ("AND".equalsIgnoreCase(ctx.operator.getText())) {
-                return visit(ctx.left) && visit(ctx.right); // and
+                List<String> terms = new ArrayList<>(visit(ctx.left));
+                terms.addAll(visit(ctx.right));
+                return terms;
             } else {
-                return visit(ctx.left) || visit(ctx.right); // or
+                return Collections.emptyList();
             }
         }
     }
+
+    /**
+     * Returns the right side of a comparison without possibly enclosing " symbols
+     */
+    private static String getValue(SearchParser.ComparisonContext context) {
+        String right = context.right.getText();
+        if (right.startsWith("\"") && right.endsWith("\"")) {
+            right = right.substring(1, right.length() - 1);
+        }
+        return right;
+    }
 }
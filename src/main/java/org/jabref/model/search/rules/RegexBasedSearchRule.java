@@ -1,5 +1,8 @@
 package org.jabref.model.search.rules;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -61,4 +64,131 @@ public class RegexBasedSearchRule implements SearchRule {
         }
         return false;
     }
+
+    /**
+     * Extracts the literal parts of the regular expression which each match has to contain. Parts which are optional
+     * or whose meaning cannot be determined without a full regex parser (alternations, groups, character classes,
+     * escape sequences) are skipped. If the expression contains constructs which could make the extracted parts wrong,
+     * no terms are returned at all.
+     */
+    @Override
+    public List<String> getIndexTerms(String query) {
+        if (query.contains("|") || query.contains("(?") || query.contains("\\Q")) {
+            return Collections.emptyList();
+        }
+
+        List<String> literals = new ArrayList<>();
+        StringBuilder currentLiteral = new StringBuilder();
+        int groupDepth = 0;
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (c == '\\') {
+                if ((i + 1) >= query.length()) {
+                    return Collections.emptyList();
+                }
+                char escaped = query.charAt(i + 1);
+                if (Character.isLetterOrDigit(escaped)) {
+                    // predefined character classes, boundaries or back references
+                    if ("0cxuNpPk".indexOf(escaped) >= 0) {
+                        return Collections.emptyList();
+                    }
+                    addLiteral(literals, currentLiteral);
+                } else if (groupDepth == 0) {
+                    currentLiteral.append(escaped);
+                }
+                i += 2;
+                continue;
+            }
+
+            switch (c) {
+                case '[' -> {
+                    addLiteral(literals, currentLiteral);
+                    int end = findEndOfCharacterClass(query, i);
+                    if (end < 0) {
+                        return Collections.emptyList();
+                    }
+                    i = end;
+                }
+                case '{' -> {
+                    // the preceding character is repeated, possibly zero times
+                    removeLastCharacter(currentLiteral);
+                    addLiteral(literals, currentLiteral);
+                    int end = query.indexOf('}', i);
+                    if (end < 0) {
+                        return Collections.emptyList();
+                    }
+                    i = end;
+                }
+                case '?', '*' -> {
+                    removeLastCharacter(currentLiteral);
+                    addLiteral(literals, currentLiteral);
+                }
+                case '(' -> {
+                    addLiteral(literals, currentLiteral);
+                    groupDepth++;
+                }
+                case ')' -> {
+                    addLiteral(literals, currentLiteral);
+                    groupDepth = Math.max(0, groupDepth - 1);
+                }
+                case '.', '^', '$', '+' -> addLiteral(literals, currentLiteral);
+                default -> {
+                    if (groupDepth == 0) {
+                        currentLiteral.append(c);
+                    }
+                }
+            }
+            i++;
+        }
+        addLiteral(literals, currentLiteral);
+        return literals;
+    }
+
+    /**
+     * Returns the position of the ']' closing the character class starting at the given position, or -1 if the class is
+     * not closed. Escaped characters and nested classes (e.g., {@code [a-z&&[^b]]}) are skipped, and a ']' directly
+     * after the opening '[' or '[^' is a literal.
+     */
+    private static int findEndOfCharacterClass(String query, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '[') {
+                depth++;
+                i++;
+                if ((i < query.length()) && (query.charAt(i) == '^')) {
+                    i++;
+                }
+                if ((i < query.length()) && (query.charAt(i) == ']')) {
+                    i++;
+                }
+            } else if (c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i;
+                }
+                i++;
+            } else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static void removeLastCharacter(StringBuilder literal) {
+        if (literal.length() > 0) {
+            literal.setLength(literal.length() - 1);
+        }
+    }
+
+    private static void addLiteral(List<String> literals, StringBuilder literal) {
+        if (literal.length() > 0) {
+            literals.add(literal.toString());
+            literal.setLength(0);
+        }
+    }
 }
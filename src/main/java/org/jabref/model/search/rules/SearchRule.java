@@ -1,10 +1,24 @@
 package org.jabref.model.search.rules;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.SearchIndex;
 
 public interface SearchRule {
 
     boolean applyRule(String query, BibEntry bibEntry);
 
     boolean validateSearchStrings(String query);
+
+    /**
+     * Returns the terms which every entry matched by the query has to contain (case insensitively) in one of its
+     * fields. These terms are used to look up candidate entries in a {@link SearchIndex}.
+     *
+     * @return the required terms, an empty list if the candidates cannot be narrowed down
+     */
+    default List<String> getIndexTerms(String query) {
+        return Collections.emptyList();
+    }
 }
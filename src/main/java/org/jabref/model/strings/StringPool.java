@@ -0,0 +1,78 @@
+package org.jabref.model.strings;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+/**
+ * Deduplicates strings. Journal names, publishers, months, keywords or owners repeat thousands of times in a library,
+ * but parsers and importers create a new string for each occurrence.
+ * <p>
+ * A weak pool releases a string as soon as it is not used anymore, a strong pool keeps all strings as long as the pool
+ * itself is used. The pool counts how many strings were replaced by an already pooled one.
+ */
+public class StringPool {
+
+    /**
+     * Longer strings (e.g., abstracts) hardly ever repeat, thus they are not worth the bookkeeping
+     */
+    public static final int MAX_LENGTH = 256;
+
+    private static final StringPool FIELD_VALUES = new StringPool(true);
+
+    private final Interner<String> interner;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    public StringPool(boolean weak) {
+        this.interner = weak ? Interners.newWeakInterner() : Interners.newStrongInterner();
+    }
+
+    /**
+     * Returns the (weak) pool all field values of entries are stored in
+     */
+    public static StringPool getFieldValuePool() {
+        return FIELD_VALUES;
+    }
+
+    /**
+     * Returns the pooled string equal to the given one. If there is none, the given string is added to the pool.
+     */
+    public String intern(String value) {
+        Objects.requireNonNull(value);
+        if (value.length() > MAX_LENGTH) {
+            return value;
+        }
+
+        requests.increment();
+        String pooledValue = interner.intern(value);
+        if (pooledValue != value) {
+            deduplicated.increment();
+        }
+        return pooledValue;
+    }
+
+    /**
+     * Returns the number of strings passed to {@link #intern(String)}, except the ones exceeding {@link #MAX_LENGTH}
+     */
+    public long getNumberOfRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of strings which were replaced by an already pooled one
+     */
+    public long getNumberOfDeduplicatedValues() {
+        return deduplicated.sum();
+    }
+
+    /**
+     * Returns the share of the pooled strings which were replaced by an already pooled one
+     */
+    public double getDeduplicationRatio() {
+        long numberOfRequests = requests.sum();
+        return (numberOfRequests == 0) ? 0 : ((double) deduplicated.sum() / numberOfRequests);
+    }
+}
@@ -14,7 +14,7 @@ public class FilePreferences {
     private final boolean shouldStoreFilesRelativeToBibFile;
     private final String fileNamePattern;
     private final String fileDirPattern;
-    private boolean shouldDownloadLinkedFiles;
+    private final boolean shouldDownloadLinkedFiles;
     private final boolean shouldSearchFilesOnOpen;
     private final boolean shouldOpenBrowseOnCreate;
 
@@ -65,8 +65,15 @@ public class FilePreferences {
     }
 
     public FilePreferences withShouldDownloadLinkedFiles(boolean newShouldDownloadLinkedFiles) {
-        this.shouldDownloadLinkedFiles = newShouldDownloadLinkedFiles;
-        return this;
+        return new FilePreferences(
+                user,
+                mainFileDirectory,
+                shouldStoreFilesRelativeToBibFile,
+                fileNamePattern,
+                fileDirPattern,
+                newShouldDownloadLinkedFiles,
+                shouldSearchFilesOnOpen,
+                shouldOpenBrowseOnCreate);
     }
 
     public boolean shouldSearchFilesOnOpen() {
@@ -12,6 +12,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -85,6 +86,7 @@ import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.TextBasedPreviewLayout;
 import org.jabref.logic.layout.format.FileLinkPreferences;
 import org.jabref.logic.layout.format.NameFormatterPreferences;
+import org.jabref.logic.net.HttpCachePreferences;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.openoffice.OpenOfficePreferences;
 import org.jabref.logic.openoffice.StyleLoader;
@@ -236,6 +238,7 @@ public class JabRefPreferences implements PreferencesService {
     public static final String SEARCH_DISPLAY_MODE = "searchDisplayMode";
     public static final String SEARCH_CASE_SENSITIVE = "caseSensitiveSearch";
     public static final String SEARCH_REG_EXP = "regExpSearch";
+    public static final String SEARCH_FULLTEXT = "fulltextSearch";
 
     public static final String GENERATE_KEY_ON_IMPORT = "generateKeyOnImport";
 
@@ -345,6 +348,8 @@ public class JabRefPreferences implements PreferencesService {
     private static final String PROXY_USERNAME = "proxyUsername";
     private static final String PROXY_PASSWORD = "proxyPassword";
     private static final String PROXY_USE_AUTHENTICATION = "useProxyAuthentication";
+    private static final String HTTP_CACHE_SIZE = "httpCacheSizeInMegabytes";
+    private static final String HTTP_CACHE_TIME_TO_LIVE = "httpCacheTimeToLiveInHours";
 
     // Auto completion
     private static final String AUTO_COMPLETE = "autoComplete";
@@ -416,6 +421,11 @@ public class JabRefPreferences implements PreferencesService {
     private Set<CustomImporter> customImporters;
     private String userName;
 
+    /**
+     * Immutable preference objects asked for on hot paths, dropped whenever a preference changes
+     */
+    private final PreferenceSnapshots snapshots = new PreferenceSnapshots();
+
     // The constructor is made private to enforce this as a singleton class:
     private JabRefPreferences() {
         try {
@@ -428,6 +438,8 @@ public class JabRefPreferences implements PreferencesService {
 
         // load user preferences
         prefs = PREFS_NODE;
+        // Changes not made through this class (e.g., by importing preferences) are reported asynchronously
+        prefs.addPreferenceChangeListener(event -> snapshots.invalidate());
 
         // Since some of the preference settings themselves use localized strings, we cannot set the language after
         // the initialization of the preferences in main
@@ -438,6 +450,7 @@ public class JabRefPreferences implements PreferencesService {
         defaults.put(SEARCH_DISPLAY_MODE, SearchDisplayMode.FILTER.toString());
         defaults.put(SEARCH_CASE_SENSITIVE, Boolean.FALSE);
         defaults.put(SEARCH_REG_EXP, Boolean.FALSE);
+        defaults.put(SEARCH_FULLTEXT, Boolean.FALSE);
 
         defaults.put(GENERATE_KEY_ON_IMPORT, Boolean.TRUE);
 
@@ -479,6 +492,8 @@ public class JabRefPreferences implements PreferencesService {
         defaults.put(PROXY_USE, Boolean.FALSE);
         defaults.put(PROXY_HOSTNAME, "");
         defaults.put(PROXY_PORT, "80");
+        defaults.put(HTTP_CACHE_SIZE, 50);
+        defaults.put(HTTP_CACHE_TIME_TO_LIVE, 24);
         defaults.put(PROXY_USE_AUTHENTICATION, Boolean.FALSE);
         defaults.put(PROXY_USERNAME, "");
         defaults.put(PROXY_PASSWORD, "");
@@ -806,6 +821,7 @@ public class JabRefPreferences implements PreferencesService {
         defaults.put(CUSTOM_TAB_NAME + "_def2", Localization.lang("Comments"));
 
         defaults.put(EMAIL_SUBJECT, Localization.lang("References"));
+        snapshots.invalidate();
     }
 
     /**
@@ -860,26 +876,32 @@ public class JabRefPreferences implements PreferencesService {
 
     public void put(String key, String value) {
         prefs.put(key, value);
+        snapshots.invalidate();
     }
 
     public void putBoolean(String key, boolean value) {
         prefs.putBoolean(key, value);
+        snapshots.invalidate();
     }
 
     public void putInt(String key, int value) {
         prefs.putInt(key, value);
+        snapshots.invalidate();
     }
 
     public void putInt(String key, Number value) {
         prefs.putInt(key, value.intValue());
+        snapshots.invalidate();
     }
 
     public void putDouble(String key, double value) {
         prefs.putDouble(key, value);
+        snapshots.invalidate();
     }
 
     public void remove(String key) {
         prefs.remove(key);
+        snapshots.invalidate();
     }
 
     /**
@@ -928,11 +950,13 @@ public class JabRefPreferences implements PreferencesService {
         clearCitationKeyPatterns();
         this.previewPreferences = null;
         prefs.clear();
+        snapshots.invalidate();
         new SharedDatabasePreferences().clear();
     }
 
     public void clear(String key) {
         prefs.remove(key);
+        snapshots.invalidate();
     }
 
     /**
@@ -1043,6 +1067,7 @@ public class JabRefPreferences implements PreferencesService {
     public void importPreferences(Path file) throws JabRefException {
         try (InputStream is = Files.newInputStream(file)) {
             Preferences.importPreferences(is);
+            snapshots.invalidate();
         } catch (InvalidPreferencesFormatException | IOException ex) {
             throw new JabRefException("Could not import preferences", Localization.lang("Could not import preferences"),
                     ex);
@@ -1412,12 +1437,12 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public TimestampPreferences getTimestampPreferences() {
-        return new TimestampPreferences(
+        return snapshots.get(TimestampPreferences.class, () -> new TimestampPreferences(
                 getBoolean(ADD_CREATION_DATE),
                 getBoolean(ADD_MODIFICATION_DATE),
                 getBoolean(UPDATE_TIMESTAMP),
                 FieldFactory.parseField(get(TIME_STAMP_FIELD)),
-                get(TIME_STAMP_FORMAT));
+                get(TIME_STAMP_FORMAT)));
     }
 
     @Override
@@ -1636,6 +1661,13 @@ public class JabRefPreferences implements PreferencesService {
                 get(PROXY_PASSWORD));
     }
 
+    @Override
+    public HttpCachePreferences getHttpCachePreferences() {
+        return new HttpCachePreferences(
+                getInt(HTTP_CACHE_SIZE) * 1024L * 1024L,
+                Duration.ofHours(getInt(HTTP_CACHE_TIME_TO_LIVE)));
+    }
+
     @Override
     public void storeProxyPreferences(ProxyPreferences preferences) {
         putBoolean(PROXY_USE, preferences.isUseProxy());
@@ -1682,6 +1714,7 @@ public class JabRefPreferences implements PreferencesService {
         } catch (BackingStoreException ex) {
             LOGGER.info("BackingStoreException in JabRefPreferences.getKeyPattern", ex);
         }
+        snapshots.invalidate();
     }
 
     /**
@@ -1725,6 +1758,10 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public CitationKeyPatternPreferences getCitationKeyPatternPreferences() {
+        return snapshots.get(CitationKeyPatternPreferences.class, this::createCitationKeyPatternPreferences);
+    }
+
+    private CitationKeyPatternPreferences createCitationKeyPatternPreferences() {
         CitationKeyPatternPreferences.KeySuffix keySuffix =
                 CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_B;
 
@@ -2038,14 +2075,14 @@ public class JabRefPreferences implements PreferencesService {
     // ToDo: Can this be disbanded?
     @Override
     public ImportFormatPreferences getImportFormatPreferences() {
-        return new ImportFormatPreferences(
+        return snapshots.get(ImportFormatPreferences.class, () -> new ImportFormatPreferences(
                 getCustomImportFormats(),
                 getDefaultEncoding(),
                 getKeywordDelimiter(),
                 getCitationKeyPatternPreferences(),
                 getFieldContentParserPreferences(),
                 getXmpPreferences(),
-                getSpecialFieldsPreferences().isKeywordSyncEnabled());
+                getSpecialFieldsPreferences().isKeywordSyncEnabled()));
     }
 
     @Override
@@ -2105,16 +2142,16 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public FieldContentFormatterPreferences getFieldContentParserPreferences() {
-        return new FieldContentFormatterPreferences(
-                getStringList(NON_WRAPPABLE_FIELDS).stream().map(FieldFactory::parseField).collect(Collectors.toList()));
+        return snapshots.get(FieldContentFormatterPreferences.class, () -> new FieldContentFormatterPreferences(
+                getStringList(NON_WRAPPABLE_FIELDS).stream().map(FieldFactory::parseField).collect(Collectors.toUnmodifiableList())));
     }
 
     @Override
     public FieldWriterPreferences getFieldWriterPreferences() {
-        return new FieldWriterPreferences(
+        return snapshots.get(FieldWriterPreferences.class, () -> new FieldWriterPreferences(
                 getBoolean(RESOLVE_STRINGS_ALL_FIELDS),
-                getStringList(DO_NOT_RESOLVE_STRINGS_FOR).stream().map(FieldFactory::parseField).collect(Collectors.toList()),
-                getFieldContentParserPreferences());
+                getStringList(DO_NOT_RESOLVE_STRINGS_FOR).stream().map(FieldFactory::parseField).collect(Collectors.toUnmodifiableList()),
+                getFieldContentParserPreferences()));
     }
 
     @Override
@@ -2145,7 +2182,7 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public FilePreferences getFilePreferences() {
-        return new FilePreferences(
+        return snapshots.get(FilePreferences.class, () -> new FilePreferences(
                 getUser(),
                 get(MAIN_FILE_DIRECTORY),
                 getBoolean(STORE_RELATIVE_TO_BIB),
@@ -2153,7 +2190,7 @@ public class JabRefPreferences implements PreferencesService {
                 get(IMPORT_FILEDIRPATTERN),
                 getBoolean(DOWNLOAD_LINKED_FILES),
                 getBoolean(RUN_AUTOMATIC_FILE_SEARCH),
-                getBoolean(ALLOW_FILE_AUTO_OPEN_BROWSE));
+                getBoolean(ALLOW_FILE_AUTO_OPEN_BROWSE)));
     }
 
     @Override
@@ -2513,6 +2550,7 @@ public class JabRefPreferences implements PreferencesService {
     @Override
     public void clearEditedFiles() {
         prefs.remove(LAST_EDITED);
+        snapshots.invalidate();
     }
 
     //*************************************************************************************************************
@@ -2532,7 +2570,8 @@ public class JabRefPreferences implements PreferencesService {
         return new SearchPreferences(
                 searchDisplayMode,
                 getBoolean(SEARCH_CASE_SENSITIVE),
-                getBoolean(SEARCH_REG_EXP));
+                getBoolean(SEARCH_REG_EXP),
+                getBoolean(SEARCH_FULLTEXT));
     }
 
     @Override
@@ -2540,6 +2579,7 @@ public class JabRefPreferences implements PreferencesService {
         put(SEARCH_DISPLAY_MODE, Objects.requireNonNull(preferences.getSearchDisplayMode()).toString());
         putBoolean(SEARCH_CASE_SENSITIVE, preferences.isCaseSensitive());
         putBoolean(SEARCH_REG_EXP, preferences.isRegularExpression());
+        putBoolean(SEARCH_FULLTEXT, preferences.isFulltext());
     }
 
     //*************************************************************************************************************
@@ -2548,10 +2588,10 @@ public class JabRefPreferences implements PreferencesService {
 
     @Override
     public XmpPreferences getXmpPreferences() {
-        return new XmpPreferences(
+        return snapshots.get(XmpPreferences.class, () -> new XmpPreferences(
                 getBoolean(USE_XMP_PRIVACY_FILTER),
-                getStringList(XMP_PRIVACY_FILTERS).stream().map(FieldFactory::parseField).collect(Collectors.toSet()),
-                getKeywordDelimiter());
+                getStringList(XMP_PRIVACY_FILTERS).stream().map(FieldFactory::parseField).collect(Collectors.toUnmodifiableSet()),
+                getKeywordDelimiter()));
     }
 
     @Override
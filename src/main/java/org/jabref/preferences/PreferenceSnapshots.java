@@ -0,0 +1,56 @@
+package org.jabref.preferences;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the preference objects built from the stored preferences, one per type. Hot paths (e.g., every parser, every
+ * save) ask for these objects over and over again, but building them reads several entries of the preference store.
+ * <p>
+ * All objects are dropped as soon as any preference changes. Thus, the kept objects have to be immutable.
+ */
+class PreferenceSnapshots {
+
+    private final Map<Class<?>, Object> snapshots = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+
+    /**
+     * Counts the invalidations, so that an object built from outdated preferences is not kept
+     */
+    private long generation;
+
+    /**
+     * Returns the kept object of the given type. If there is none, it is built and kept.
+     *
+     * @param builder builds the object from the stored preferences, may ask for other kept objects
+     */
+    <T> T get(Class<T> type, Supplier<T> builder) {
+        Object snapshot = snapshots.get(type);
+        if (snapshot != null) {
+            return type.cast(snapshot);
+        }
+
+        long generationAtStart;
+        synchronized (lock) {
+            generationAtStart = generation;
+        }
+        T newSnapshot = builder.get();
+        synchronized (lock) {
+            if (generation == generationAtStart) {
+                snapshots.putIfAbsent(type, newSnapshot);
+            }
+        }
+        return newSnapshot;
+    }
+
+    /**
+     * Drops all kept objects. Has to be called after a preference was changed.
+     */
+    void invalidate() {
+        synchronized (lock) {
+            generation++;
+            snapshots.clear();
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.jabref.logic.l10n.Language;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.format.FileLinkPreferences;
 import org.jabref.logic.layout.format.NameFormatterPreferences;
+import org.jabref.logic.net.HttpCachePreferences;
 import org.jabref.logic.net.ProxyPreferences;
 import org.jabref.logic.openoffice.OpenOfficePreferences;
 import org.jabref.logic.preferences.DOIPreferences;
@@ -205,6 +206,8 @@ public interface PreferencesService {
 
     void storeProxyPreferences(ProxyPreferences proxyPreferences);
 
+    HttpCachePreferences getHttpCachePreferences();
+
     //*************************************************************************************************************
     // CitationKeyPatternPreferences
     //*************************************************************************************************************
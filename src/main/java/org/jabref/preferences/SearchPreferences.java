@@ -7,11 +7,13 @@ public class SearchPreferences {
     private final SearchDisplayMode searchDisplayMode;
     private final boolean isCaseSensitive;
     private final boolean isRegularExpression;
+    private final boolean isFulltext;
 
-    public SearchPreferences(SearchDisplayMode searchDisplayMode, boolean isCaseSensitive, boolean isRegularExpression) {
+    public SearchPreferences(SearchDisplayMode searchDisplayMode, boolean isCaseSensitive, boolean isRegularExpression, boolean isFulltext) {
         this.searchDisplayMode = searchDisplayMode;
         this.isCaseSensitive = isCaseSensitive;
         this.isRegularExpression = isRegularExpression;
+        this.isFulltext = isFulltext;
     }
 
     public SearchDisplayMode getSearchDisplayMode() {
@@ -26,15 +28,23 @@ public class SearchPreferences {
         return isRegularExpression;
     }
 
+    public boolean isFulltext() {
+        return isFulltext;
+    }
+
     public SearchPreferences withSearchDisplayMode(SearchDisplayMode newSearchDisplayMode) {
-        return new SearchPreferences(newSearchDisplayMode, isCaseSensitive, isRegularExpression);
+        return new SearchPreferences(newSearchDisplayMode, isCaseSensitive, isRegularExpression, isFulltext);
     }
 
     public SearchPreferences withCaseSensitive(boolean newCaseSensitive) {
-        return new SearchPreferences(searchDisplayMode, newCaseSensitive, isRegularExpression);
+        return new SearchPreferences(searchDisplayMode, newCaseSensitive, isRegularExpression, isFulltext);
     }
 
     public SearchPreferences withRegularExpression(boolean newRegularExpression) {
-        return new SearchPreferences(searchDisplayMode, isCaseSensitive, newRegularExpression);
+        return new SearchPreferences(searchDisplayMode, isCaseSensitive, newRegularExpression, isFulltext);
+    }
+
+    public SearchPreferences withFulltext(boolean newFulltext) {
+        return new SearchPreferences(searchDisplayMode, isCaseSensitive, isRegularExpression, newFulltext);
     }
 }
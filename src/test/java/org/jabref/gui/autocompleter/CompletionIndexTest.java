@@ -0,0 +1,131 @@
+package org.jabref.gui.autocompleter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
+
+import com.google.common.base.Equivalence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompletionIndexTest {
+
+    private final Equivalence<String> equivalence = Equivalence.equals().onResultOf(value -> value);
+    private BibDatabase database;
+    private CompletionIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        database.insertEntry(new BibEntry().withField(StandardField.JOURNAL, "Journal of Software"));
+        database.insertEntry(new BibEntry().withField(StandardField.JOURNAL, "Software Practice"));
+        database.insertEntry(new BibEntry().withField(StandardField.JOURNAL, "Software Practice"));
+        index = FieldValueSuggestionProvider.createIndex(StandardField.JOURNAL, database);
+    }
+
+    private List<String> find(String text) {
+        Predicate<String> isMatch = candidate -> StringUtil.containsIgnoreCase(candidate, text);
+        return index.find(text, isMatch, Comparator.naturalOrder(), equivalence, 10);
+    }
+
+    @Test
+    void indexIsReadyAfterBuild() {
+        assertFalse(index.isReady());
+        index.build();
+        assertTrue(index.isReady());
+    }
+
+    @Test
+    void findRanksByFrequency() {
+        index.build();
+        assertEquals(List.of("Software Practice", "Journal of Software"), find("soft"));
+    }
+
+    @Test
+    void findMatchesOnlyStartOfWords() {
+        index.build();
+        assertEquals(List.of("Journal of Software"), find("of"));
+    }
+
+    @Test
+    void findMatchesMiddleOfWordIfNoWordStartsWithText() {
+        index.build();
+        assertEquals(List.of("Journal of Software"), find("urna"));
+    }
+
+    @Test
+    void findRespectsLimit() {
+        index.build();
+        Predicate<String> isMatch = candidate -> true;
+        assertEquals(List.of("Software Practice"), index.find("s", isMatch, Comparator.naturalOrder(), equivalence, 1));
+    }
+
+    @Test
+    void addedEntryIsFound() {
+        index.build();
+        database.insertEntry(new BibEntry().withField(StandardField.JOURNAL, "Softer Journal"));
+        assertEquals(List.of("Software Practice", "Journal of Software", "Softer Journal"), find("soft"));
+    }
+
+    @Test
+    void removedEntryIsNotFound() {
+        index.build();
+        database.removeEntry(database.getEntries().get(0));
+        assertEquals(List.of("Software Practice"), find("soft"));
+    }
+
+    @Test
+    void changedFieldUpdatesFrequencies() {
+        index.build();
+        database.getEntries().get(1).setField(StandardField.JOURNAL, "Journal of Software");
+        assertEquals(2, index.getFrequency("Journal of Software"));
+        assertEquals(1, index.getFrequency("Software Practice"));
+    }
+
+    @Test
+    void entryChangedBeforeBuildIsCountedOnce() {
+        database.getEntries().get(0).setField(StandardField.JOURNAL, "Software Practice");
+        index.build();
+        assertEquals(3, index.getFrequency("Software Practice"));
+        assertEquals(0, index.getFrequency("Journal of Software"));
+    }
+
+    @Test
+    void otherFieldDoesNotChangeIndex() {
+        index.build();
+        database.getEntries().get(0).setField(StandardField.TITLE, "Software");
+        assertEquals(List.of("Software Practice", "Journal of Software"), find("soft"));
+    }
+
+    @Test
+    void additionalCandidatesAreFound() {
+        index.addCandidates(List.of("Softcover Letters"));
+        index.build();
+        assertEquals(List.of("Software Practice", "Journal of Software", "Softcover Letters"), find("soft"));
+    }
+
+    @Test
+    void personNamesAreFoundByFirstName() {
+        BibDatabase persons = new BibDatabase();
+        persons.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "Vassilis Kostakos and Eric von Hippel"));
+        persons.insertEntry(new BibEntry().withField(StandardField.AUTHOR, "Eric von Hippel"));
+        CompletionIndex<Author> authors = PersonNameSuggestionProvider.createIndex(StandardField.AUTHOR, persons);
+        authors.build();
+
+        Author hippel = new Author("Eric", "E.", "von", "Hippel", "");
+        List<Author> result = authors.find("eri", candidate -> StringUtil.containsIgnoreCase(candidate.getLastFirst(false), "eri"),
+                Comparator.comparing(Author::getNameForAlphabetization), Equivalence.equals().onResultOf(Author::getLastOnly), 10);
+        assertEquals(List.of(hippel), result);
+        assertEquals(2, authors.getFrequency(hippel));
+    }
+}
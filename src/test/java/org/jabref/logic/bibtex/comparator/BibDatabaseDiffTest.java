@@ -88,4 +88,43 @@ class BibDatabaseDiffTest {
         assertEquals(entryThree, diff.getEntryDifferences().get(2).getNewEntry(), "there is another value as newEntry [2]");
         assertNull(diff.getEntryDifferences().get(2).getOriginalEntry(), "originalEntry is not null [2]");
     }
+
+    @Test
+    void compareOfModifiedEntryWithSameCitationKeyReportsChange() throws Exception {
+        BibEntry entryOne = new BibEntry(BibEntry.DEFAULT_TYPE).withCitationKey("key")
+                                                               .withField(StandardField.TITLE, "test")
+                                                               .withField(StandardField.YEAR, "2020");
+        BibEntry entryTwo = new BibEntry(BibEntry.DEFAULT_TYPE).withCitationKey("key")
+                                                               .withField(StandardField.TITLE, "test")
+                                                               .withField(StandardField.YEAR, "2021");
+        BibEntry unchangedEntry = new BibEntry(BibEntry.DEFAULT_TYPE).withCitationKey("other").withField(StandardField.TITLE, "other");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Arrays.asList(entryOne, unchangedEntry)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Arrays.asList(unchangedEntry, entryTwo)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(1, diff.getEntryDifferences().size());
+        assertEquals(entryOne, diff.getEntryDifferences().get(0).getOriginalEntry());
+        assertEquals(entryTwo, diff.getEntryDifferences().get(0).getNewEntry());
+    }
+
+    @Test
+    void compareOfModifiedEntryWithChangedCitationKeyReportsChange() throws Exception {
+        BibEntry entryOne = new BibEntry(BibEntry.DEFAULT_TYPE).withCitationKey("Smith2020")
+                                                               .withField(StandardField.AUTHOR, "Smith, John")
+                                                               .withField(StandardField.TITLE, "A study of duplicate detection")
+                                                               .withField(StandardField.YEAR, "2020");
+        BibEntry entryTwo = new BibEntry(BibEntry.DEFAULT_TYPE).withCitationKey("Smith2020a")
+                                                               .withField(StandardField.AUTHOR, "Smith, John")
+                                                               .withField(StandardField.TITLE, "A study of duplicate detection")
+                                                               .withField(StandardField.YEAR, "2020");
+        BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryOne)));
+        BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryTwo)));
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(databaseOne, databaseTwo);
+
+        assertEquals(1, diff.getEntryDifferences().size());
+        assertEquals(entryOne, diff.getEntryDifferences().get(0).getOriginalEntry());
+        assertEquals(entryTwo, diff.getEntryDifferences().get(0).getNewEntry());
+    }
 }
@@ -0,0 +1,53 @@
+package org.jabref.logic.citationstyle;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CSLAdapterPoolTest {
+
+    @Test
+    void parallelCitationsEqualSequentialOnes() throws Exception {
+        CSLAdapterPool pool = new CSLAdapterPool(2);
+        String style = CitationStyle.getDefault().getSource();
+        pool.prewarm(style, CitationStyleOutputFormat.TEXT, 2);
+
+        List<BibEntry> entries = IntStream.range(0, 8)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Article)
+                                                  .withCitationKey("key" + i)
+                                                  .withField(StandardField.AUTHOR, "Doe, Jane")
+                                                  .withField(StandardField.TITLE, "Title " + i))
+                                          .collect(Collectors.toList());
+
+        List<String> expected = entries.stream()
+                                       .map(entry -> makeCitation(pool, entry, style))
+                                       .collect(Collectors.toList());
+        List<String> actual = entries.parallelStream()
+                                     .map(entry -> makeCitation(pool, entry, style))
+                                     .collect(Collectors.toList());
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void atLeastOneAdapterIsRequired() {
+        assertThrows(IllegalArgumentException.class, () -> new CSLAdapterPool(0));
+    }
+
+    private static String makeCitation(CSLAdapterPool pool, BibEntry entry, String style) {
+        try {
+            return pool.makeBibliography(List.of(entry), style, CitationStyleOutputFormat.TEXT).get(0);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
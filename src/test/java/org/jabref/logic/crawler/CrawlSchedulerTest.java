@@ -0,0 +1,186 @@
+package org.jabref.logic.crawler;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.net.URLDownload;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CrawlSchedulerTest {
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final Map<String, AtomicInteger> runningRequests = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> maximumRunningRequests = new ConcurrentHashMap<>();
+    private final Map<String, List<Long>> startsOfRequests = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", this::respond);
+        server.setExecutor(serverExecutor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void requestsOfFetcherDoNotExceedConcurrencyLimit() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maximum = new AtomicInteger();
+        try (CrawlScheduler scheduler = new CrawlScheduler(new CrawlScheduler.FetcherLimits(2, 1000), Map.of())) {
+            List<CompletableFuture<Integer>> requests = IntStream.range(0, 10)
+                                                                 .mapToObj(i -> scheduler.schedule("Fetcher", () -> {
+                                                                     maximum.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                                                     sleep(20);
+                                                                     running.decrementAndGet();
+                                                                     return i;
+                                                                 }))
+                                                                 .collect(Collectors.toList());
+
+            assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()),
+                    requests.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+        }
+        assertTrue(maximum.get() <= 2);
+    }
+
+    @Test
+    void requestsOfFetcherDoNotExceedRateLimit() {
+        try (CrawlScheduler scheduler = new CrawlScheduler(CrawlScheduler.DEFAULT_LIMITS, Map.of("Slow", new CrawlScheduler.FetcherLimits(1, 10)))) {
+            long start = System.nanoTime();
+            List<CompletableFuture<Integer>> requests = IntStream.range(0, 6)
+                                                                 .mapToObj(i -> scheduler.schedule("Slow", () -> i))
+                                                                 .collect(Collectors.toList());
+            requests.forEach(CompletableFuture::join);
+
+            // The first request starts immediately, the other five are spaced by 100 ms
+            assertTrue((System.nanoTime() - start) >= 400_000_000L);
+        }
+    }
+
+    @Test
+    void requestsSentToServerDoNotExceedConcurrencyLimit() {
+        try (CrawlScheduler scheduler = new CrawlScheduler(new CrawlScheduler.FetcherLimits(2, 1000), Map.of())) {
+            List<CompletableFuture<String>> requests = IntStream.range(0, 10)
+                                                                .mapToObj(i -> scheduler.schedule("Fetcher", () -> download("/limited")))
+                                                                .collect(Collectors.toList());
+
+            requests.forEach(request -> assertEquals("ok\n", request.join()));
+        }
+        assertEquals(10, startsOfRequests.get("/limited").size());
+        assertTrue(maximumRunningRequests.get("/limited").get() <= 2);
+    }
+
+    @Test
+    void requestsSentToServerAreSpacedByRateLimit() {
+        try (CrawlScheduler scheduler = new CrawlScheduler(new CrawlScheduler.FetcherLimits(4, 10), Map.of())) {
+            List<CompletableFuture<String>> requests = IntStream.range(0, 5)
+                                                                .mapToObj(i -> scheduler.schedule("Fetcher", () -> download("/rated")))
+                                                                .collect(Collectors.toList());
+            requests.forEach(CompletableFuture::join);
+        }
+
+        // The five requests are started 100 ms apart, some slack is left for the network
+        List<Long> starts = new ArrayList<>(startsOfRequests.get("/rated"));
+        Collections.sort(starts);
+        assertTrue((starts.get(4) - starts.get(0)) >= TimeUnit.MILLISECONDS.toNanos(350));
+    }
+
+    @Test
+    void throttledFetcherDoesNotDelayOtherFetchers() {
+        try (CrawlScheduler scheduler = new CrawlScheduler(CrawlScheduler.DEFAULT_LIMITS,
+                Map.of("Slow", new CrawlScheduler.FetcherLimits(1, 1), "Fast", new CrawlScheduler.FetcherLimits(8, 1000)))) {
+            // Requesting all of them takes 20 seconds, enough to occupy all threads if they waited for the limits
+            IntStream.range(0, 20).forEach(i -> scheduler.schedule("Slow", () -> download("/slow")));
+
+            long start = System.nanoTime();
+            List<CompletableFuture<String>> fastRequests = IntStream.range(0, 8)
+                                                                    .mapToObj(i -> scheduler.schedule("Fast", () -> download("/fast")))
+                                                                    .collect(Collectors.toList());
+            fastRequests.forEach(request -> assertEquals("ok\n", request.join()));
+
+            assertTrue((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(2));
+            assertTrue(startsOfRequests.getOrDefault("/slow", List.of()).size() < 20);
+        }
+    }
+
+    @Test
+    void failedRequestCompletesExceptionally() {
+        try (CrawlScheduler scheduler = new CrawlScheduler()) {
+            CompletableFuture<Object> request = scheduler.schedule("Fetcher", () -> {
+                throw new FetcherException("Not available");
+            });
+
+            CompletionException exception = assertThrows(CompletionException.class, request::join);
+            assertTrue(exception.getCause() instanceof FetcherException);
+        }
+    }
+
+    @Test
+    void fetcherIsAllowedAtLeastOneRequest() {
+        assertThrows(IllegalArgumentException.class, () -> new CrawlScheduler.FetcherLimits(0, 1));
+    }
+
+    private String download(String path) throws FetcherException {
+        try {
+            return new URLDownload(new URL("http://localhost:" + server.getAddress().getPort() + path)).asString();
+        } catch (IOException e) {
+            throw new FetcherException("Could not download " + path, e);
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        startsOfRequests.computeIfAbsent(path, key -> Collections.synchronizedList(new ArrayList<>())).add(System.nanoTime());
+        int running = runningRequests.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+        maximumRunningRequests.computeIfAbsent(path, key -> new AtomicInteger()).accumulateAndGet(running, Math::max);
+        sleep(50);
+        runningRequests.get(path).decrementAndGet();
+
+        exchange.getResponseHeaders().add("Cache-Control", "no-store");
+        byte[] content = "ok".getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, content.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(content);
+        }
+    }
+
+    private static void sleep(long milliseconds) {
+        try {
+            Thread.sleep(milliseconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
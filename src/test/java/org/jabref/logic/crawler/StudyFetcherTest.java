@@ -0,0 +1,117 @@
+package org.jabref.logic.crawler;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.importer.FetcherException;
+import org.jabref.logic.importer.PagedSearchBasedFetcher;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.paging.Page;
+import org.jabref.model.study.QueryResult;
+
+import org.apache.lucene.queryparser.flexible.core.nodes.QueryNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StudyFetcherTest {
+
+    private static final CrawlScheduler.FetcherLimits UNLIMITED = new CrawlScheduler.FetcherLimits(4, 1000);
+
+    @TempDir
+    Path cacheDirectory;
+
+    @Test
+    void crawlCollectsAllPages() {
+        PagingFetcher fetcher = new PagingFetcher(45);
+        List<QueryResult> results = new StudyFetcher(List.of(fetcher), List.of("quantum"), new CrawlResponseCache(cacheDirectory), UNLIMITED).crawl();
+
+        assertEquals(1, results.size());
+        assertEquals(45, results.get(0).getResultsPerFetcher().get(0).getFetchResult().getEntryCount());
+    }
+
+    @Test
+    void crawlStopsAfterPartialFirstPage() {
+        PagingFetcher fetcher = new PagingFetcher(5);
+        new StudyFetcher(List.of(fetcher), List.of("quantum"), new CrawlResponseCache(cacheDirectory), UNLIMITED).crawl();
+
+        assertEquals(1, fetcher.requests.get());
+    }
+
+    @Test
+    void crawlAgainOnlyRequestsPagesWhichMayHaveChanged() {
+        PagingFetcher fetcher = new PagingFetcher(45);
+        CrawlResponseCache cache = new CrawlResponseCache(cacheDirectory);
+        new StudyFetcher(List.of(fetcher), List.of("quantum"), cache, UNLIMITED).crawl();
+        int firstCrawlRequests = fetcher.requests.get();
+
+        List<QueryResult> results = new StudyFetcher(List.of(fetcher), List.of("quantum"), cache, UNLIMITED).crawl();
+
+        // Only the partial third page and the (empty) pages after it are requested again
+        assertEquals(firstCrawlRequests + 3, fetcher.requests.get());
+        assertEquals(45, results.get(0).getResultsPerFetcher().get(0).getFetchResult().getEntryCount());
+    }
+
+    @Test
+    void crawlSkipsFailingFetcher() {
+        PagingFetcher fetcher = new PagingFetcher(-1);
+        List<QueryResult> results = new StudyFetcher(List.of(fetcher), List.of("quantum"), new CrawlResponseCache(cacheDirectory), UNLIMITED).crawl();
+
+        assertTrue(results.get(0).getResultsPerFetcher().isEmpty());
+    }
+
+    @Test
+    void cachedPageKeepsEntries() {
+        CrawlResponseCache cache = new CrawlResponseCache(cacheDirectory);
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Doe, Jane")
+                .withField(StandardField.TITLE, "Quantum {Computing}");
+        cache.put("Some/Fetcher", "quantum", 2, List.of(entry));
+
+        assertEquals(List.of(entry), cache.get("Some/Fetcher", "quantum", 2).orElseThrow());
+        assertTrue(cache.get("Some/Fetcher", "quantum", 3).isEmpty());
+        assertTrue(cache.get("Some/Fetcher", "cloud", 2).isEmpty());
+    }
+
+    /**
+     * Returns the given number of results in pages of 20 entries, or fails if the number is negative
+     */
+    private static class PagingFetcher implements PagedSearchBasedFetcher {
+
+        private final int numberOfResults;
+        private final AtomicInteger requests = new AtomicInteger();
+
+        PagingFetcher(int numberOfResults) {
+            this.numberOfResults = numberOfResults;
+        }
+
+        @Override
+        public Page<BibEntry> performSearchPaged(String searchQuery, int pageNumber) throws FetcherException {
+            requests.incrementAndGet();
+            if (numberOfResults < 0) {
+                throw new FetcherException("Not available");
+            }
+            List<BibEntry> entries = IntStream.range(pageNumber * getPageSize(), Math.min(numberOfResults, (pageNumber + 1) * getPageSize()))
+                                              .mapToObj(i -> new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, searchQuery + " " + i))
+                                              .collect(Collectors.toList());
+            return new Page<>(searchQuery, pageNumber, entries);
+        }
+
+        @Override
+        public Page<BibEntry> performSearchPaged(QueryNode luceneQuery, int pageNumber) throws FetcherException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String getName() {
+            return "Paging";
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateCandidateFinderTest {
+
+    private DuplicateCandidateFinder finder;
+    private BibEntry article;
+    private BibEntry unrelatedArticle;
+
+    @BeforeEach
+    void setUp() {
+        finder = new DuplicateCandidateFinder();
+        article = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+        unrelatedArticle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Completely Different")
+                .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+                .withField(StandardField.YEAR, "1992");
+    }
+
+    @Test
+    void unrelatedEntriesAreNoCandidates() {
+        assertEquals(List.of(), finder.findCandidatePairs(List.of(article, unrelatedArticle)));
+    }
+
+    @Test
+    void entriesWithSameTitleAreCandidates() {
+        BibEntry other = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "A Serious Paper About Something");
+
+        assertEquals(List.of(List.of(article, other)), finder.findCandidatePairs(List.of(article, unrelatedArticle, other)));
+    }
+
+    @Test
+    void entriesWithSameFirstAuthorAndYearAreCandidates() {
+        BibEntry other = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Author, S. and Other, A.")
+                .withField(StandardField.TITLE, "Completely different words")
+                .withField(StandardField.YEAR, "2017");
+
+        assertEquals(List.of(List.of(article, other)), finder.findCandidatePairs(List.of(article, other)));
+    }
+
+    @Test
+    void entriesWithSameDoiAreCandidatesRegardlessOfType() {
+        BibEntry other = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.DOI, "10.1000/XYZ");
+        unrelatedArticle.setField(StandardField.DOI, "https://doi.org/10.1000/xyz");
+
+        assertEquals(List.of(List.of(unrelatedArticle, other)), finder.findCandidatePairs(List.of(unrelatedArticle, other)));
+    }
+
+    @Test
+    void entriesOfDifferentTypeWithSameTitleAreNoCandidates() {
+        BibEntry other = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.TITLE, "A serious paper about something");
+
+        assertEquals(List.of(), finder.findCandidatePairs(List.of(article, other)));
+    }
+
+    @Test
+    void eachPairIsReturnedOnce() {
+        BibEntry copy = (BibEntry) article.clone();
+
+        assertEquals(List.of(List.of(article, copy)), finder.findCandidatePairs(List.of(article, copy)));
+    }
+}
@@ -806,4 +806,55 @@ class BibtexDatabaseWriterTest {
         // returns tu original entry, not to the last saved one
         assertEquals(bibtexEntry, stringWriter.toString());
     }
+
+    @Test
+    void writeIncrementallyReusesSerializationOfUnchangedEntries() throws Exception {
+        when(preferences.shouldSaveIncrementally()).thenReturn(true);
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withCitationKey("test");
+        database.insertEntry(entry);
+
+        databaseWriter.saveDatabase(bibtexContext);
+        String firstSave = stringWriter.toString();
+
+        stringWriter = new StringWriter();
+        databaseWriter = new BibtexDatabaseWriter(stringWriter, preferences, entryTypesManager);
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertEquals(firstSave, stringWriter.toString());
+        assertEquals(1, bibtexContext.getSerializationCache().size());
+    }
+
+    @Test
+    void writeIncrementallySerializesModifiedEntryAgain() throws Exception {
+        when(preferences.shouldSaveIncrementally()).thenReturn(true);
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withCitationKey("test");
+        database.insertEntry(entry);
+        databaseWriter.saveDatabase(bibtexContext);
+
+        entry.setField(StandardField.TITLE, "New title");
+        stringWriter = new StringWriter();
+        databaseWriter = new BibtexDatabaseWriter(stringWriter, preferences, entryTypesManager);
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertEquals(OS.NEWLINE +
+                        "@Article{test," + OS.NEWLINE +
+                        "  title = {New title}," + OS.NEWLINE +
+                        "}" + OS.NEWLINE,
+                stringWriter.toString());
+    }
+
+    @Test
+    void writeIncrementallyDropsRemovedEntriesFromCache() throws Exception {
+        when(preferences.shouldSaveIncrementally()).thenReturn(true);
+        BibEntry first = new BibEntry(StandardEntryType.Article).withCitationKey("first");
+        BibEntry second = new BibEntry(StandardEntryType.Article).withCitationKey("second");
+        database.insertEntries(first, second);
+        databaseWriter.saveDatabase(bibtexContext);
+
+        database.removeEntry(second);
+        databaseWriter = new BibtexDatabaseWriter(new StringWriter(), preferences, entryTypesManager);
+        databaseWriter.saveDatabase(bibtexContext);
+
+        assertEquals(1, bibtexContext.getSerializationCache().size());
+    }
 }
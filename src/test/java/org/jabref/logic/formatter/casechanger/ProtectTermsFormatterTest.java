@@ -56,4 +56,19 @@ public class ProtectTermsFormatterTest {
         assertEquals("{Testing BPEL Engine Performance: A Survey}",
                 formatter.format("{Testing BPEL Engine Performance: A Survey}"));
     }
+
+    @Test
+    public void protectsAdjacentTerms() {
+        assertEquals("{CDMA} {CDMA}", formatter.format("CDMA CDMA"));
+    }
+
+    @Test
+    public void protectsLongestOfOverlappingTerms() {
+        assertEquals("{3GPP}", formatter.format("3GPP"));
+    }
+
+    @Test
+    public void doNotProtectTermFollowedByLetter() {
+        assertEquals("CDMAx", formatter.format("CDMAx"));
+    }
 }
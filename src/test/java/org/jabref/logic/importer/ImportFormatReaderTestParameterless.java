@@ -1,6 +1,8 @@
 package org.jabref.logic.importer;
 
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.jabref.logic.preferences.TimestampPreferences;
@@ -10,9 +12,13 @@ import org.jabref.model.util.FileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Answers;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -50,4 +56,44 @@ class ImportFormatReaderTestParameterless {
     void importFromFileWithUnknownFormatThrowsException() throws Exception {
         assertThrows(ImportException.class, () -> reader.importFromFile("someunknownformat", Path.of("somepath")));
     }
+
+    @Test
+    void importUnknownFormatImportsWholeFileLongerThanSample(@TempDir Path tempDir) throws Exception {
+        StringBuilder ris = new StringBuilder();
+        int count = 0;
+        while (ris.length() <= (2 * ImportFormatReader.Sample.MAX_LENGTH)) {
+            ris.append("TY  - JOUR\nAU  - Doe, Jane\nTI  - Title ").append(count++).append("\nER  - \n\n");
+        }
+        Path file = tempDir.resolve("large.ris");
+        Files.writeString(file, ris);
+
+        ImportFormatReader.UnknownFormatImport unknownFormat = reader.importUnknownFormat(file, timestampPreferences, fileMonitor);
+
+        assertEquals("RIS", unknownFormat.format);
+        assertEquals(count, unknownFormat.parserResult.getDatabase().getEntryCount());
+    }
+
+    @Test
+    void sampleOfShortSourceIsComplete() throws Exception {
+        ImportFormatReader.Sample sample = ImportFormatReader.Sample.of(new StringReader("first\nsecond"), 100);
+
+        assertEquals("first\nsecond", sample.text);
+        assertTrue(sample.isComplete);
+    }
+
+    @Test
+    void sampleOfLongSourceEndsAtLineBreak() throws Exception {
+        ImportFormatReader.Sample sample = ImportFormatReader.Sample.of(new StringReader("first\nsecond\nthird"), 10);
+
+        assertEquals("first\n", sample.text);
+        assertFalse(sample.isComplete);
+    }
+
+    @Test
+    void sampleOfSourceFillingTheSampleIsComplete() throws Exception {
+        ImportFormatReader.Sample sample = ImportFormatReader.Sample.of(new StringReader("first\nsecond"), 12);
+
+        assertEquals("first\nsecond", sample.text);
+        assertTrue(sample.isComplete);
+    }
 }
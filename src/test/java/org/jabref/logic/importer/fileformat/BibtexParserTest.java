@@ -399,6 +399,31 @@ class BibtexParserTest {
         }
     }
 
+    @Test
+    void parseKeepsOrderAndSerializationOfManyEntries() throws IOException {
+        StringBuilder bibtex = new StringBuilder();
+        List<String> serializations = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String entry = "% comment " + i + OS.NEWLINE
+                    + "@article{key" + i + "," + OS.NEWLINE
+                    + "  title = {Title" + OS.NEWLINE + "  " + i + "}," + OS.NEWLINE
+                    + "  author = {Author " + i + "}}" + OS.NEWLINE;
+            serializations.add(entry);
+            bibtex.append(entry);
+        }
+
+        List<BibEntry> entries = parser.parse(new StringReader(bibtex.toString())).getDatabase().getEntries();
+
+        assertEquals(1000, entries.size());
+        for (int i = 0; i < 1000; i++) {
+            BibEntry entry = entries.get(i);
+            assertEquals(Optional.of("key" + i), entry.getCitationKey());
+            assertEquals(Optional.of("Title " + i), entry.getField(StandardField.TITLE));
+            assertEquals(serializations.get(i), entry.getParsedSerialization());
+            assertFalse(entry.hasChanged());
+        }
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         List<BibEntry> expected = new ArrayList<>();
@@ -0,0 +1,108 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParsedEntryCacheTest {
+
+    private static final String FILE = "% Encoding: UTF-8\n\n"
+            + "@Preamble{preamble}\n\n"
+            + "@String{jabref = {JabRef}}\n\n"
+            + "@Article{first,\n  title = {First},\n}\n\n"
+            + "@Comment{a comment}\n"
+            + "@Article{second,\n  title = {Second (with {braces})},\n}\n\n"
+            + "@Book(third,\n  title = {Third},\n)\n\n"
+            + "@Comment{jabref-meta: databaseType:bibtex;}\n";
+
+    private BibtexParser parser;
+    private ParsedEntryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        ImportFormatPreferences importFormatPreferences = mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        when(importFormatPreferences.getKeywordSeparator()).thenReturn(',');
+        parser = new BibtexParser(importFormatPreferences, new DummyFileUpdateMonitor());
+        cache = new ParsedEntryCache();
+    }
+
+    @Test
+    void splitsAtSamePositionsAsParser() throws Exception {
+        List<BibEntry> entries = parser.parse(new StringReader(FILE)).getDatabase().getEntries();
+        List<ParsedEntryCache.Block> blocks = ParsedEntryCache.split(FILE).orElseThrow();
+
+        List<String> entryBlocks = blocks.stream()
+                                         .filter(block -> block.isEntry)
+                                         .map(block -> FILE.substring(block.start, block.end))
+                                         .collect(Collectors.toList());
+        List<String> parsedSerializations = entries.stream().map(BibEntry::getParsedSerialization).collect(Collectors.toList());
+        assertEquals(parsedSerializations, entryBlocks);
+        assertEquals(FILE.length(), blocks.get(blocks.size() - 1).end);
+    }
+
+    @Test
+    void splitFailsForUnbalancedBraces() {
+        assertEquals(Optional.empty(), ParsedEntryCache.split("@Article{first,\n  title = {First,\n}\n"));
+    }
+
+    @Test
+    void reusesEntryOfUnchangedBlock() throws Exception {
+        List<BibEntry> entries = parser.parse(new StringReader(FILE)).getDatabase().getEntries();
+        // Marks the cached entry, thus the result shows whether it was copied or parsed again
+        BibEntry second = entries.get(1);
+        second.setField(StandardField.NOTE, "cached");
+        second.setParsedSerialization(second.getParsedSerialization());
+        cache.update(entries);
+
+        String changedFile = FILE.replace("{Third}", "{Third edition}");
+        ParserResult result = cache.parse(new StringReader(changedFile), parser);
+        List<BibEntry> reloadedEntries = result.getDatabase().getEntries();
+
+        assertEquals(3, reloadedEntries.size());
+        assertEquals(Optional.of("First"), reloadedEntries.get(0).getField(StandardField.TITLE));
+        assertEquals(Optional.of("cached"), reloadedEntries.get(1).getField(StandardField.NOTE));
+        assertEquals(Optional.of("Third edition"), reloadedEntries.get(2).getField(StandardField.TITLE));
+        assertEquals(Optional.of("JabRef"), result.getDatabase().getStringValues().stream().findFirst().map(BibtexString::getContent));
+        assertEquals("preamble", result.getDatabase().getPreamble().orElseThrow());
+    }
+
+    @Test
+    void parsesEntryChangedAfterCaching() throws Exception {
+        List<BibEntry> entries = parser.parse(new StringReader(FILE)).getDatabase().getEntries();
+        cache.update(entries);
+        entries.get(1).setField(StandardField.NOTE, "changed in memory");
+
+        List<BibEntry> reloadedEntries = cache.parse(new StringReader(FILE), parser).getDatabase().getEntries();
+
+        assertEquals(Optional.empty(), reloadedEntries.get(1).getField(StandardField.NOTE));
+    }
+
+    @Test
+    void resultEqualsCompleteParse() throws Exception {
+        cache.update(parser.parse(new StringReader(FILE)).getDatabase().getEntries());
+        String changedFile = FILE.replace("@Comment{a comment}\n", "") + "\n@Misc{fourth}\n";
+
+        List<BibEntry> expected = parser.parse(new StringReader(changedFile)).getDatabase().getEntries();
+        List<BibEntry> actual = cache.parse(new StringReader(changedFile), parser).getDatabase().getEntries();
+
+        assertEquals(expected, actual);
+        assertTrue(actual.get(3).getCitationKey().isPresent());
+    }
+}
@@ -0,0 +1,238 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the cache of {@link URLDownload} against a local HTTP server
+ */
+class HttpResponseCacheTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    @TempDir
+    Path cacheDirectory;
+
+    private HttpServer server;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger conditionalRequests = new AtomicInteger();
+    private HttpResponseCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/fresh", exchange -> respond(exchange, "max-age=3600", "fresh"));
+        server.createContext("/stale", exchange -> respond(exchange, "max-age=0", "stale"));
+        server.createContext("/no-store", exchange -> respond(exchange, "no-store", "secret"));
+        server.createContext("/large", exchange -> respond(exchange, "max-age=3600", "x".repeat(120)));
+        server.createContext("/negotiated", exchange ->
+                respond(exchange, "max-age=3600", exchange.getRequestHeaders().getFirst("Accept")));
+        server.createContext("/vary", exchange -> {
+            exchange.getResponseHeaders().add("Vary", "X-Client");
+            respond(exchange, "max-age=3600", exchange.getRequestHeaders().getFirst("X-Client"));
+        });
+        server.createContext("/expires", exchange -> {
+            exchange.getResponseHeaders().add("Expires", inHours(1));
+            respond(exchange, null, "expires");
+        });
+        server.createContext("/expired", exchange -> {
+            exchange.getResponseHeaders().add("Expires", "0");
+            respond(exchange, null, "expired");
+        });
+        server.createContext("/pragma", exchange -> {
+            exchange.getResponseHeaders().add("Pragma", "no-cache");
+            respond(exchange, null, "pragma");
+        });
+        server.createContext("/private", exchange -> respond(exchange, "private, max-age=3600", "private"));
+        server.createContext("/unspecified", exchange -> respond(exchange, null, "unspecified"));
+        server.createContext("/last-modified", exchange -> {
+            exchange.getResponseHeaders().add("Last-Modified", inHours(-240));
+            respond(exchange, null, "last-modified");
+        });
+        server.createContext("/missing", exchange -> {
+            requests.incrementAndGet();
+            exchange.sendResponseHeaders(404, -1);
+            exchange.close();
+        });
+        server.start();
+
+        cache = new HttpResponseCache(cacheDirectory, 1000, Duration.ofHours(1));
+        SharedHttpClient.setResponseCache(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SharedHttpClient.setResponseCache(null);
+        server.stop(0);
+    }
+
+    @Test
+    void freshResponseIsTakenFromCache() throws IOException {
+        long cacheHits = SharedHttpClient.getMetrics().getMetrics("localhost").getNumberOfCacheHits();
+        assertEquals("fresh\n", download("/fresh"));
+        assertEquals("fresh\n", download("/fresh"));
+
+        assertEquals(1, requests.get());
+        assertEquals(cacheHits + 1, SharedHttpClient.getMetrics().getMetrics("localhost").getNumberOfCacheHits());
+    }
+
+    @Test
+    void staleResponseIsRevalidated() throws IOException {
+        assertEquals("stale\n", download("/stale"));
+        assertEquals("stale\n", download("/stale"));
+
+        assertEquals(2, requests.get());
+        assertEquals(1, conditionalRequests.get());
+    }
+
+    @Test
+    void responseMarkedNoStoreIsNotCached() throws IOException {
+        download("/no-store");
+        download("/no-store");
+
+        assertEquals(2, requests.get());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void cacheDoesNotExceedMaximumSize() throws IOException {
+        for (int i = 0; i < 10; i++) {
+            download("/large?page=" + i);
+        }
+
+        assertTrue(cache.getSize() > 0);
+        assertTrue(cache.getSize() <= 1000);
+    }
+
+    @Test
+    void responsesAreCachedPerAcceptHeader() throws IOException {
+        assertEquals("application/x-bibtex\n", download("/negotiated", "Accept", "application/x-bibtex"));
+        assertEquals("text/html\n", download("/negotiated", "Accept", "text/html"));
+        assertEquals("application/x-bibtex\n", download("/negotiated", "Accept", "application/x-bibtex"));
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void responseIsOnlyUsedForSameValuesOfVaryingHeaders() throws IOException {
+        assertEquals("first\n", download("/vary", "X-Client", "first"));
+        assertEquals("second\n", download("/vary", "X-Client", "second"));
+        assertEquals("second\n", download("/vary", "X-Client", "second"));
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void responseIsTakenFromCacheUntilItExpires() throws IOException {
+        assertEquals("expires\n", download("/expires"));
+        assertEquals("expires\n", download("/expires"));
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void responseWithInvalidExpiresIsRevalidated() throws IOException {
+        download("/expired");
+        download("/expired");
+
+        assertEquals(2, requests.get());
+        assertEquals(1, conditionalRequests.get());
+    }
+
+    @Test
+    void responseMarkedPragmaNoCacheIsRevalidated() throws IOException {
+        download("/pragma");
+        download("/pragma");
+
+        assertEquals(2, requests.get());
+        assertEquals(1, conditionalRequests.get());
+    }
+
+    @Test
+    void responseMarkedPrivateIsNotCached() throws IOException {
+        download("/private");
+        download("/private");
+
+        assertEquals(2, requests.get());
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void responseWithoutFreshnessInformationIsRevalidated() throws IOException {
+        assertEquals("unspecified\n", download("/unspecified"));
+        assertEquals("unspecified\n", download("/unspecified"));
+
+        assertEquals(2, requests.get());
+        assertEquals(1, conditionalRequests.get());
+    }
+
+    @Test
+    void responseLastModifiedLongAgoIsTakenFromCache() throws IOException {
+        assertEquals("last-modified\n", download("/last-modified"));
+        assertEquals("last-modified\n", download("/last-modified"));
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void missingResourceThrowsException() {
+        assertThrows(IOException.class, () -> download("/missing"));
+    }
+
+    private String download(String path) throws IOException {
+        return new URLDownload(new URL("http://localhost:" + server.getAddress().getPort() + path)).asString();
+    }
+
+    private String download(String path, String header, String value) throws IOException {
+        URLDownload download = new URLDownload(new URL("http://localhost:" + server.getAddress().getPort() + path));
+        download.addHeader(header, value);
+        return download.asString();
+    }
+
+    private static String inHours(long hours) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusHours(hours));
+    }
+
+    /**
+     * @param cacheControl the Cache-Control header of the response, or null to leave it out
+     */
+    private void respond(HttpExchange exchange, String cacheControl, String body) throws IOException {
+        requests.incrementAndGet();
+        if (cacheControl != null) {
+            exchange.getResponseHeaders().add("Cache-Control", cacheControl);
+        }
+        exchange.getResponseHeaders().add("ETag", ETAG);
+        if (ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            conditionalRequests.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, content.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(content);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.jabref.logic.net;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.CookieHandler;
+import java.net.CookieManager;
+import java.net.CookiePolicy;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests the requests sent by {@link URLDownload} through the {@link SharedHttpClient} against a local HTTP server
+ */
+class SharedHttpClientTest {
+
+    private HttpServer server;
+    private CookieHandler defaultCookieHandler;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        defaultCookieHandler = CookieHandler.getDefault();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/login", exchange -> {
+            exchange.getResponseHeaders().add("Set-Cookie", "session=42; Path=/");
+            respond(exchange, "logged in");
+        });
+        server.createContext("/page", exchange ->
+                respond(exchange, Optional.ofNullable(exchange.getRequestHeaders().getFirst("Cookie")).orElse("no cookie")));
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        CookieHandler.setDefault(defaultCookieHandler);
+        server.stop(0);
+    }
+
+    @Test
+    void cookieIsSentBackOnFollowUpRequest() throws IOException {
+        // Set after the first client may have been created, like the fetchers do
+        CookieHandler.setDefault(new CookieManager(null, CookiePolicy.ACCEPT_ALL));
+
+        download("/login");
+
+        assertEquals("session=42\n", download("/page"));
+    }
+
+    @Test
+    void noCookieIsSentWithoutCookieHandler() throws IOException {
+        CookieHandler.setDefault(null);
+
+        download("/login");
+
+        assertEquals("no cookie\n", download("/page"));
+    }
+
+    private String download(String path) throws IOException {
+        return new URLDownload(new URL("http://localhost:" + server.getAddress().getPort() + path)).asString();
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        exchange.getResponseHeaders().add("Cache-Control", "no-store");
+        byte[] content = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, content.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(content);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package org.jabref.logic.pdf;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.jabref.model.pdf.FileAnnotation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class FileAnnotationStoreTest {
+
+    private Path pdf;
+    private Path storeFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        pdf = tempDir.resolve("thesis-example.pdf");
+        Files.copy(Path.of("src/test/resources/pdfs/thesis-example.pdf"), pdf);
+        storeFile = tempDir.resolve("cache").resolve("annotations.mv");
+    }
+
+    @Test
+    void storedAnnotationsEqualImportedOnes() {
+        List<FileAnnotation> imported = new PdfAnnotationImporter().importAnnotations(pdf);
+        try (FileAnnotationStore store = new FileAnnotationStore()) {
+            store.put(pdf, imported);
+
+            assertEquals(Optional.of(imported), store.get(pdf));
+        }
+    }
+
+    @Test
+    void closedStoreIgnoresAnnotations() {
+        List<FileAnnotation> imported = new PdfAnnotationImporter().importAnnotations(pdf);
+        FileAnnotationStore store = new FileAnnotationStore();
+        store.close();
+
+        store.put(pdf, imported);
+
+        assertEquals(Optional.empty(), store.get(pdf));
+        assertEquals(imported, store.getOrImport(pdf, new PdfAnnotationImporter()));
+    }
+
+    @Test
+    void fileIsImportedOnlyOnce() {
+        AnnotationImporter importer = spy(new PdfAnnotationImporter());
+        try (FileAnnotationStore store = new FileAnnotationStore()) {
+            List<FileAnnotation> first = store.getOrImport(pdf, importer);
+            List<FileAnnotation> second = store.getOrImport(pdf, importer);
+
+            assertEquals(2, first.size());
+            assertEquals(first, second);
+            verify(importer, times(1)).importAnnotations(pdf);
+        }
+    }
+
+    @Test
+    void changedFileIsImportedAgain() throws Exception {
+        AnnotationImporter importer = spy(new PdfAnnotationImporter());
+        try (FileAnnotationStore store = new FileAnnotationStore()) {
+            store.getOrImport(pdf, importer);
+            Files.setLastModifiedTime(pdf, FileTime.fromMillis(Files.getLastModifiedTime(pdf).toMillis() - 10_000));
+
+            assertTrue(store.get(pdf).isEmpty());
+            store.getOrImport(pdf, importer);
+            verify(importer, times(2)).importAnnotations(pdf);
+        }
+    }
+
+    @Test
+    void fileChangedDuringImportIsImportedAgain() throws Exception {
+        AnnotationImporter importer = spy(new PdfAnnotationImporter());
+        doAnswer(invocation -> {
+            Object annotations = invocation.callRealMethod();
+            Files.setLastModifiedTime(pdf, FileTime.fromMillis(Files.getLastModifiedTime(pdf).toMillis() - 10_000));
+            return annotations;
+        }).doCallRealMethod().when(importer).importAnnotations(pdf);
+        try (FileAnnotationStore store = new FileAnnotationStore()) {
+            store.getOrImport(pdf, importer);
+
+            assertTrue(store.get(pdf).isEmpty());
+            store.getOrImport(pdf, importer);
+            verify(importer, times(2)).importAnnotations(pdf);
+        }
+    }
+
+    @Test
+    void annotationsArePersistedAcrossSessions() {
+        List<FileAnnotation> imported;
+        try (FileAnnotationStore store = new FileAnnotationStore(storeFile)) {
+            imported = store.getOrImport(pdf, new PdfAnnotationImporter());
+        }
+
+        AnnotationImporter importer = mock(AnnotationImporter.class);
+        try (FileAnnotationStore store = new FileAnnotationStore(storeFile)) {
+            assertEquals(imported, store.getOrImport(pdf, importer));
+            verify(importer, times(0)).importAnnotations(pdf);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.jabref.logic.pdf;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.search.SearchQuery;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.search.SearchMatcher;
+import org.jabref.preferences.FilePreferences;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FullTextIndexTest {
+
+    private final BibDatabaseContext databaseContext = mock(BibDatabaseContext.class);
+    private final FilePreferences filePreferences = mock(FilePreferences.class);
+    private FullTextIndex index;
+    private Path pdf;
+    private BibEntry entryWithFile;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        pdf = tempDir.resolve("minimal.pdf");
+        Files.copy(Path.of("src/test/resources/pdfs/minimal.pdf"), pdf);
+
+        entryWithFile = new BibEntry().withField(StandardField.FILE, ":minimal.pdf:PDF");
+        when(databaseContext.getFileDirectories(any())).thenReturn(List.of(tempDir));
+        when(databaseContext.getEntries()).thenReturn(List.of(entryWithFile, new BibEntry()));
+
+        index = new FullTextIndex();
+        index.indexLinkedFiles(databaseContext, filePreferences);
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void searchFindsWordsOfFile() {
+        assertEquals(Set.of(pdf.toAbsolutePath().toString()), index.search(new SearchQuery("hello World", false, false, true)));
+    }
+
+    @Test
+    void searchRequiresAllWords() {
+        assertEquals(Set.of(), index.search(new SearchQuery("hello moon", false, false, true)));
+    }
+
+    @Test
+    void searchSupportsRegularExpressions() {
+        assertEquals(Set.of(pdf.toAbsolutePath().toString()), index.search(new SearchQuery("wor.*", false, true, true)));
+    }
+
+    @Test
+    void unchangedFileIsNotIndexedAgain() throws Exception {
+        assertFalse(index.addToIndex(pdf));
+
+        Files.setLastModifiedTime(pdf, FileTime.fromMillis(Files.getLastModifiedTime(pdf).toMillis() - 10_000));
+        assertTrue(index.addToIndex(pdf));
+    }
+
+    @Test
+    void closedIndexIgnoresFilesAndFindsNothing() throws Exception {
+        index.close();
+        Files.setLastModifiedTime(pdf, FileTime.fromMillis(Files.getLastModifiedTime(pdf).toMillis() - 10_000));
+
+        assertFalse(index.addToIndex(pdf));
+        index.indexLinkedFiles(databaseContext, filePreferences);
+        index.commit();
+        assertEquals(Set.of(), index.search(new SearchQuery("hello World", false, false, true)));
+    }
+
+    @Test
+    void matcherMatchesEntriesWithMatchingAttachment() {
+        SearchMatcher matcher = index.getMatcher(new SearchQuery("world", false, false, true), databaseContext, filePreferences);
+
+        assertTrue(matcher.isMatch(entryWithFile));
+        assertFalse(matcher.isMatch(new BibEntry().withField(StandardField.TITLE, "world")));
+    }
+
+    @Test
+    void queryWithAttachmentMatcherMatchesEntriesByAttachment() {
+        SearchQuery query = new SearchQuery("world", false, false, true);
+        SearchQuery fulltextQuery = query.withAttachmentMatcher(index.getMatcher(query, databaseContext, filePreferences));
+
+        assertFalse(query.isMatch(entryWithFile));
+        assertTrue(fulltextQuery.isMatch(entryWithFile));
+        assertTrue(fulltextQuery.getCandidates(new BibDatabaseContext().getDatabase().getSearchIndex()).isEmpty());
+    }
+}
@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.strings.MultiStringMatcher;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ProtectedTermsLoaderTest {
@@ -215,4 +218,18 @@ class ProtectedTermsLoaderTest {
                 tempDir.toFile().getAbsolutePath());
         assertEquals("My new list", newList.getDescription());
     }
+
+    @Test
+    void protectedTermsMatcherIsReusedWhileListsDoNotChange() {
+        assertSame(loader.getProtectedTermsMatcher(), loader.getProtectedTermsMatcher());
+    }
+
+    @Test
+    void protectedTermsMatcherIsRebuiltWhenListIsDisabled() {
+        MultiStringMatcher matcher = loader.getProtectedTermsMatcher();
+        loader.getProtectedTermsLists().forEach(list -> list.setEnabled(false));
+
+        assertNotSame(matcher, loader.getProtectedTermsMatcher());
+        assertEquals(List.of(), loader.getProtectedTermsMatcher().findAll("CDMA"));
+    }
 }
@@ -0,0 +1,95 @@
+package org.jabref.logic.search;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchExecutorTest {
+
+    private static final int NUMBER_OF_ENTRIES = 3 * ProgressiveSearch.BATCH_SIZE;
+
+    private BibDatabase database;
+    private SearchExecutor searchExecutor;
+
+    @BeforeEach
+    void setUp() {
+        database = new BibDatabase();
+        for (int i = 0; i < NUMBER_OF_ENTRIES; i++) {
+            BibEntry entry = new BibEntry().withField(StandardField.TITLE, (i % 2 == 0) ? "Distributed systems " + i : "Graph theory " + i);
+            database.insertEntry(entry);
+        }
+        searchExecutor = new SearchExecutor();
+    }
+
+    @Test
+    void publishesAllMatchesInBatches() throws Exception {
+        ConcurrentLinkedQueue<List<BibEntry>> batches = new ConcurrentLinkedQueue<>();
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        ProgressiveSearch search = searchExecutor.search(new SearchQuery("distributed", false, false), database,
+                batches::add, () -> finished.complete(null));
+        finished.get(10, TimeUnit.SECONDS);
+
+        assertTrue(search.isFinished());
+        assertTrue(batches.size() > 1);
+        assertEquals(NUMBER_OF_ENTRIES / 2, batches.stream().mapToInt(List::size).sum());
+        assertTrue(search.isMatch(database.getEntries().get(0)));
+        assertFalse(search.isMatch(database.getEntries().get(1)));
+    }
+
+    @Test
+    void evaluatesChangedEntryAgain() throws Exception {
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        ProgressiveSearch search = searchExecutor.search(new SearchQuery("distributed", false, false), database,
+                matches -> { }, () -> finished.complete(null));
+        finished.get(10, TimeUnit.SECONDS);
+
+        BibEntry entry = database.getEntries().get(1);
+        entry.setField(StandardField.TITLE, "Distributed graph algorithms");
+        assertTrue(search.isMatch(entry));
+    }
+
+    @Test
+    void evaluatesEntryAddedAfterStartOfSearch() throws Exception {
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        ProgressiveSearch search = searchExecutor.search(new SearchQuery("distributed", false, false), database,
+                matches -> { }, () -> finished.complete(null));
+        finished.get(10, TimeUnit.SECONDS);
+
+        BibEntry entry = new BibEntry().withField(StandardField.TITLE, "Distributed graph algorithms");
+        database.insertEntry(entry);
+        assertTrue(search.isMatch(entry));
+    }
+
+    @Test
+    void newSearchCancelsRunningSearch() {
+        ProgressiveSearch first = searchExecutor.search(new SearchQuery("distributed", false, false), database, matches -> { }, () -> { });
+        ProgressiveSearch second = searchExecutor.search(new SearchQuery("graph", false, false), database, matches -> { }, () -> { });
+
+        assertTrue(first.isCancelled());
+        assertFalse(second.isCancelled());
+    }
+
+    @Test
+    void invalidQueryFinishesWithoutMatches() throws Exception {
+        ConcurrentLinkedQueue<List<BibEntry>> batches = new ConcurrentLinkedQueue<>();
+        CompletableFuture<Void> finished = new CompletableFuture<>();
+        ProgressiveSearch search = searchExecutor.search(DatabaseSearcherTest.INVALID_SEARCH_QUERY, database,
+                batches::add, () -> finished.complete(null));
+        finished.get(10, TimeUnit.SECONDS);
+
+        assertTrue(batches.isEmpty());
+        assertFalse(search.isMatch(database.getEntries().get(0)));
+    }
+}
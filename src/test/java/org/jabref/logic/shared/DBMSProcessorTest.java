@@ -168,6 +168,38 @@ class DBMSProcessorTest {
         assertEquals(List.of(firstEntry, secondEntry), sharedEntriesByIdList);
     }
 
+    @Test
+    void testInsertEntriesInBatches() {
+        dbmsProcessor.setBatchSize(2);
+        List<BibEntry> expectedEntries = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expectedEntries.add(getBibEntryExample().withField(StandardField.NOTE, "note " + i));
+        }
+
+        dbmsProcessor.insertEntries(expectedEntries);
+
+        assertEquals(expectedEntries, dbmsProcessor.getSharedEntries());
+    }
+
+    @Test
+    void testUpdateEntryInBatches() throws Exception {
+        dbmsProcessor.setBatchSize(2);
+        BibEntry expectedEntry = getBibEntryExample();
+        dbmsProcessor.insertEntry(expectedEntry);
+
+        expectedEntry.setField(StandardField.AUTHOR, "Michael J and Hutchings");
+        expectedEntry.setField(StandardField.TITLE, "The nano processor");
+        expectedEntry.setField(StandardField.YEAR, "1995");
+        expectedEntry.setField(StandardField.NOTE, "first note");
+        expectedEntry.setField(StandardField.PAGES, "1--10");
+        expectedEntry.setField(new UnknownField("customField"), "custom value");
+        expectedEntry.clearField(StandardField.BOOKTITLE);
+        dbmsProcessor.updateEntry(expectedEntry);
+
+        Optional<BibEntry> actualEntry = dbmsProcessor.getSharedEntry(expectedEntry.getSharedBibEntryData().getSharedID());
+        assertEquals(Optional.of(expectedEntry), actualEntry);
+    }
+
     @Test
     void testUpdateNewerEntry() {
         BibEntry bibEntry = getBibEntryExample();
@@ -0,0 +1,89 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests the transaction handling of {@link DBMSProcessor} without a database system
+ */
+class DBMSProcessorTransactionTest {
+
+    private Connection connection;
+    private DatabaseConnectionProperties properties;
+    private BibEntry firstEntry;
+    private BibEntry secondEntry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = mock(Connection.class);
+        properties = mock(DatabaseConnectionProperties.class);
+        when(properties.getType()).thenReturn(DBMSType.MYSQL);
+        when(properties.getBatchSize()).thenReturn(DBMSProcessor.DEFAULT_BATCH_SIZE);
+
+        // The ENTRY table assigns the shared IDs 1 and 2
+        ResultSet generatedKeys = mock(ResultSet.class);
+        when(generatedKeys.next()).thenReturn(true, true, false);
+        when(generatedKeys.getInt(1)).thenReturn(1, 2);
+        PreparedStatement entryStatement = mock(PreparedStatement.class);
+        when(entryStatement.getGeneratedKeys()).thenReturn(generatedKeys);
+        when(connection.prepareStatement(anyString(), any(String[].class))).thenReturn(entryStatement);
+
+        firstEntry = new BibEntry().withField(StandardField.TITLE, "first");
+        secondEntry = new BibEntry().withField(StandardField.TITLE, "second");
+    }
+
+    private DBMSProcessor createProcessor() {
+        DatabaseConnection databaseConnection = mock(DatabaseConnection.class);
+        when(databaseConnection.getConnection()).thenReturn(connection);
+        when(databaseConnection.getProperties()).thenReturn(properties);
+        return DBMSProcessor.getProcessorInstance(databaseConnection);
+    }
+
+    @Test
+    void failedInsertResetsSharedIDs() throws SQLException {
+        // Writing the FIELD table fails
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("FIELD table not writable"));
+
+        assertFalse(createProcessor().insertEntries(List.of(firstEntry, secondEntry)));
+
+        verify(connection).rollback();
+        assertEquals(-1, firstEntry.getSharedBibEntryData().getSharedID());
+        assertEquals(-1, secondEntry.getSharedBibEntryData().getSharedID());
+    }
+
+    @Test
+    void successfulInsertKeepsSharedIDs() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+
+        assertTrue(createProcessor().insertEntries(List.of(firstEntry, secondEntry)));
+
+        verify(connection).commit();
+        assertEquals(1, firstEntry.getSharedBibEntryData().getSharedID());
+        assertEquals(2, secondEntry.getSharedBibEntryData().getSharedID());
+    }
+
+    @Test
+    void batchSizeIsTakenFromConnectionProperties() {
+        when(properties.getBatchSize()).thenReturn(42);
+
+        assertEquals(42, createProcessor().getBatchSize());
+    }
+}
@@ -0,0 +1,49 @@
+package org.jabref.logic.util.strings;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MultiStringMatcherTest {
+
+    @Test
+    void findsNothingInTextWithoutStrings() {
+        assertEquals(List.of(), new MultiStringMatcher(List.of("abc")).findAll("xyz"));
+    }
+
+    @Test
+    void findsNothingWithoutStrings() {
+        assertEquals(List.of(), new MultiStringMatcher(List.of()).findAll("xyz"));
+    }
+
+    @Test
+    void findsAllOccurrences() {
+        assertEquals(List.of(new MultiStringMatcher.Match(0, 2), new MultiStringMatcher.Match(3, 5)),
+                new MultiStringMatcher(List.of("ab")).findAll("ab ab"));
+    }
+
+    @Test
+    void findsOverlappingStrings() {
+        MultiStringMatcher matcher = new MultiStringMatcher(List.of("he", "she", "his", "hers"));
+
+        assertEquals(List.of(
+                new MultiStringMatcher.Match(1, 4),
+                new MultiStringMatcher.Match(2, 4),
+                new MultiStringMatcher.Match(2, 6)),
+                matcher.findAll("ushers"));
+    }
+
+    @Test
+    void matchesStringsLiterally() {
+        assertEquals(List.of(new MultiStringMatcher.Match(0, 4)),
+                new MultiStringMatcher(List.of("U.S.")).findAll("U.S. USA"));
+    }
+
+    @Test
+    void ignoresEmptyStrings() {
+        assertEquals(List.of(new MultiStringMatcher.Match(1, 2)),
+                new MultiStringMatcher(List.of("", "b")).findAll("abc"));
+    }
+}
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -302,6 +303,23 @@ class BibDatabaseTest {
         assertEquals(expectedEntries, actualEntry);
     }
 
+    @Test
+    void removeOtherInstanceWithSameIdRemovesIndexedEntry() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        BibEntry sameId = new BibEntry().withCitationKey("AAA");
+        sameId.setId(entry.getId());
+        TestEventListener tel = new TestEventListener();
+        database.registerListener(tel);
+
+        database.removeEntries(Collections.singletonList(sameId));
+
+        assertEquals(Collections.emptyList(), database.getEntries());
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("AAA"));
+        assertSame(entry, tel.getRemovedEntries().get(0));
+    }
+
     @Test
     void changingEntryPostsChangeEntryEvent() {
         BibEntry entry = new BibEntry();
@@ -345,6 +363,37 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+        assertEquals(Optional.of(entry), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void changingKeyOfRemovedEntryDoesNotAffectDatabase() {
+        BibEntry entry = new BibEntry();
+        entry.setCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsOrderOfDatabase() {
+        BibEntry first = new BibEntry().withCitationKey("BBB");
+        BibEntry second = new BibEntry().withCitationKey("AAA");
+        database.insertEntries(first, second);
+        first.setCitationKey("AAA");
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
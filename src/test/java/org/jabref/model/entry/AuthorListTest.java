@@ -3,6 +3,7 @@ package org.jabref.model.entry;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -1098,21 +1099,46 @@ public class AuthorListTest {
     }
 
     @Test
-    public void parseGarbageCollectAuthorListForUnreachableKey() throws Exception {
+    public void parseKeepsAuthorListForUnreachableKeyAfterGarbageCollection() throws Exception {
         final String uniqueAuthorName = "Fleur Hornbach";
         // Note that "new String()" is needed, uniqueAuthorName is a reference to a String literal
         AuthorList uniqueAuthor = AuthorList.parse(new String(uniqueAuthorName));
         System.gc();
-        assertNotSame(uniqueAuthor, AuthorList.parse(uniqueAuthorName));
+        assertSame(uniqueAuthor, AuthorList.parse(uniqueAuthorName));
     }
 
     @Test
-    public void parseGarbageCollectUnreachableInstitution() throws Exception {
+    public void parseKeepsInstitutionForUnreachableKeyAfterGarbageCollection() throws Exception {
         final String uniqueInstitutionName = "{Unique LLC}";
         // Note that "new String()" is needed, uniqueAuthorName is a reference to a String literal
         AuthorList uniqueInstitution = AuthorList.parse(new String(uniqueInstitutionName));
         System.gc();
-        assertNotSame(uniqueInstitution, AuthorList.parse(uniqueInstitutionName));
+        assertSame(uniqueInstitution, AuthorList.parse(uniqueInstitutionName));
+    }
+
+    @Test
+    public void parseSharesIdenticalAuthorsOfDifferentLists() {
+        AuthorList first = AuthorList.parse("Ottilie Quastenberg and Jan Smith");
+        AuthorList second = AuthorList.parse("Quastenberg, Ottilie and Kim Doe");
+        assertSame(first.getAuthor(0), second.getAuthor(0));
+    }
+
+    @Test
+    public void parseCountsCacheHits() {
+        final String uniqueAuthorName = "Wendelin Pfefferkorn";
+        long hits = AuthorList.getCacheStatistics().hitCount();
+        AuthorList.parse(uniqueAuthorName);
+        AuthorList.parse(uniqueAuthorName);
+        assertTrue(AuthorList.getCacheStatistics().hitCount() > hits);
+    }
+
+    @Test
+    public void parseFromParallelStreamsReturnsCachedList() {
+        final String uniqueAuthorName = "Philippa Grauschimmel";
+        AuthorList authorList = AuthorList.parse(uniqueAuthorName);
+        assertTrue(IntStream.range(0, 1000).parallel()
+                            .mapToObj(i -> AuthorList.parse(uniqueAuthorName))
+                            .allMatch(parsed -> parsed == authorList));
     }
 
     /**
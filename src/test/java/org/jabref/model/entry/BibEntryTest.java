@@ -5,10 +5,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jabref.model.FieldChange;
 import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.field.BibField;
 import org.jabref.model.entry.field.FieldPriority;
 import org.jabref.model.entry.field.InternalField;
@@ -656,4 +658,29 @@ class BibEntryTest {
         entry = new BibEntry().withField(StandardField.AUTHOR, "value");
         assertFalse(entry.hasChanged());
     }
+
+    @Test
+    void setFieldsReplacesAllFields() {
+        entry = new BibEntry().withField(StandardField.AUTHOR, "Old")
+                              .withField(StandardField.TITLE, "Title")
+                              .withField(StandardField.YEAR, "2000");
+
+        List<FieldChange> changes = entry.setFields(Map.of(StandardField.AUTHOR, "New", StandardField.TITLE, "Title", StandardField.JOURNAL, "Journal"),
+                EntriesEventSource.SHARED);
+
+        assertEquals(Map.of(StandardField.AUTHOR, "New", StandardField.TITLE, "Title", StandardField.JOURNAL, "Journal"), entry.getFieldMap());
+        assertEquals(Sets.newHashSet(
+                new FieldChange(entry, StandardField.YEAR, "2000", null),
+                new FieldChange(entry, StandardField.AUTHOR, "Old", "New"),
+                new FieldChange(entry, StandardField.JOURNAL, null, "Journal")), Sets.newHashSet(changes));
+        assertTrue(entry.hasChanged());
+    }
+
+    @Test
+    void setFieldsWithSameFieldsChangesNothing() {
+        entry = new BibEntry().withField(StandardField.AUTHOR, "Author");
+
+        assertEquals(Collections.emptyList(), entry.setFields(Map.of(StandardField.AUTHOR, "Author"), EntriesEventSource.SHARED));
+        assertFalse(entry.hasChanged());
+    }
 }
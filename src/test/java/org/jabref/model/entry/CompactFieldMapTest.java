@@ -0,0 +1,82 @@
+package org.jabref.model.entry;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.field.UnknownField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CompactFieldMapTest {
+
+    private CompactFieldMap fields;
+
+    @BeforeEach
+    void setUp() {
+        fields = new CompactFieldMap();
+        fields.put(StandardField.AUTHOR, "Author");
+        fields.put(StandardField.TITLE, "Title");
+        fields.put(new UnknownField("custom"), "Custom");
+    }
+
+    @Test
+    void putReplacesValue() {
+        assertEquals("Title", fields.put(StandardField.TITLE, "New title"));
+        assertEquals("New title", fields.get(StandardField.TITLE));
+        assertEquals(3, fields.size());
+    }
+
+    @Test
+    void getFindsEqualField() {
+        assertEquals("Custom", fields.get(new UnknownField("custom")));
+    }
+
+    @Test
+    void removeKeepsOtherFields() {
+        assertEquals("Author", fields.remove(StandardField.AUTHOR));
+        assertNull(fields.get(StandardField.AUTHOR));
+        assertEquals("Title", fields.get(StandardField.TITLE));
+        assertEquals(2, fields.size());
+    }
+
+    @Test
+    void equalsHashMapWithSameFields() {
+        Map<Field, String> expected = new HashMap<>(fields);
+
+        assertEquals(expected, fields);
+        assertEquals(expected.hashCode(), fields.hashCode());
+        assertEquals(expected, new CompactFieldMap(expected));
+    }
+
+    @Test
+    void iteratorIsNotAffectedByChanges() {
+        Iterator<Map.Entry<Field, String>> iterator = fields.entrySet().iterator();
+        fields.clear();
+
+        assertEquals(StandardField.AUTHOR, iterator.next().getKey());
+    }
+
+    @Test
+    void changesThroughIteratorAreWritten() {
+        Iterator<Map.Entry<Field, String>> iterator = fields.entrySet().iterator();
+        iterator.next().setValue("Other author");
+        iterator.next();
+        iterator.remove();
+
+        assertEquals("Other author", fields.get(StandardField.AUTHOR));
+        assertNull(fields.get(StandardField.TITLE));
+    }
+
+    @Test
+    void nullValueIsRejected() {
+        assertThrows(NullPointerException.class, () -> fields.put(StandardField.YEAR, null));
+    }
+}
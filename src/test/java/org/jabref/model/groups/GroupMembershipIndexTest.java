@@ -0,0 +1,167 @@
+package org.jabref.model.groups;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.MapChangeListener;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.metadata.MetaData;
+import org.jabref.model.search.SearchMatcher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+    private BibEntry physics;
+    private BibEntry chemistry;
+    private GroupTreeNode root;
+    private GroupTreeNode physicsNode;
+    private GroupTreeNode chemistryNode;
+
+    @BeforeEach
+    void setUp() {
+        physics = new BibEntry().withField(StandardField.KEYWORDS, "physics");
+        chemistry = new BibEntry().withField(StandardField.KEYWORDS, "chemistry");
+        database = new BibDatabase(List.of(physics, chemistry));
+        index = new GroupMembershipIndex(database);
+
+        root = new GroupTreeNode(new AllEntriesGroup("All"));
+        physicsNode = root.addSubgroup(getKeywordGroup("physics", GroupHierarchyType.INDEPENDENT));
+        chemistryNode = root.addSubgroup(getKeywordGroup("chemistry", GroupHierarchyType.INDEPENDENT));
+    }
+
+    private static AbstractGroup getKeywordGroup(String keyword, GroupHierarchyType context) {
+        return new WordKeywordGroup(keyword, context, StandardField.KEYWORDS, keyword, true, ',', false);
+    }
+
+    @Test
+    void countsMatchesOfGroup() {
+        assertEquals(2, index.getNumberOfMatches(root));
+        assertEquals(1, index.getNumberOfMatches(physicsNode));
+        assertEquals(List.of(physics), index.getMatches(physicsNode));
+    }
+
+    @Test
+    void changedEntryIsEvaluatedAgain() {
+        index.getNumberOfMatches(physicsNode);
+
+        chemistry.setField(StandardField.KEYWORDS, "chemistry, physics");
+
+        assertEquals(2, index.getNumberOfMatches(physicsNode));
+    }
+
+    @Test
+    void addedAndRemovedEntriesAreTracked() {
+        index.getNumberOfMatches(physicsNode);
+
+        BibEntry otherPhysics = new BibEntry().withField(StandardField.KEYWORDS, "physics");
+        database.insertEntry(otherPhysics);
+        assertEquals(2, index.getNumberOfMatches(physicsNode));
+
+        database.removeEntry(physics);
+        assertEquals(List.of(otherPhysics), index.getMatches(physicsNode));
+        assertEquals(2, index.getNumberOfIndexedEntries());
+    }
+
+    @Test
+    void includingGroupContainsMatchesOfChildren() {
+        GroupTreeNode science = root.addSubgroup(getKeywordGroup("science", GroupHierarchyType.INCLUDING));
+        science.addSubgroup(getKeywordGroup("physics", GroupHierarchyType.INDEPENDENT));
+
+        assertEquals(1, index.getNumberOfMatches(science));
+    }
+
+    @Test
+    void refiningGroupIsIntersectedWithParent() {
+        physics.setField(StandardField.KEYWORDS, "physics, theory");
+        chemistry.setField(StandardField.KEYWORDS, "chemistry, theory");
+        GroupTreeNode theory = physicsNode.addSubgroup(getKeywordGroup("theory", GroupHierarchyType.REFINING));
+
+        assertEquals(List.of(physics), index.getMatches(theory));
+    }
+
+    @Test
+    void matcherCombinesGroups() {
+        SearchMatcher union = index.createMatcher(List.of(physicsNode, chemistryNode), false);
+        SearchMatcher intersection = index.createMatcher(List.of(physicsNode, chemistryNode), true);
+
+        assertTrue(union.isMatch(physics));
+        assertTrue(union.isMatch(chemistry));
+        assertFalse(intersection.isMatch(physics));
+    }
+
+    @Test
+    void matcherSeesChangedEntry() {
+        SearchMatcher matcher = index.createMatcher(List.of(physicsNode), false);
+        assertFalse(matcher.isMatch(chemistry));
+
+        chemistry.setField(StandardField.KEYWORDS, "physics");
+
+        assertTrue(matcher.isMatch(chemistry));
+    }
+
+    @Test
+    void matcherSeesMembershipChangedByLaterFieldOfReplacedFields() {
+        SearchMatcher matcher = index.createMatcher(List.of(physicsNode), false);
+        assertFalse(matcher.isMatch(chemistry));
+
+        // Like the main table, query the index as soon as the fields change
+        List<Boolean> matchesSeenByObserver = new ArrayList<>();
+        chemistry.getFieldsObservable().addListener((MapChangeListener<Field, String>) change -> matchesSeenByObserver.add(matcher.isMatch(chemistry)));
+        Map<Field, String> newFields = new LinkedHashMap<>();
+        newFields.put(StandardField.TITLE, "Atoms");
+        newFields.put(StandardField.KEYWORDS, "physics");
+        chemistry.setFields(newFields, EntriesEventSource.SHARED);
+
+        assertEquals(List.of(false, true), matchesSeenByObserver);
+        assertTrue(matcher.isMatch(chemistry));
+        assertEquals(2, index.getNumberOfMatches(physicsNode));
+    }
+
+    @Test
+    void automaticSubgroupsCreatedAgainAreIndexedOnce() {
+        AutomaticGroup automaticGroup = new AutomaticKeywordGroup("Keywords", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, ',', '>');
+        root.addSubgroup(automaticGroup);
+
+        for (int i = 0; i < 3; i++) {
+            for (GroupTreeNode subgroup : automaticGroup.createSubgroups(database.getEntries())) {
+                assertEquals(1, index.getNumberOfMatches(subgroup));
+            }
+        }
+        assertEquals(2, index.getNumberOfIndexedGroups());
+
+        index.retainGroups(root);
+        assertEquals(2, index.getNumberOfIndexedGroups());
+    }
+
+    @Test
+    void matcherSeesEditedGroupOfTree() {
+        MetaData metaData = new MetaData();
+        new BibDatabaseContext(database, metaData);
+        metaData.setGroups(root);
+        SearchMatcher matcher = index.createMatcher(List.of(physicsNode), false);
+        assertTrue(matcher.isMatch(physics));
+
+        // Like editing the group in the group tree
+        physicsNode.setGroup(getKeywordGroup("chemistry", GroupHierarchyType.INDEPENDENT));
+        metaData.setGroups(root);
+
+        assertFalse(matcher.isMatch(physics));
+        assertTrue(matcher.isMatch(chemistry));
+    }
+}
@@ -0,0 +1,79 @@
+package org.jabref.model.search;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexTest {
+
+    private BibDatabase database;
+    private BibEntry shields;
+    private BibEntry smith;
+
+    @BeforeEach
+    void setUp() {
+        shields = new BibEntry()
+                .withField(StandardField.AUTHOR, "Kevin Shields")
+                .withField(StandardField.TITLE, "Marine finfish larviculture in Europe");
+        smith = new BibEntry()
+                .withField(StandardField.AUTHOR, "John Smith")
+                .withField(StandardField.TITLE, "Larviculture in {\\\"O}sterreich");
+        database = new BibDatabase(List.of(shields, smith));
+    }
+
+    @Test
+    void candidatesContainAllEntriesContainingTheTerms() {
+        assertEquals(Optional.of(Set.of(shields, smith)), database.getSearchIndex().getCandidates(List.of("LARVI")));
+    }
+
+    @Test
+    void candidatesRequireAllTerms() {
+        assertEquals(Optional.of(Set.of(smith)), database.getSearchIndex().getCandidates(List.of("larvi", "smi")));
+    }
+
+    @Test
+    void candidatesAreFoundInLatexFreeContent() {
+        assertEquals(Optional.of(Set.of(smith)), database.getSearchIndex().getCandidates(List.of("Öster")));
+    }
+
+    @Test
+    void shortTermsDoNotNarrowDownTheSearch() {
+        assertEquals(Optional.empty(), database.getSearchIndex().getCandidates(List.of("in")));
+    }
+
+    @Test
+    void unknownTermResultsInNoCandidates() {
+        assertEquals(Optional.of(Set.of()), database.getSearchIndex().getCandidates(List.of("unknown")));
+    }
+
+    @Test
+    void indexIsUpdatedOnFieldChange() {
+        SearchIndex index = database.getSearchIndex();
+        smith.setField(StandardField.AUTHOR, "Jane Doe");
+
+        assertFalse(index.isCandidate(smith, List.of("smith")));
+        assertTrue(index.isCandidate(smith, List.of("doe")));
+    }
+
+    @Test
+    void indexIsUpdatedOnInsertAndRemove() {
+        SearchIndex index = database.getSearchIndex();
+        BibEntry newEntry = new BibEntry().withField(StandardField.TITLE, "Marine biology");
+        database.insertEntry(newEntry);
+        database.removeEntry(shields);
+
+        assertEquals(Optional.of(Set.of(newEntry)), index.getCandidates(List.of("marine")));
+        assertEquals(2, index.getNumberOfIndexedEntries());
+    }
+}
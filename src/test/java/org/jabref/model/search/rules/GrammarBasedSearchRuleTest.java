@@ -1,11 +1,14 @@
 package org.jabref.model.search.rules;
 
+import java.util.List;
+
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -32,6 +35,62 @@ public class GrammarBasedSearchRuleTest {
         assertFalse(searchRule.applyRule(query, makeBibtexEntry()));
     }
 
+    @Test
+    void applyRuleMatchesFieldIgnoringCase() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, false);
+
+        String query = "TITLE = finfish and author == \"kevin shields\"";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
+    @Test
+    void applyRuleRespectsCaseSensitivity() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(true, false);
+
+        String query = "title = finfish and title = Marine";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+
+        query = "title = marine";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertFalse(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
+    @Test
+    void applyRuleMatchesMissingFieldForDoesNotContain() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, false);
+
+        String query = "journal != nature and not (year = 1999 or entrytype = article)";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
+    @Test
+    void applyRuleMatchesFieldPatternWithRegex() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, true);
+
+        String query = "au.*|ti.* = \"larvi.*in eu\" and anyfield == 20[0-9]{2}";
+        assertTrue(searchRule.validateSearchStrings(query));
+        assertTrue(searchRule.applyRule(query, makeBibtexEntry()));
+    }
+
+    @Test
+    void invalidRegexIsInvalidQuery() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, true);
+
+        assertFalse(searchRule.validateSearchStrings("title = \"larvi[\""));
+    }
+
+    @Test
+    void getIndexTermsReturnsTermsRequiredByAllAlternatives() {
+        GrammarBasedSearchRule searchRule = new GrammarBasedSearchRule(false, false);
+
+        assertEquals(List.of("shields", "marine"), searchRule.getIndexTerms("author = shields and (title = marine and not year = 2001)"));
+        assertEquals(List.of(), searchRule.getIndexTerms("author = shields or title = marine"));
+        assertEquals(List.of(), searchRule.getIndexTerms("author != shields and entrytype = incollection"));
+    }
+
     public BibEntry makeBibtexEntry() {
         return new BibEntry(StandardEntryType.InCollection)
                 .withCitationKey("shields01")
@@ -0,0 +1,42 @@
+package org.jabref.model.search.rules;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RegexBasedSearchRuleTest {
+
+    private static Stream<Arguments> indexTerms() {
+        return Stream.of(
+                Arguments.of(List.of("marine ", " lar"), "marine [A-Za-z]* larv?"),
+                Arguments.of(List.of("marine ", " larviculture"), "marine [A-Za-z]* larviculture"),
+                Arguments.of(List.of("smith", "2010"), "^smith.*2010$"),
+                Arguments.of(List.of("colo", "r"), "colou?r"),
+                Arguments.of(List.of("a.b"), "a\\.b"),
+                Arguments.of(List.of("ab"), "ab\\d+"),
+                Arguments.of(List.of("abc"), "abcd{2,3}"),
+                Arguments.of(List.of("x", "z"), "x(abc)?z"),
+                Arguments.of(List.of("xyz"), "[\\]a]xyz"),
+                Arguments.of(List.of("xyz"), "[[a]]xyz"),
+                Arguments.of(List.of("ab", "xyz"), "ab[a-z&&[^b]]xyz"),
+                Arguments.of(List.of("xyz"), "[]a]xyz"),
+                Arguments.of(List.of("xyz"), "[^]a]xyz"),
+                Arguments.of(Collections.emptyList(), "[\\]xyz"),
+                Arguments.of(Collections.emptyList(), "smith|jones"),
+                Arguments.of(Collections.emptyList(), "(?x)smi th"),
+                Arguments.of(Collections.emptyList(), "\\u00e9t\\u00e9")
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void indexTerms(List<String> expected, String query) {
+        assertEquals(expected, new RegexBasedSearchRule(false).getIndexTerms(query));
+    }
+}
@@ -0,0 +1,36 @@
+package org.jabref.model.strings;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class StringPoolTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void internReturnsPooledString(boolean weak) {
+        StringPool pool = new StringPool(weak);
+        String first = new String("Journal of Informetrics");
+        String second = new String("Journal of Informetrics");
+
+        assertSame(first, pool.intern(first));
+        assertSame(first, pool.intern(second));
+        assertEquals(2, pool.getNumberOfRequests());
+        assertEquals(1, pool.getNumberOfDeduplicatedValues());
+        assertEquals(0.5, pool.getDeduplicationRatio());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void longStringsAreNotPooled(boolean weak) {
+        StringPool pool = new StringPool(weak);
+        String value = "a".repeat(StringPool.MAX_LENGTH + 1);
+        pool.intern(value);
+
+        assertNotSame(value, pool.intern(new String(value)));
+        assertEquals(0, pool.getNumberOfRequests());
+    }
+}
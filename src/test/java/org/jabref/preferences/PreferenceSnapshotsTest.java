@@ -0,0 +1,62 @@
+package org.jabref.preferences;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PreferenceSnapshotsTest {
+
+    private final PreferenceSnapshots snapshots = new PreferenceSnapshots();
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @Test
+    void snapshotIsBuiltOnce() {
+        SearchPreferences first = snapshots.get(SearchPreferences.class, this::build);
+        SearchPreferences second = snapshots.get(SearchPreferences.class, this::build);
+
+        assertSame(first, second);
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    void snapshotIsBuiltAgainAfterInvalidation() {
+        SearchPreferences first = snapshots.get(SearchPreferences.class, this::build);
+        snapshots.invalidate();
+        SearchPreferences second = snapshots.get(SearchPreferences.class, this::build);
+
+        assertNotSame(first, second);
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void snapshotBuiltDuringInvalidationIsNotKept() {
+        snapshots.get(SearchPreferences.class, () -> {
+            // A preference changes while the snapshot is built from the old values
+            snapshots.invalidate();
+            return build();
+        });
+        snapshots.get(SearchPreferences.class, this::build);
+
+        assertEquals(2, builds.get());
+    }
+
+    @Test
+    void snapshotMayDependOnOtherSnapshots() {
+        FilePreferences filePreferences = snapshots.get(FilePreferences.class, () -> {
+            snapshots.get(SearchPreferences.class, this::build);
+            return new FilePreferences("user", "", false, "", "", false, false, false);
+        });
+
+        assertSame(filePreferences, snapshots.get(FilePreferences.class, () -> null));
+        assertEquals(1, builds.get());
+    }
+
+    private SearchPreferences build() {
+        builds.incrementAndGet();
+        return new SearchPreferences(null, false, false, false);
+    }
+}